@@ -0,0 +1,841 @@
+package com.comp2042.core;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.models.ClearRow;
+import com.comp2042.models.Score;
+import com.comp2042.models.ViewData;
+
+import java.awt.Point;
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+import static java.lang.foreign.ValueLayout.JAVA_SHORT;
+
+/**
+ * {@link Board} view of one slot of a {@link BoardArena}.
+ * The cursor holds no game state of its own: every read and write goes to the slot it is
+ * positioned on, and {@link #select(int)} moves it to another slot, so a simulation can step
+ * any number of off-heap boards with one cursor per thread. Moves, rotations, drops, merges
+ * and line clears allocate nothing; methods that return heap objects for the UI
+ * ({@link #getBoardMatrix()}, {@link #getViewData()}, {@link #snapshot()}) copy the slot.
+ * Pieces are dealt from a per-slot SplitMix64 sequence with the same weights and
+ * no-four-in-a-row rule as {@code RandomBrickGenerator}.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+public final class ArenaBoard implements Board {
+
+    private static final int HIDDEN_ROWS = 2;
+    private static final int PREVIEW_SIZE = 4;
+
+    private final BoardArena arena;
+    private final MemorySegment segment;
+    private final int rows;
+    private final int cols;
+    private final long fullRowMask;
+    private final long heightsOffset;
+    private final long colorsOffset;
+    private final Score score = new SlotScore();
+    private final DirtyRegion dirtyRegion;
+    private long base;
+    private long clearedRowMask;      // Rows removed by the last clearFullRows, from clearedRowOffset
+    private int clearedRowOffset;
+
+    ArenaBoard(BoardArena arena, int slot) {
+        this.arena = arena;
+        this.segment = arena.getSegment();
+        this.rows = arena.getRows();
+        this.cols = arena.getCols();
+        this.fullRowMask = cols == Long.SIZE ? -1L : (1L << cols) - 1;
+        this.heightsOffset = arena.getColumnHeightsOffset();
+        this.colorsOffset = arena.getColorsOffset();
+        this.dirtyRegion = new DirtyRegion(rows, cols);
+        select(slot);
+    }
+
+    /**
+     * Moves this cursor to another board of the arena.
+     *
+     * @param slot The slot index
+     * @return This cursor, for chaining
+     */
+    public ArenaBoard select(int slot) {
+        base = arena.slotOffset(slot);
+        return this;
+    }
+
+    /**
+     * Checks whether the game on this board has ended because a new or held piece could not spawn.
+     *
+     * @return true if the game is over
+     */
+    public boolean isGameOver() {
+        return (getByte(BoardArena.FLAGS) & BoardArena.GAME_OVER) != 0;
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(0, 1);
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(-1, 0);
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(1, 0);
+    }
+
+    private boolean tryMove(int dx, int dy) {
+        int x = getX() + dx;
+        int y = getY() + dy;
+        if (intersects(currentShape(), x, y)) {
+            return false;
+        }
+        setPosition(x, y);
+        return true;
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        return rotateBrick(WallKicks.COUNTER_CLOCKWISE);
+    }
+
+    @Override
+    public boolean rotateRightBrick() {
+        return rotateBrick(WallKicks.CLOCKWISE);
+    }
+
+    @Override
+    public boolean rotate180Brick() {
+        return rotateBrick(WallKicks.HALF_TURN);
+    }
+
+    private boolean rotateBrick(int turn) {
+        int type = getPieceType();
+        if (type < 0) {
+            return false;
+        }
+        int rotation = getByte(BoardArena.ROTATION);
+        int nextRotation = WallKicks.targetIndex(type, rotation, ShapeTable.rotationCount(type), turn);
+        PieceShape nextShape = ShapeTable.get(type, nextRotation);
+        int[] kicks = WallKicks.offsets(type, rotation, turn);
+        int x = getX();
+        int y = getY();
+        for (int i = 0; i < kicks.length; i += 2) {
+            if (!intersects(nextShape, x + kicks[i], y + kicks[i + 1])) {
+                setPosition(x + kicks[i], y + kicks[i + 1]);
+                putByte(BoardArena.ROTATION, nextRotation);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int hardDropBrick() {
+        int y = getY();
+        int landingY = getLandingRow();
+        setPosition(getX(), landingY);
+        return landingY - y;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        putByte(BoardArena.PIECE_TYPE, pollQueue() + 1);
+        putByte(BoardArena.ROTATION, 0);
+        setPosition(spawnX(), 0);
+        putByte(BoardArena.FLAGS, getByte(BoardArena.FLAGS) & ~BoardArena.HOLD_USED);
+        boolean blocked = intersects(currentShape(), spawnX(), 0);
+        if (blocked) {
+            putByte(BoardArena.FLAGS, getByte(BoardArena.FLAGS) | BoardArena.GAME_OVER);
+        }
+        return blocked;
+    }
+
+    @Override
+    public boolean holdBrick() {
+        int flags = getByte(BoardArena.FLAGS);
+        int type = getPieceType();
+        if ((flags & BoardArena.HOLD_USED) != 0 || type < 0) {
+            return false;
+        }
+        int held = getByte(BoardArena.HELD_TYPE) - 1;
+        putByte(BoardArena.PIECE_TYPE, (held < 0 ? pollQueue() : held) + 1);
+        putByte(BoardArena.HELD_TYPE, type + 1);
+        putByte(BoardArena.ROTATION, 0);
+        setPosition(spawnX(), 0);
+        putByte(BoardArena.FLAGS, flags | BoardArena.HOLD_USED);
+        if (isBrickBlocked()) {
+            putByte(BoardArena.FLAGS, getByte(BoardArena.FLAGS) | BoardArena.GAME_OVER);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isBrickBlocked() {
+        return getPieceType() >= 0 && intersects(currentShape(), getX(), getY());
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        int[][] matrix = new int[rows][cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                matrix[row][col] = getCell(row, col);
+            }
+        }
+        return matrix;
+    }
+
+    @Override
+    public int getHiddenRows() {
+        return Math.min(HIDDEN_ROWS, rows - 1);
+    }
+
+    @Override
+    public ViewData getViewData() {
+        List<int[][]> nextBricks = new ArrayList<>(PREVIEW_SIZE);
+        for (int i = 0; i < Math.min(PREVIEW_SIZE, getByte(BoardArena.QUEUE_SIZE)); i++) {
+            nextBricks.add(ShapeTable.get(peekQueue(i), 0).getMatrix());
+        }
+        int held = getByte(BoardArena.HELD_TYPE) - 1;
+        int[][] heldData = held < 0 ? null : ShapeTable.get(held, 0).getMatrix();
+        return new ViewData(currentShape().getMatrix(), getX(), getY(), ShapeTable.get(peekQueue(0), 0).getMatrix(),
+                nextBricks, new Point(getX(), getLandingRow()), heldData);
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        PieceShape shape = currentShape();
+        int x = getX();
+        int y = getY();
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            setCell(y + shape.getCellRow(i), x + shape.getCellCol(i), shape.getColor());
+        }
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        int removed = clearFullRows();
+        if (removed == 0) {
+            return ClearRow.NONE;
+        }
+        return new ClearRow(removed, clearedRowOffset, clearedRowMask, 50 * removed * removed);
+    }
+
+    /**
+     * Removes every full row, like {@link #clearRows()} but without building a result object.
+     *
+     * @return The number of rows removed
+     */
+    public int clearFullRows() {
+        clearedRowOffset = Math.max(0, rows - Long.SIZE);
+        clearedRowMask = 0L;
+        int writeRow = rows - 1;
+        int removed = 0;
+        for (int readRow = rows - 1; readRow >= 0; readRow--) {
+            long mask = getRowMask(readRow);
+            if (mask == fullRowMask) {
+                if (readRow >= clearedRowOffset) {
+                    clearedRowMask |= 1L << (readRow - clearedRowOffset);
+                }
+                removed++;
+                continue;
+            }
+            if (writeRow != readRow) {
+                putRowMask(writeRow, mask);
+                MemorySegment.copy(segment, colorOffset(readRow, 0), segment, colorOffset(writeRow, 0), cols);
+            }
+            writeRow--;
+        }
+        if (removed == 0) {
+            return 0;
+        }
+        for (int row = writeRow; row >= 0; row--) {
+            putRowMask(row, 0L);
+        }
+        segment.asSlice(colorOffset(0, 0), (long) (writeRow + 1) * cols).fill((byte) 0);
+        rebuildHeights();
+        rebuildOccupancyHash();
+        putInt(BoardArena.LINES, getTotalLinesCleared() + removed);
+        return removed;
+    }
+
+    /**
+     * Gets the score of the slot the cursor is on. Reads and writes through it go to that slot,
+     * so listeners hear the changes made through this cursor, to whichever slot it was on.
+     *
+     * @return The slot-backed score
+     */
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    /**
+     * Adds points to the score stored in the slot.
+     *
+     * @param points The number of points to add
+     */
+    public void addScore(int points) {
+        score.add(points);
+    }
+
+    @Override
+    public void newGame() {
+        long seed = getLong(BoardArena.RANDOM_STATE);
+        segment.asSlice(base, arena.getSlotSize()).fill((byte) 0);
+        seed(seed);
+        createNewBrick();
+    }
+
+    @Override
+    public int getTotalLinesCleared() {
+        return getInt(BoardArena.LINES);
+    }
+
+    @Override
+    public int clearColorBlocks(int colorValue) {
+        if (colorValue <= 0) {
+            return 0;
+        }
+        int removed = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (getCell(row, col) == colorValue) {
+                    setCell(row, col, 0);
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            collapseColumns();
+            addScore(removed * 50);
+        }
+        return removed;
+    }
+
+    @Override
+    public int convertAllBlocksToColor(int colorValue) {
+        if (colorValue <= 0) {
+            return 0;
+        }
+        int changed = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int color = getCell(row, col);
+                if (color != 0 && color != colorValue) {
+                    segment.set(JAVA_BYTE, colorOffset(row, col), (byte) colorValue);
+                    changed++;
+                }
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public int spawnGarbageBlocks(int numBlocks, int level) {
+        // Same rules as the heap board: grey shapes dropped onto the skyline below the spawn rows
+        if (numBlocks <= 0 || rows - getStackHeight() < GarbageGenerator.SAFE_STACK_ROW) {
+            return 0;
+        }
+        int spawned = 0;
+        for (int i = 0; i < numBlocks; i++) {
+            int type = SeededPieces.weightedType(nextInt(SeededPieces.TOTAL_WEIGHT));
+            PieceShape shape = GarbageGenerator.greyShape(type, nextInt(ShapeTable.rotationCount(type)));
+            int width = shape.getMaxCol() - shape.getMinCol() + 1;
+            int x = nextInt(Math.max(1, cols - width + 1)) - shape.getMinCol();
+            if (intersects(shape, x, 0)) {
+                continue;
+            }
+            int y = getLandingRow(shape, x, 0);
+            if (y + shape.getMinRow() < GarbageGenerator.SPAWN_ROWS) {
+                continue;
+            }
+            for (int cell = 0; cell < shape.getCellCount(); cell++) {
+                setCell(y + shape.getCellRow(cell), x + shape.getCellCol(cell), GarbageGenerator.GARBAGE_COLOR);
+            }
+            spawned += shape.getCellCount();
+        }
+        return spawned;
+    }
+
+    @Override
+    public int spawnCheeseRows(int count) {
+        int added = Math.min(count, rows - getStackHeight() - GarbageGenerator.SPAWN_ROWS);
+        for (int i = 0; i < added; i++) {
+            int hole = nextHole();
+            MemorySegment.copy(segment, base + BoardArena.ROW_MASKS + Long.BYTES, segment, base + BoardArena.ROW_MASKS,
+                    (long) (rows - 1) * Long.BYTES);
+            MemorySegment.copy(segment, colorOffset(1, 0), segment, colorOffset(0, 0), (long) (rows - 1) * cols);
+            putRowMask(rows - 1, fullRowMask & ~(1L << hole));
+            segment.asSlice(colorOffset(rows - 1, 0), cols).fill((byte) GarbageGenerator.GARBAGE_COLOR);
+            segment.set(JAVA_BYTE, colorOffset(rows - 1, hole), (byte) 0);
+        }
+        if (added <= 0) {
+            return 0;
+        }
+        rebuildHeights();
+        rebuildOccupancyHash();
+        return added;
+    }
+
+    @Override
+    public int getColumnHeight(int col) {
+        return segment.get(JAVA_SHORT, base + heightsOffset + (long) col * Short.BYTES);
+    }
+
+    @Override
+    public int getColumnHoles(int col) {
+        long bit = 1L << col;
+        int holes = 0;
+        for (int row = rows - getColumnHeight(col); row < rows; row++) {
+            if ((getRowMask(row) & bit) == 0) {
+                holes++;
+            }
+        }
+        return holes;
+    }
+
+    @Override
+    public int getStackHeight() {
+        int height = 0;
+        for (int col = 0; col < cols; col++) {
+            height = Math.max(height, getColumnHeight(col));
+        }
+        return height;
+    }
+
+    @Override
+    public int getTotalHoles() {
+        int holes = 0;
+        for (int col = 0; col < cols; col++) {
+            holes += getColumnHoles(col);
+        }
+        return holes;
+    }
+
+    /**
+     * Arena boards are not drawn incrementally, so the whole board is always reported as changed.
+     *
+     * @return A region covering every cell
+     */
+    @Override
+    public DirtyRegion getDirtyRegion() {
+        dirtyRegion.markAll();
+        return dirtyRegion;
+    }
+
+    /**
+     * Gets the Zobrist hash of the game state in O(1): the occupied cells are hashed
+     * incrementally in the slot header, the piece, hold and queue terms are a few reads.
+     *
+     * @return 64-bit state hash
+     */
+    @Override
+    public long getStateHash() {
+        // Same keys as TetrisBoard, so equal games hash equally on and off the heap
+        long hash = getLong(BoardArena.OCCUPANCY_HASH);
+        int type = getPieceType();
+        if (type >= 0) {
+            hash ^= ZobristKeys.piece(type, getByte(BoardArena.ROTATION), getX(), getY());
+        }
+        int held = getByte(BoardArena.HELD_TYPE) - 1;
+        if (held >= 0) {
+            hash ^= ZobristKeys.held(held);
+        }
+        if (getByte(BoardArena.QUEUE_SIZE) > 0) {
+            hash ^= ZobristKeys.next(peekQueue(0));
+        }
+        if ((getByte(BoardArena.FLAGS) & BoardArena.HOLD_USED) == 0) {
+            hash ^= ZobristKeys.CAN_HOLD;
+        }
+        return hash;
+    }
+
+    /**
+     * Copies the game state out of the slot. Slots are written in place by any cursor, so the
+     * rows cannot be shared copy-on-write as on a {@link TetrisBoard}; only the rows of the
+     * stack are read, the empty rows above it are left zero.
+     *
+     * @return The snapshot
+     */
+    @Override
+    public BoardSnapshot snapshot() {
+        long[] rowMasks = new long[rows];
+        int[][] colorRows = new int[rows][cols];
+        long[][] colorPlanes = new long[rows][BitBoard.MAX_COLOR + 1];
+        for (int row = rows - getStackHeight(); row < rows; row++) {
+            long mask = getRowMask(row);
+            rowMasks[row] = mask;
+            for (; mask != 0; mask &= mask - 1) {
+                int col = Long.numberOfTrailingZeros(mask);
+                int color = getCell(row, col);
+                colorRows[row][col] = color;
+                colorPlanes[row][color] |= 1L << col;
+            }
+        }
+        GridSnapshot grid = new GridSnapshot(rows, cols, 1);
+        grid.capture(rowMasks, colorRows, colorPlanes);
+        List<Brick> queued = new ArrayList<>();
+        for (int i = 0; i < getByte(BoardArena.QUEUE_SIZE); i++) {
+            queued.add(ShapeTable.brick(peekQueue(i)));
+        }
+        List<Brick> history = new ArrayList<>();
+        for (int i = 0; i < BoardArena.HISTORY_LENGTH; i++) {
+            int recent = getByte(BoardArena.HISTORY + i) - 1;
+            if (recent >= 0) {
+                history.add(ShapeTable.brick(recent));
+            }
+        }
+        int type = getPieceType();
+        int held = getByte(BoardArena.HELD_TYPE) - 1;
+        return new BoardSnapshot(grid, type < 0 ? null : ShapeTable.brick(type), getByte(BoardArena.ROTATION),
+                getX(), getY(), held < 0 ? null : ShapeTable.brick(held),
+                (getByte(BoardArena.FLAGS) & BoardArena.HOLD_USED) == 0, List.copyOf(queued), List.copyOf(history),
+                false, 0L, 0L, 0L, getInt(BoardArena.SCORE), getTotalLinesCleared());
+    }
+
+    /**
+     * Restores a snapshot taken from an arena board of the same size. Snapshots taken by
+     * {@link #snapshot()} can also be restored into a {@link TetrisBoard}. The random state of the slot is kept, so pieces dealt after the restored queue may differ.
+     *
+     * @param snapshot The snapshot to restore
+     * @throws IllegalArgumentException if the snapshot does not fit this board
+     */
+    @Override
+    public void restore(BoardSnapshot snapshot) {
+        GridSnapshot grid = snapshot.getGrid();
+        if (!grid.isCaptured() || grid.getRows() != rows || grid.getCols() != cols || grid.getWords() != 1
+                || snapshot.getQueuedBricks().size() > BoardArena.QUEUE_CAPACITY) {
+            throw new IllegalArgumentException("Snapshot does not fit this board");
+        }
+        int[][] colorRows = grid.getColorRows();
+        for (int row = 0; row < rows; row++) {
+            putRowMask(row, grid.getRowMasks()[row]);
+            for (int col = 0; col < cols; col++) {
+                segment.set(JAVA_BYTE, colorOffset(row, col), (byte) colorRows[row][col]);
+            }
+        }
+        rebuildHeights();
+        rebuildOccupancyHash();
+        putByte(BoardArena.PIECE_TYPE, snapshot.getBrick() == null ? 0 : snapshot.getBrick().getTypeId() + 1);
+        putByte(BoardArena.ROTATION, snapshot.getRotation());
+        setPosition(snapshot.getX(), snapshot.getY());
+        putByte(BoardArena.HELD_TYPE, snapshot.getHeldBrick() == null ? 0 : snapshot.getHeldBrick().getTypeId() + 1);
+        putByte(BoardArena.FLAGS, snapshot.canHold() ? 0 : BoardArena.HOLD_USED);
+        putByte(BoardArena.QUEUE_HEAD, 0);
+        putByte(BoardArena.QUEUE_SIZE, 0);
+        for (Brick brick : snapshot.getQueuedBricks()) {
+            pushQueue(brick.getTypeId());
+        }
+        List<Brick> recent = snapshot.getRecentBricks();
+        for (int i = 0; i < BoardArena.HISTORY_LENGTH; i++) {
+            int index = recent.size() - BoardArena.HISTORY_LENGTH + i;
+            putByte(BoardArena.HISTORY + i, index < 0 ? 0 : recent.get(index).getTypeId() + 1);
+        }
+        score.restore(snapshot.getScore());
+        putInt(BoardArena.LINES, snapshot.getTotalLinesCleared());
+    }
+
+    /**
+     * Seeds the piece sequence of the slot and fills the queue; the slot must otherwise be empty.
+     */
+    void seed(long seed) {
+        putLong(BoardArena.RANDOM_STATE, seed);
+        while (getByte(BoardArena.QUEUE_SIZE) < PREVIEW_SIZE + 1) {
+            pushQueue(generatePiece());
+        }
+    }
+
+    /**
+     * Checks a piece shape against the row masks; cells outside the board count as a hit.
+     */
+    private boolean intersects(PieceShape shape, int x, int y) {
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int bits = shape.getRowBits(r);
+            if (bits == 0) {
+                continue;
+            }
+            int row = y + r;
+            int low = x + Integer.numberOfTrailingZeros(bits);
+            int high = x + (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(bits));
+            if (row < 0 || row >= rows || low < 0 || high >= cols) {
+                return true;
+            }
+            long rowBits = x >= 0 ? (long) bits << x : (long) bits >>> -x;
+            if ((getRowMask(row) & rowBits) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int getLandingRow() {
+        return getLandingRow(currentShape(), getX(), getY());
+    }
+
+    private int getLandingRow(PieceShape shape, int x, int y) {
+        // Column heights and the piece's bottom profile give the answer unless the piece is under an overhang
+        int landingY = Integer.MAX_VALUE;
+        for (int c = shape.getMinCol(); c <= shape.getMaxCol(); c++) {
+            int bottom = shape.getColumnBottom(c);
+            if (bottom < 0) {
+                continue;
+            }
+            int top = rows - getColumnHeight(x + c);
+            if (y + bottom >= top) {
+                landingY = -1;
+                break;
+            }
+            landingY = Math.min(landingY, top - 1 - bottom);
+        }
+        if (landingY >= y && landingY != Integer.MAX_VALUE) {
+            return landingY;
+        }
+        landingY = y;
+        while (!intersects(shape, x, landingY + 1)) {
+            landingY++;
+        }
+        return landingY;
+    }
+
+    /**
+     * Drops every block straight down so no column has gaps.
+     */
+    private void collapseColumns() {
+        for (int col = 0; col < cols; col++) {
+            int writeRow = rows - 1;
+            for (int row = rows - 1; row >= 0; row--) {
+                int color = getCell(row, col);
+                if (color == 0) {
+                    continue;
+                }
+                if (row != writeRow) {
+                    setCell(row, col, 0);
+                    setCell(writeRow, col, color);
+                }
+                writeRow--;
+            }
+        }
+    }
+
+    private void setCell(int row, int col, int color) {
+        segment.set(JAVA_BYTE, colorOffset(row, col), (byte) color);
+        long bit = 1L << col;
+        long mask = getRowMask(row);
+        if (color != 0) {
+            if ((mask & bit) != 0) {
+                return; // Recolored, occupancy is unchanged
+            }
+            putRowMask(row, mask | bit);
+            toggleOccupancyHash(row, col);
+            if (rows - row > getColumnHeight(col)) {
+                putColumnHeight(col, rows - row);
+            }
+        } else if ((mask & bit) != 0) {
+            putRowMask(row, mask & ~bit);
+            toggleOccupancyHash(row, col);
+            if (rows - row == getColumnHeight(col)) {
+                // Removed the top block: the column surface drops to the next block below
+                int top = row + 1;
+                while (top < rows && (getRowMask(top) & bit) == 0) {
+                    top++;
+                }
+                putColumnHeight(col, rows - top);
+            }
+        }
+    }
+
+    private int getCell(int row, int col) {
+        return segment.get(JAVA_BYTE, colorOffset(row, col));
+    }
+
+    private void rebuildHeights() {
+        long covered = 0L;
+        for (int col = 0; col < cols; col++) {
+            putColumnHeight(col, 0);
+        }
+        for (int row = 0; row < rows && covered != fullRowMask; row++) {
+            long newTops = getRowMask(row) & ~covered;
+            covered |= newTops;
+            for (; newTops != 0; newTops &= newTops - 1) {
+                putColumnHeight(Long.numberOfTrailingZeros(newTops), rows - row);
+            }
+        }
+    }
+
+    private void toggleOccupancyHash(int row, int col) {
+        putLong(BoardArena.OCCUPANCY_HASH, getLong(BoardArena.OCCUPANCY_HASH) ^ ZobristKeys.cell(row, col));
+    }
+
+    /**
+     * Hashes the occupied cells again after rows moved, e.g. after a line clear.
+     */
+    private void rebuildOccupancyHash() {
+        long hash = 0L;
+        for (int row = rows - getStackHeight(); row < rows; row++) {
+            for (long mask = getRowMask(row); mask != 0; mask &= mask - 1) {
+                hash ^= ZobristKeys.cell(row, Long.numberOfTrailingZeros(mask));
+            }
+        }
+        putLong(BoardArena.OCCUPANCY_HASH, hash);
+    }
+
+    private int generatePiece() {
+        int type;
+        do {
+            type = SeededPieces.weightedType(nextInt(SeededPieces.TOTAL_WEIGHT));
+        } while (hasThreeInARow(type));
+        for (int i = 0; i < BoardArena.HISTORY_LENGTH - 1; i++) {
+            putByte(BoardArena.HISTORY + i, getByte(BoardArena.HISTORY + i + 1));
+        }
+        putByte(BoardArena.HISTORY + BoardArena.HISTORY_LENGTH - 1, type + 1);
+        return type;
+    }
+
+    private boolean hasThreeInARow(int type) {
+        for (int i = 0; i < BoardArena.HISTORY_LENGTH; i++) {
+            if (getByte(BoardArena.HISTORY + i) != type + 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Picks the hole column of the next cheese row with the same rule as the heap boards,
+     * so a hole never repeats the column of the one before it.
+     */
+    private int nextHole() {
+        if (cols == 1) {
+            return 0;
+        }
+        int hole = GarbageGenerator.holeAfter(getByte(BoardArena.LAST_HOLE) - 1, cols, advanceRandom());
+        putByte(BoardArena.LAST_HOLE, hole + 1);
+        return hole;
+    }
+
+    /**
+     * Draws a uniform value below the bound from the slot's SplitMix64 state.
+     */
+    private int nextInt(int bound) {
+        return SeededPieces.bounded(advanceRandom(), bound);
+    }
+
+    private long advanceRandom() {
+        long state = SeededPieces.advance(getLong(BoardArena.RANDOM_STATE));
+        putLong(BoardArena.RANDOM_STATE, state);
+        return state;
+    }
+
+    private int pollQueue() {
+        int head = getByte(BoardArena.QUEUE_HEAD);
+        int type = getByte(BoardArena.QUEUE + head);
+        putByte(BoardArena.QUEUE_HEAD, (head + 1) % BoardArena.QUEUE_CAPACITY);
+        putByte(BoardArena.QUEUE_SIZE, getByte(BoardArena.QUEUE_SIZE) - 1);
+        while (getByte(BoardArena.QUEUE_SIZE) < PREVIEW_SIZE + 1) {
+            pushQueue(generatePiece());
+        }
+        return type;
+    }
+
+    private int peekQueue(int index) {
+        return getByte(BoardArena.QUEUE + (getByte(BoardArena.QUEUE_HEAD) + index) % BoardArena.QUEUE_CAPACITY);
+    }
+
+    private void pushQueue(int type) {
+        int size = getByte(BoardArena.QUEUE_SIZE);
+        putByte(BoardArena.QUEUE + (getByte(BoardArena.QUEUE_HEAD) + size) % BoardArena.QUEUE_CAPACITY, type);
+        putByte(BoardArena.QUEUE_SIZE, size + 1);
+    }
+
+    private PieceShape currentShape() {
+        return ShapeTable.get(getPieceType(), getByte(BoardArena.ROTATION));
+    }
+
+    private int getPieceType() {
+        return getByte(BoardArena.PIECE_TYPE) - 1;
+    }
+
+    private int spawnX() {
+        return cols / 2 - 1;
+    }
+
+    private int getX() {
+        return segment.get(JAVA_SHORT, base + BoardArena.PIECE_X);
+    }
+
+    private int getY() {
+        return segment.get(JAVA_SHORT, base + BoardArena.PIECE_Y);
+    }
+
+    private void setPosition(int x, int y) {
+        segment.set(JAVA_SHORT, base + BoardArena.PIECE_X, (short) x);
+        segment.set(JAVA_SHORT, base + BoardArena.PIECE_Y, (short) y);
+    }
+
+    private long getRowMask(int row) {
+        return segment.get(JAVA_LONG, base + BoardArena.ROW_MASKS + (long) row * Long.BYTES);
+    }
+
+    private void putRowMask(int row, long mask) {
+        segment.set(JAVA_LONG, base + BoardArena.ROW_MASKS + (long) row * Long.BYTES, mask);
+    }
+
+    private void putColumnHeight(int col, int height) {
+        segment.set(JAVA_SHORT, base + heightsOffset + (long) col * Short.BYTES, (short) height);
+    }
+
+    private long colorOffset(int row, int col) {
+        return base + colorsOffset + (long) row * cols + col;
+    }
+
+    private int getByte(long offset) {
+        return segment.get(JAVA_BYTE, base + offset) & 0xFF;
+    }
+
+    private void putByte(long offset, int value) {
+        segment.set(JAVA_BYTE, base + offset, (byte) value);
+    }
+
+    private int getInt(long offset) {
+        return segment.get(JAVA_INT, base + offset);
+    }
+
+    private void putInt(long offset, int value) {
+        segment.set(JAVA_INT, base + offset, value);
+    }
+
+    private long getLong(long offset) {
+        return segment.get(JAVA_LONG, base + offset);
+    }
+
+    private void putLong(long offset, long value) {
+        segment.set(JAVA_LONG, base + offset, value);
+    }
+
+    // Score kept in the slot the cursor is on instead of on the heap
+    private final class SlotScore extends Score {
+
+        @Override
+        protected int load() {
+            return getInt(BoardArena.SCORE);
+        }
+
+        @Override
+        protected void store(int value) {
+            putInt(BoardArena.SCORE, value);
+        }
+    }
+}
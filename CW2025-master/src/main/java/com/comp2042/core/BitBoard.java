@@ -0,0 +1,1115 @@
+package com.comp2042.core;
+
+import com.comp2042.logic.bricks.PieceShape;
+
+import java.util.Arrays;
+
+/**
+ * Bitboard storage for the Tetris playfield.
+ * Occupancy is held as primitive bitmasks per row (bit {@code c % 64} of word {@code c / 64} set
+ * when column {@code c} is filled), so collision, merge and full-row checks are a few shift/AND
+ * operations per piece row instead of nested loops over the board. Standard boards fit a row
+ * into one word; wider boards use as many 64-bit words per row as they need. Block colors are kept in a separate
+ * color store which doubles as the {@code int[][]} compatibility view returned by
+ * {@link Board#getBoardMatrix()}.
+ * A skyline index (top occupied row and hole count per column) is maintained alongside the
+ * masks so stack height and holes can be read in O(1).
+ * Line clears move row references rather than cell contents, and the freed row arrays are
+ * recycled as the new empty rows at the top, so a clear costs in proportion to the rows removed.
+ * One occupancy bitplane per color value is kept for every row as well, so color-wide
+ * abilities (clear one color, recolor everything) work on whole row masks at a time.
+ * A Zobrist hash of the occupied cells is kept up to date with every change.
+ * Snapshots are copy-on-write: taking one is O(1), the row table is captured on the next
+ * change and each color row is copied only when it is first written afterwards.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+public final class BitBoard {
+
+    /** Maximum number of columns a board can have. */
+    public static final int MAX_COLUMNS = 1024;
+
+    /** Number of columns held by one row mask word. */
+    public static final int WORD_BITS = Long.SIZE;
+
+    /** Highest color value a cell can hold (block colors 1-7 plus garbage grey 8). */
+    public static final int MAX_COLOR = 8;
+
+    private final int rows;
+    private final int cols;
+    private final int words;          // Mask words per row
+    private final long lastWordMask;  // Full mask of the last word of a row
+    private final long[] rowMasks;    // Row r occupies words r * words to r * words + words - 1
+    private final int[][] colorMatrix;
+    private final long[][] colorPlanes; // Per row, the words of one column bitmask per color value (moves with the row)
+    private final long[][] freedPlanes;
+    private final long[] collapseLevels; // Scratch landing rows used by collapseColumns
+    private final int[][] freedRows;  // Scratch list of row arrays released by a clear
+    private final int[] freedEpochs;
+    private final int[] rowEpochs;    // Snapshot epoch each color row was created in (moves with the row)
+    private int epoch;                // Bumped by snapshots; rows from older epochs may be shared
+    private GridSnapshot pendingSnapshot; // Latest snapshot whose row table is not captured yet
+    private long clearedRowMask;      // Rows removed by the last clearFullRows, from clearedRowOffset
+    private int clearedRowOffset;
+    private final DirtyRegion dirtyRegion;
+    private long occupancyHash;       // XOR of the Zobrist keys of all occupied cells
+    private final int[] columnTops;   // Highest occupied row per column, or rows when empty
+    private final int[] columnHoles;  // Empty cells below the top of each column
+    private int highestRow;           // Highest occupied row on the board, or rows when empty
+    private int totalHoles;
+    private int pendingTop;           // Rows touched by piece merges since the last line clear
+    private int pendingBottom;
+    private boolean fullScanPending;  // Set when other edits may have completed any row
+
+    /**
+     * Constructs an empty bitboard with the specified dimensions.
+     *
+     * @param rows The number of rows in the board
+     * @param cols The number of columns in the board (1 to {@value #MAX_COLUMNS})
+     * @throws IllegalArgumentException if the dimensions are not supported
+     */
+    public BitBoard(int rows, int cols) {
+        if (rows <= 0 || cols <= 0 || cols > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Unsupported board size: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.words = (cols + WORD_BITS - 1) / WORD_BITS;
+        int lastBits = cols - (words - 1) * WORD_BITS;
+        this.lastWordMask = lastBits == WORD_BITS ? -1L : (1L << lastBits) - 1;
+        this.rowMasks = new long[rows * words];
+        this.colorMatrix = new int[rows][cols];
+        this.colorPlanes = new long[rows][(MAX_COLOR + 1) * words];
+        this.freedRows = new int[rows][];
+        this.freedPlanes = new long[rows][];
+        this.collapseLevels = new long[rows];
+        this.freedEpochs = new int[rows];
+        this.rowEpochs = new int[rows];
+        this.dirtyRegion = new DirtyRegion(rows, cols);
+        this.columnTops = new int[cols];
+        this.columnHoles = new int[cols];
+        resetPendingRows();
+        rebuildSkyline();
+    }
+
+    /**
+     * Gets the number of rows in the board.
+     *
+     * @return The row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns in the board.
+     *
+     * @return The column count
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Gets the number of 64-bit mask words used per row.
+     *
+     * @return The word count, 1 for boards up to {@value #WORD_BITS} columns
+     */
+    public int getRowWords() {
+        return words;
+    }
+
+    /**
+     * Gets the occupancy mask of a row on a board of at most {@value #WORD_BITS} columns.
+     *
+     * @param row The row index
+     * @return A bitmask where bit {@code c} is set when column {@code c} is occupied
+     */
+    public long getRowMask(int row) {
+        return rowMasks[row * words];
+    }
+
+    /**
+     * Gets one word of the occupancy mask of a row.
+     *
+     * @param row The row index
+     * @param word The word index (0 to {@link #getRowWords()} - 1)
+     * @return A bitmask where bit {@code b} is set when column {@code word * 64 + b} is occupied
+     */
+    public long getRowMask(int row, int word) {
+        return rowMasks[row * words + word];
+    }
+
+    /**
+     * Gets the mask value of a completely filled row on a board of at most {@value #WORD_BITS} columns.
+     *
+     * @return The full row mask for this board width
+     */
+    public long getFullRowMask() {
+        return fullMask(0);
+    }
+
+    /**
+     * Gets the value of one word of a completely filled row.
+     *
+     * @param word The word index (0 to {@link #getRowWords()} - 1)
+     * @return The full mask of that word
+     */
+    public long getFullRowMask(int word) {
+        return fullMask(word);
+    }
+
+    /**
+     * Gets the color store as a 2D matrix view.
+     * The returned matrix is live and is updated by every board operation. Row arrays are
+     * reordered by line clears, so callers should not hold on to individual rows.
+     *
+     * @return The color matrix where 0 is empty and other values represent block colors
+     */
+    public int[][] getMatrix() {
+        return colorMatrix;
+    }
+
+    /**
+     * Gets the cells changed since the region was last cleared.
+     * Every mutation marks the cells it touches; the view clears the region after repainting.
+     *
+     * @return The live dirty region of this board
+     */
+    public DirtyRegion getDirtyRegion() {
+        return dirtyRegion;
+    }
+
+    /**
+     * Gets the Zobrist hash of the occupied cells. Colors are not part of the hash.
+     *
+     * @return The occupancy hash, 0 for an empty board
+     */
+    public long getOccupancyHash() {
+        return occupancyHash;
+    }
+
+    /**
+     * Checks whether a cell is occupied.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @return true if the cell contains a block, false otherwise
+     */
+    public boolean isOccupied(int row, int col) {
+        return (rowMasks[row * words + col / WORD_BITS] & (1L << col)) != 0;
+    }
+
+    /**
+     * Gets the color value of a cell.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @return The color value, or 0 if the cell is empty
+     */
+    public int getCell(int row, int col) {
+        return colorMatrix[row][col];
+    }
+
+    /**
+     * Sets the color value of a cell, keeping the occupancy mask in sync.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @param color The color value to store (0 clears the cell)
+     */
+    public void setCell(int row, int col, int color) {
+        if (color < 0 || color > MAX_COLOR) {
+            throw new IllegalArgumentException("Unsupported color value: " + color);
+        }
+        int oldColor = colorMatrix[row][col];
+        if (oldColor == color) {
+            return;
+        }
+        boolean wasOccupied = oldColor != 0;
+        dirtyRegion.markCell(row, col);
+        prepareWrite();
+        writableRow(row)[col] = color;
+        int word = col / WORD_BITS;
+        long bit = 1L << col;
+        long[] planes = colorPlanes[row];
+        if (oldColor != 0) {
+            planes[oldColor * words + word] &= ~bit;
+        }
+        if (color != 0) {
+            planes[color * words + word] |= bit;
+        }
+        if (wasOccupied != (color != 0)) {
+            occupancyHash ^= ZobristKeys.cell(row, col);
+        }
+        if (color != 0) {
+            rowMasks[row * words + word] |= bit;
+            if (!wasOccupied) {
+                addToSkyline(row, col);
+                fullScanPending = true;
+            }
+        } else {
+            rowMasks[row * words + word] &= ~bit;
+            if (wasOccupied) {
+                removeFromSkyline(row, col);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a row is completely filled.
+     *
+     * @param row The row index
+     * @return true if every column of the row is occupied
+     */
+    public boolean isRowFull(int row) {
+        int base = row * words;
+        for (int w = 0; w < words; w++) {
+            if (rowMasks[base + w] != fullMask(w)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a row contains any blocks.
+     *
+     * @param row The row index
+     * @return true if the row is empty
+     */
+    public boolean isRowEmpty(int row) {
+        int base = row * words;
+        for (int w = 0; w < words; w++) {
+            if (rowMasks[base + w] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of blocks in a row.
+     *
+     * @param row The row index
+     * @return The fill count of the row
+     */
+    public int getRowFillCount(int row) {
+        int count = 0;
+        int base = row * words;
+        for (int w = 0; w < words; w++) {
+            count += Long.bitCount(rowMasks[base + w]);
+        }
+        return count;
+    }
+
+    /**
+     * Gets the columns of a row holding blocks of one color, on a board of at most
+     * {@value #WORD_BITS} columns.
+     *
+     * @param row The row index
+     * @param color The color value (1 to {@value #MAX_COLOR})
+     * @return The bitplane of that color in the row
+     */
+    public long getColorPlane(int row, int color) {
+        return colorPlanes[row][color * words];
+    }
+
+    /**
+     * Gets one word of the columns of a row holding blocks of one color.
+     *
+     * @param row The row index
+     * @param color The color value (1 to {@value #MAX_COLOR})
+     * @param word The word index (0 to {@link #getRowWords()} - 1)
+     * @return The bitplane word of that color in the row
+     */
+    public long getColorPlane(int row, int color, int word) {
+        return colorPlanes[row][color * words + word];
+    }
+
+    /**
+     * Finds the highest (smallest index) row that contains a block.
+     *
+     * @return The index of the highest occupied row, or the row count if the board is empty
+     */
+    public int getHighestOccupiedRow() {
+        return highestRow;
+    }
+
+    /**
+     * Gets the height of the stack in a column, measured from the floor to its highest block.
+     *
+     * @param col The column index
+     * @return The column height, or 0 if the column is empty
+     */
+    public int getColumnHeight(int col) {
+        return rows - columnTops[col];
+    }
+
+    /**
+     * Gets the highest occupied row of a column.
+     *
+     * @param col The column index
+     * @return The row index of the column's top block, or the row count if the column is empty
+     */
+    public int getColumnTop(int col) {
+        return columnTops[col];
+    }
+
+    /**
+     * Gets the number of holes in a column (empty cells below the column's highest block).
+     *
+     * @param col The column index
+     * @return The hole count of the column
+     */
+    public int getColumnHoles(int col) {
+        return columnHoles[col];
+    }
+
+    /**
+     * Gets the total number of holes on the board.
+     *
+     * @return The sum of all column hole counts
+     */
+    public int getTotalHoles() {
+        return totalHoles;
+    }
+
+    /**
+     * Checks if a brick shape intersects with the board at the given position.
+     * Cells outside the board on any side count as an intersection.
+     *
+     * @param shape The brick shape matrix, indexed as {@code shape[row][col]}
+     * @param x The X coordinate (column) of the shape's top-left corner
+     * @param y The Y coordinate (row) of the shape's top-left corner
+     * @return true if there is an intersection or out-of-bounds, false otherwise
+     */
+    public boolean intersects(int[][] shape, int x, int y) {
+        for (int r = 0; r < shape.length; r++) {
+            int bits = shapeRowBits(shape[r]);
+            if (bits != 0 && rowIntersects(bits, x, y + r)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a precomputed piece shape intersects with the board at the given position.
+     * Uses the shape's row bitmasks, so no shape cells are scanned.
+     *
+     * @param shape The piece shape
+     * @param x The X coordinate (column) of the shape's top-left corner
+     * @param y The Y coordinate (row) of the shape's top-left corner
+     * @return true if there is an intersection or out-of-bounds, false otherwise
+     */
+    public boolean intersects(PieceShape shape, int x, int y) {
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int bits = shape.getRowBits(r);
+            if (bits != 0 && rowIntersects(bits, x, y + r)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks a single piece row, given as a bitmask relative to {@code x}, against a board row.
+     *
+     * @param bits The piece row bits (bit {@code c} is column {@code x + c})
+     * @param x The X coordinate of bit 0
+     * @param row The board row to test
+     * @return true if the bits are out of bounds or overlap occupied cells
+     */
+    boolean rowIntersects(int bits, int x, int row) {
+        if (row < 0 || row >= rows) {
+            return true;
+        }
+        int low = x + Integer.numberOfTrailingZeros(bits);
+        int high = x + (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(bits));
+        if (low < 0 || high >= cols) {
+            return true;
+        }
+        if (x < 0) {
+            // The bits left of the board are known to be empty
+            bits >>>= -x;
+            x = 0;
+        }
+        int index = row * words + x / WORD_BITS;
+        int offset = x % WORD_BITS;
+        if ((rowMasks[index] & ((long) bits << offset)) != 0) {
+            return true;
+        }
+        // Bits past the end of the word continue in the next one
+        long spill = spillBits(bits, offset);
+        return spill != 0 && (rowMasks[index + 1] & spill) != 0;
+    }
+
+    /**
+     * Finds the row a shape comes to rest on when dropped straight down from the given position.
+     * When every column of the shape is above the stack, the answer comes straight from the
+     * skyline index and the shape's bottom profile; otherwise (the shape is tucked under an
+     * overhang) it falls back to stepping down one row at a time.
+     * The caller is expected to have checked that the shape fits at the starting position.
+     *
+     * @param shape The piece shape
+     * @param x The X coordinate (column) of the shape's top-left corner
+     * @param y The Y coordinate (row) of the shape's top-left corner
+     * @return The Y coordinate of the landing position
+     */
+    public int getDropRow(PieceShape shape, int x, int y) {
+        int landingY = Integer.MAX_VALUE;
+        for (int c = shape.getMinCol(); c <= shape.getMaxCol(); c++) {
+            int bottom = shape.getColumnBottom(c);
+            if (bottom < 0) {
+                continue;
+            }
+            int top = columnTops[x + c];
+            if (y + bottom >= top) {
+                // Part of the shape is already below the column surface
+                landingY = -1;
+                break;
+            }
+            landingY = Math.min(landingY, top - 1 - bottom);
+        }
+        if (landingY >= y && landingY != Integer.MAX_VALUE) {
+            return landingY;
+        }
+        landingY = y;
+        while (!intersects(shape, x, landingY + 1)) {
+            landingY++;
+        }
+        return landingY;
+    }
+
+    /**
+     * Merges a brick shape into the board at the specified position.
+     * The caller is expected to have checked that the shape fits.
+     *
+     * @param shape The brick shape matrix, indexed as {@code shape[row][col]}
+     * @param x The X coordinate (column) of the shape's top-left corner
+     * @param y The Y coordinate (row) of the shape's top-left corner
+     */
+    public void merge(int[][] shape, int x, int y) {
+        prepareWrite();
+        for (int r = 0; r < shape.length; r++) {
+            int[] shapeRow = shape[r];
+            int bits = shapeRowBits(shapeRow);
+            if (bits == 0) {
+                continue;
+            }
+            int row = y + r;
+            int[] target = writableRow(row);
+            long[] planes = colorPlanes[row];
+            for (int c = 0; c < shapeRow.length; c++) {
+                if (shapeRow[c] != 0) {
+                    int col = x + c;
+                    int word = col / WORD_BITS;
+                    long bit = 1L << col;
+                    rowMasks[row * words + word] |= bit;
+                    dirtyRegion.markCell(row, col);
+                    if (target[col] != 0) {
+                        planes[target[col] * words + word] &= ~bit;
+                    } else {
+                        occupancyHash ^= ZobristKeys.cell(row, col);
+                    }
+                    planes[shapeRow[c] * words + word] |= bit;
+                    target[col] = shapeRow[c];
+                }
+            }
+        }
+        fullScanPending = true;
+        rebuildSkyline();
+    }
+
+    /**
+     * Merges a precomputed piece shape into the board at the specified position.
+     * The caller is expected to have checked that the shape fits.
+     *
+     * @param shape The piece shape
+     * @param x The X coordinate (column) of the shape's top-left corner
+     * @param y The Y coordinate (row) of the shape's top-left corner
+     */
+    public void merge(PieceShape shape, int x, int y) {
+        prepareWrite();
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int bits = shape.getRowBits(r);
+            if (bits == 0) {
+                continue;
+            }
+            int col = x;
+            if (col < 0) {
+                bits >>>= -col;
+                col = 0;
+            }
+            int word = col / WORD_BITS;
+            int offset = col % WORD_BITS;
+            writableRow(y + r);
+            addRowBits(y + r, word, (long) bits << offset, shape.getColor());
+            addRowBits(y + r, word + 1, spillBits(bits, offset), shape.getColor());
+        }
+        int color = shape.getColor();
+        // Cells are ordered top to bottom, so walking backwards updates each column from below
+        for (int i = shape.getCellCount() - 1; i >= 0; i--) {
+            int row = y + shape.getCellRow(i);
+            int col = x + shape.getCellCol(i);
+            writableRow(row)[col] = color;
+            occupancyHash ^= ZobristKeys.cell(row, col);
+            addToSkyline(row, col);
+        }
+        pendingTop = Math.min(pendingTop, y + shape.getMinRow());
+        pendingBottom = Math.max(pendingBottom, y + shape.getMaxRow());
+    }
+
+    /**
+     * Removes every completely filled row and drops the rows above it down.
+     * After piece merges only the rows the pieces touched can have been completed, so
+     * just those rows are inspected and nothing is moved when none of them is full.
+     * The removed rows can be read afterwards with {@link #getClearedRowMask()}.
+     *
+     * @return The number of rows removed
+     */
+    public int clearFullRows() {
+        clearedRowMask = 0L;
+        int scanTop = fullScanPending ? 0 : pendingTop;
+        int scanBottom = fullScanPending ? rows - 1 : pendingBottom;
+        resetPendingRows();
+        int lowestFull = -1;
+        // One compare per 64 columns; the Vector API was measured to win nothing over this
+        for (int row = scanBottom; row >= scanTop; row--) {
+            if (isRowFull(row)) {
+                lowestFull = row;
+                break;
+            }
+        }
+        if (lowestFull < 0) {
+            return 0;
+        }
+        // Rows below the lowest full row stay where they are; rows above the stack are already empty
+        prepareWrite();
+        dirtyRegion.markRows(highestRow, lowestFull);
+        clearedRowOffset = Math.max(0, lowestFull - (Long.SIZE - 1));
+        int writeRow = lowestFull;
+        int removed = 0;
+        for (int readRow = lowestFull; readRow >= highestRow; readRow--) {
+            if (isRowFull(readRow)) {
+                if (readRow >= clearedRowOffset) {
+                    clearedRowMask |= 1L << (readRow - clearedRowOffset);
+                }
+                freedEpochs[removed] = rowEpochs[readRow];
+                freedPlanes[removed] = colorPlanes[readRow];
+                freedRows[removed++] = colorMatrix[readRow];
+                continue;
+            }
+            if (writeRow != readRow) {
+                System.arraycopy(rowMasks, readRow * words, rowMasks, writeRow * words, words);
+                colorMatrix[writeRow] = colorMatrix[readRow];
+                colorPlanes[writeRow] = colorPlanes[readRow];
+                rowEpochs[writeRow] = rowEpochs[readRow];
+            }
+            writeRow--;
+        }
+        recycleFreedRows(highestRow, removed);
+        rebuildSkyline();
+        rebuildOccupancyHash();
+        return removed;
+    }
+
+    /**
+     * Gets the rows removed by the last {@link #clearFullRows()}, as row indices from before
+     * the clear: bit {@code i} is set when row {@link #getClearedRowOffset()} {@code + i} was
+     * removed. The mask covers the 64 rows ending at the lowest removed row.
+     *
+     * @return The removed row mask, 0 if nothing was removed
+     */
+    public long getClearedRowMask() {
+        return clearedRowMask;
+    }
+
+    /**
+     * Gets the row of bit 0 of {@link #getClearedRowMask()}.
+     *
+     * @return The row offset of the removed row mask
+     */
+    public int getClearedRowOffset() {
+        return clearedRowOffset;
+    }
+
+    /**
+     * Removes the bottom rows of the board and drops everything above them down.
+     *
+     * @param count The number of bottom rows to remove
+     * @return The number of removed rows that contained at least one block
+     */
+    public int removeBottomRows(int count) {
+        prepareWrite();
+        int toRemove = Math.min(count, rows);
+        int firstRemoved = rows - toRemove;
+        int nonEmptyRemoved = 0;
+        for (int row = firstRemoved; row < rows; row++) {
+            if (!isRowEmpty(row)) {
+                nonEmptyRemoved++;
+            }
+            freedRows[row - firstRemoved] = colorMatrix[row];
+            freedPlanes[row - firstRemoved] = colorPlanes[row];
+            freedEpochs[row - firstRemoved] = rowEpochs[row];
+        }
+        // Only the rows holding blocks need to shift; everything above them is already empty
+        int top = Math.min(highestRow, firstRemoved);
+        dirtyRegion.markRows(top, rows - 1);
+        System.arraycopy(rowMasks, top * words, rowMasks, (top + toRemove) * words, (firstRemoved - top) * words);
+        System.arraycopy(colorMatrix, top, colorMatrix, top + toRemove, firstRemoved - top);
+        System.arraycopy(colorPlanes, top, colorPlanes, top + toRemove, firstRemoved - top);
+        System.arraycopy(rowEpochs, top, rowEpochs, top + toRemove, firstRemoved - top);
+        recycleFreedRows(top, toRemove);
+        fullScanPending = true;
+        rebuildSkyline();
+        rebuildOccupancyHash();
+        return nonEmptyRemoved;
+    }
+
+    /**
+     * Pushes a new bottom row in from the floor, moving every row up by one. The row is
+     * filled with one color except for a single hole. The top row is dropped, so the caller
+     * must make sure it is empty.
+     *
+     * @param holeCol The column left empty in the new row
+     * @param color The color of the new row's blocks
+     */
+    public void insertBottomRow(int holeCol, int color) {
+        prepareWrite();
+        dirtyRegion.markRows(Math.max(0, highestRow - 1), rows - 1);
+        freedRows[0] = colorMatrix[0];
+        freedPlanes[0] = colorPlanes[0];
+        freedEpochs[0] = rowEpochs[0];
+        System.arraycopy(rowMasks, words, rowMasks, 0, (rows - 1) * words);
+        System.arraycopy(colorMatrix, 1, colorMatrix, 0, rows - 1);
+        System.arraycopy(colorPlanes, 1, colorPlanes, 0, rows - 1);
+        System.arraycopy(rowEpochs, 1, rowEpochs, 0, rows - 1);
+        int bottom = rows - 1;
+        recycleFreedRows(bottom, 1);
+        int[] colors = colorMatrix[bottom];
+        Arrays.fill(colors, color);
+        colors[holeCol] = 0;
+        for (int w = 0; w < words; w++) {
+            long bits = fullMask(w);
+            if (holeCol / WORD_BITS == w) {
+                bits &= ~(1L << holeCol);
+            }
+            rowMasks[bottom * words + w] = bits;
+            colorPlanes[bottom][color * words + w] = bits;
+        }
+        fullScanPending = true;
+        rebuildSkyline();
+        rebuildOccupancyHash();
+    }
+
+    /**
+     * Clears every block of the given color by emptying that color's bitplane in each row.
+     *
+     * @param color The color value to remove
+     * @return The number of blocks removed
+     */
+    public int clearColor(int color) {
+        if (color <= 0 || color > MAX_COLOR) {
+            return 0;
+        }
+        int removed = 0;
+        for (int row = highestRow; row < rows; row++) {
+            for (int w = 0; w < words; w++) {
+                long plane = colorPlanes[row][color * words + w];
+                if (plane == 0) {
+                    continue;
+                }
+                prepareWrite();
+                int[] colors = writableRow(row);
+                colorPlanes[row][color * words + w] = 0L;
+                rowMasks[row * words + w] &= ~plane;
+                dirtyRegion.markColumns(row, w, plane);
+                removed += Long.bitCount(plane);
+                // The int[][] view still needs its cells cleared one by one
+                while (plane != 0) {
+                    int col = w * WORD_BITS + Long.numberOfTrailingZeros(plane);
+                    plane &= plane - 1;
+                    colors[col] = 0;
+                    occupancyHash ^= ZobristKeys.cell(row, col);
+                }
+            }
+        }
+        if (removed > 0) {
+            rebuildSkyline();
+        }
+        return removed;
+    }
+
+    /**
+     * Converts every block on the board to the given color by merging all bitplanes of a
+     * row into that color's plane.
+     *
+     * @param color The color value to apply
+     * @return The number of blocks whose color changed
+     */
+    public int recolor(int color) {
+        if (color <= 0 || color > MAX_COLOR) {
+            throw new IllegalArgumentException("Unsupported color value: " + color);
+        }
+        int changed = 0;
+        for (int row = highestRow; row < rows; row++) {
+            for (int w = 0; w < words; w++) {
+                long mask = rowMasks[row * words + w];
+                long other = mask & ~colorPlanes[row][color * words + w];
+                if (other == 0) {
+                    continue;
+                }
+                prepareWrite();
+                int[] colors = writableRow(row);
+                long[] planes = colorPlanes[row];
+                for (int c = 1; c <= MAX_COLOR; c++) {
+                    planes[c * words + w] = 0L;
+                }
+                planes[color * words + w] = mask;
+                dirtyRegion.markColumns(row, w, other);
+                changed += Long.bitCount(other);
+                while (other != 0) {
+                    colors[w * WORD_BITS + Long.numberOfTrailingZeros(other)] = color;
+                    other &= other - 1;
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Applies gravity so every column collapses downward with no gaps.
+     * All columns are compacted together: rows are read bottom-up and {@code landingLevels[r]}
+     * holds the columns whose next free cell is row {@code r}, so each row's blocks are
+     * dropped with a few mask operations per distinct landing row. Columns never interact,
+     * so wide boards run the same pass once per mask word.
+     */
+    public void collapseColumns() {
+        if (highestRow >= rows) {
+            return;
+        }
+        long[] landingLevels = collapseLevels;
+        for (int w = 0; w < words; w++) {
+            Arrays.fill(landingLevels, 0L);
+            landingLevels[rows - 1] = fullMask(w);
+            for (int row = rows - 1; row >= highestRow; row--) {
+                long blocks = rowMasks[row * words + w];
+                // Every column's landing row is at or below the row being read
+                for (int level = row; blocks != 0 && level < rows; level++) {
+                    long landing = blocks & landingLevels[level];
+                    if (landing == 0) {
+                        continue;
+                    }
+                    blocks &= ~landing;
+                    landingLevels[level] &= ~landing;
+                    if (level > 0) {
+                        landingLevels[level - 1] |= landing;
+                    }
+                    if (level != row) {
+                        moveCells(row, level, w, landing);
+                    }
+                }
+            }
+        }
+        fullScanPending = true;
+        rebuildSkyline();
+    }
+
+    /**
+     * Empties the whole board.
+     */
+    public void clear() {
+        if (highestRow < rows) {
+            dirtyRegion.markRows(highestRow, rows - 1);
+        }
+        prepareWrite();
+        for (int row = highestRow; row < rows; row++) {
+            if (rowEpochs[row] == epoch) {
+                Arrays.fill(colorMatrix[row], 0);
+                Arrays.fill(colorPlanes[row], 0L);
+            } else {
+                colorMatrix[row] = new int[cols];
+                colorPlanes[row] = new long[(MAX_COLOR + 1) * words];
+                rowEpochs[row] = epoch;
+            }
+        }
+        Arrays.fill(rowMasks, 0L);
+        occupancyHash = 0L;
+        resetPendingRows();
+        rebuildSkyline();
+    }
+
+    /**
+     * Takes a copy-on-write snapshot of the board contents in O(1).
+     * Snapshots taken with no change in between are the same object.
+     *
+     * @return The snapshot
+     */
+    GridSnapshot snapshot() {
+        if (pendingSnapshot == null) {
+            pendingSnapshot = new GridSnapshot(rows, cols, words);
+            epoch++; // Every current row is now shared with the snapshot
+        }
+        return pendingSnapshot;
+    }
+
+    /**
+     * Restores the board contents from a snapshot. Rows are shared with the snapshot
+     * until they are next written, so the snapshot stays valid and can be restored again.
+     *
+     * @param snapshot A snapshot taken from this board or one of the same dimensions
+     * @throws IllegalArgumentException if the snapshot was never captured or its rows, columns
+     *         or words per row differ from this board's
+     */
+    void restore(GridSnapshot snapshot) {
+        if (snapshot == pendingSnapshot) {
+            return; // Nothing changed since it was taken
+        }
+        if (!snapshot.isCaptured()) {
+            throw new IllegalArgumentException("Snapshot was not taken from this board");
+        }
+        // The row tables are copied with this board's stride, so any other shape would corrupt them
+        if (snapshot.getRows() != rows || snapshot.getCols() != cols || snapshot.getWords() != words) {
+            throw new IllegalArgumentException("Snapshot of a " + snapshot.getRows() + "x" + snapshot.getCols()
+                    + " board does not fit this " + rows + "x" + cols + " board");
+        }
+        prepareWrite();
+        dirtyRegion.markAll();
+        System.arraycopy(snapshot.getRowMasks(), 0, rowMasks, 0, rows * words);
+        System.arraycopy(snapshot.getColorRows(), 0, colorMatrix, 0, rows);
+        System.arraycopy(snapshot.getColorPlanes(), 0, colorPlanes, 0, rows);
+        epoch++;
+        resetPendingRows();
+        fullScanPending = true;
+        rebuildSkyline();
+        rebuildOccupancyHash();
+    }
+
+    /**
+     * Builds the occupancy bits of one shape row (bit {@code c} set when {@code shapeRow[c] != 0}).
+     *
+     * @param shapeRow The shape row
+     * @return The row bitmask
+     */
+    static int shapeRowBits(int[] shapeRow) {
+        int bits = 0;
+        for (int c = 0; c < shapeRow.length; c++) {
+            if (shapeRow[c] != 0) {
+                bits |= 1 << c;
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Updates the skyline index for a block added at an empty cell.
+     */
+    private void addToSkyline(int row, int col) {
+        int top = columnTops[col];
+        if (row > top) {
+            // Filled a hole below the column surface
+            columnHoles[col]--;
+            totalHoles--;
+        } else {
+            // New top: every empty cell between it and the old top becomes a hole
+            int newHoles = top - row - 1;
+            columnHoles[col] += newHoles;
+            totalHoles += newHoles;
+            columnTops[col] = row;
+            highestRow = Math.min(highestRow, row);
+        }
+    }
+
+    /**
+     * Updates the skyline index for a block removed from a cell without moving other blocks.
+     */
+    private void removeFromSkyline(int row, int col) {
+        int top = columnTops[col];
+        if (row > top) {
+            // Opened a new hole below the column surface
+            columnHoles[col]++;
+            totalHoles++;
+            return;
+        }
+        // Removed the top block: the column surface drops to the next block below
+        int word = col / WORD_BITS;
+        long bit = 1L << col;
+        int newTop = row + 1;
+        while (newTop < rows && (rowMasks[newTop * words + word] & bit) == 0) {
+            newTop++;
+        }
+        int exposed = newTop - row - 1;
+        columnHoles[col] -= exposed;
+        totalHoles -= exposed;
+        columnTops[col] = newTop;
+        if (row == highestRow) {
+            highestRow = rows;
+            for (int c = 0; c < cols; c++) {
+                highestRow = Math.min(highestRow, columnTops[c]);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the skyline index from the row masks after an operation that moves many blocks.
+     * Sweeps the rows once from the top, tracking which columns already have a block above.
+     */
+    private void rebuildSkyline() {
+        Arrays.fill(columnTops, rows);
+        Arrays.fill(columnHoles, 0);
+        highestRow = rows;
+        totalHoles = 0;
+        for (int w = 0; w < words; w++) {
+            int firstCol = w * WORD_BITS;
+            long covered = 0L;
+            for (int row = 0; row < rows; row++) {
+                long mask = rowMasks[row * words + w];
+                long newTops = mask & ~covered;
+                if (newTops != 0 && row < highestRow) {
+                    highestRow = row;
+                }
+                while (newTops != 0) {
+                    columnTops[firstCol + Long.numberOfTrailingZeros(newTops)] = row;
+                    newTops &= newTops - 1;
+                }
+                covered |= mask;
+                long holes = covered & ~mask;
+                totalHoles += Long.bitCount(holes);
+                while (holes != 0) {
+                    columnHoles[firstCol + Long.numberOfTrailingZeros(holes)]++;
+                    holes &= holes - 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Recomputes the occupancy hash after blocks changed rows, visiting only occupied cells.
+     */
+    private void rebuildOccupancyHash() {
+        long hash = 0L;
+        for (int row = highestRow; row < rows; row++) {
+            for (int w = 0; w < words; w++) {
+                long mask = rowMasks[row * words + w];
+                while (mask != 0) {
+                    hash ^= ZobristKeys.cell(row, w * WORD_BITS + Long.numberOfTrailingZeros(mask));
+                    mask &= mask - 1;
+                }
+            }
+        }
+        occupancyHash = hash;
+    }
+
+    private long fullMask(int word) {
+        return word == words - 1 ? lastWordMask : -1L;
+    }
+
+    /**
+     * Gets the piece row bits shifted past the end of a word by {@code offset}, as they
+     * appear at the start of the next word.
+     */
+    private static long spillBits(int bits, int offset) {
+        return offset == 0 ? 0L : Integer.toUnsignedLong(bits) >>> (WORD_BITS - offset);
+    }
+
+    /**
+     * Sets merged piece bits in one word of a row, together with the color plane and dirty region.
+     */
+    private void addRowBits(int row, int word, long bits, int color) {
+        if (bits == 0) {
+            return;
+        }
+        rowMasks[row * words + word] |= bits;
+        colorPlanes[row][color * words + word] |= bits;
+        dirtyRegion.markColumns(row, word, bits);
+    }
+
+    /**
+     * Captures the row table of a pending snapshot before the board changes.
+     */
+    private void prepareWrite() {
+        if (pendingSnapshot != null) {
+            pendingSnapshot.capture(rowMasks.clone(), colorMatrix.clone(), colorPlanes.clone());
+            pendingSnapshot = null;
+        }
+    }
+
+    /**
+     * Gets a color row that is safe to write, copying it first if a snapshot may share it.
+     */
+    private int[] writableRow(int row) {
+        if (rowEpochs[row] != epoch) {
+            colorMatrix[row] = colorMatrix[row].clone();
+            colorPlanes[row] = colorPlanes[row].clone();
+            rowEpochs[row] = epoch;
+        }
+        return colorMatrix[row];
+    }
+
+    /**
+     * Moves blocks between two rows during a collapse; the target cells must be empty.
+     */
+    private void moveCells(int fromRow, int toRow, int word, long columns) {
+        prepareWrite();
+        int[] from = writableRow(fromRow);
+        int[] to = writableRow(toRow);
+        long[] fromPlanes = colorPlanes[fromRow];
+        long[] toPlanes = colorPlanes[toRow];
+        for (int color = 1; color <= MAX_COLOR; color++) {
+            int index = color * words + word;
+            long moving = fromPlanes[index] & columns;
+            if (moving != 0) {
+                fromPlanes[index] &= ~moving;
+                toPlanes[index] |= moving;
+            }
+        }
+        rowMasks[fromRow * words + word] &= ~columns;
+        rowMasks[toRow * words + word] |= columns;
+        dirtyRegion.markColumns(fromRow, word, columns);
+        dirtyRegion.markColumns(toRow, word, columns);
+        long remaining = columns;
+        while (remaining != 0) {
+            int col = word * WORD_BITS + Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            to[col] = from[col];
+            from[col] = 0;
+            occupancyHash ^= ZobristKeys.cell(fromRow, col) ^ ZobristKeys.cell(toRow, col);
+        }
+    }
+
+    private void resetPendingRows() {
+        pendingTop = rows;
+        pendingBottom = -1;
+        fullScanPending = false;
+    }
+
+    /**
+     * Puts the row arrays released by a clear back into the board as empty rows.
+     *
+     * @param firstRow The topmost row to receive a recycled row
+     * @param count The number of freed rows waiting in {@code freedRows}
+     */
+    private void recycleFreedRows(int firstRow, int count) {
+        for (int i = 0; i < count; i++) {
+            int[] row = freedRows[i];
+            long[] planes = freedPlanes[i];
+            if (freedEpochs[i] == epoch) {
+                Arrays.fill(row, 0);
+                Arrays.fill(planes, 0L);
+            } else {
+                // Still referenced by a snapshot, so it cannot be reused
+                row = new int[cols];
+                planes = new long[(MAX_COLOR + 1) * words];
+            }
+            colorMatrix[firstRow + i] = row;
+            colorPlanes[firstRow + i] = planes;
+            freedPlanes[i] = null;
+            rowEpochs[firstRow + i] = epoch;
+            Arrays.fill(rowMasks, (firstRow + i) * words, (firstRow + i + 1) * words, 0L);
+            freedRows[i] = null;
+        }
+    }
+}
@@ -41,6 +41,20 @@ public interface Board {
      */
     boolean rotateLeftBrick();
 
+    /**
+     * Rotates the current piece clockwise (right rotation).
+     * 
+     * @return true if the rotation was successful, false if blocked
+     */
+    boolean rotateRightBrick();
+
+    /**
+     * Rotates the current piece by 180 degrees.
+     * 
+     * @return true if the rotation was successful, false if blocked
+     */
+    boolean rotate180Brick();
+
     /**
      * Instantly drops the current piece to the bottom of the board.
      * 
@@ -55,13 +69,29 @@ public interface Board {
      */
     boolean createNewBrick();
 
+    /**
+     * Checks whether the current piece overlaps the stack, e.g. after a hold swapped in a piece
+     * that has no room to spawn.
+     * 
+     * @return true if the current piece cannot be placed (game over), false otherwise
+     */
+    boolean isBrickBlocked();
+
     /**
      * Gets the current game board matrix.
+     * This is a read-only compatibility view of the board; modify the board through its methods instead.
      * 
      * @return A 2D array representing the board state where 0 is empty and other values represent block colors
      */
     int[][] getBoardMatrix();
 
+    /**
+     * Gets the number of rows at the top of the board that are used for spawning and are not drawn.
+     * 
+     * @return The hidden row count
+     */
+    int getHiddenRows();
+
     /**
      * Gets the current view data including the active piece, next piece, and board state.
      * 
@@ -129,4 +159,67 @@ public interface Board {
      * @return number of blocks actually spawned
      */
     int spawnGarbageBlocks(int numBlocks, int level);
+    
+    /**
+     * Push "cheese" garbage rows in from the bottom of the board: full grey rows with a single
+     * hole each, moving the stack up. Rows that would push the stack into the spawn area are skipped.
+     * @param count number of rows to add
+     * @return number of rows actually added
+     */
+    int spawnCheeseRows(int count);
+    
+    /**
+     * Get the stack height of a column, read from the board's skyline index.
+     * @param col column index
+     * @return number of rows from the floor up to the column's highest block (0 if empty)
+     */
+    int getColumnHeight(int col);
+    
+    /**
+     * Get the number of holes in a column (empty cells below its highest block).
+     * @param col column index
+     * @return hole count of the column
+     */
+    int getColumnHoles(int col);
+    
+    /**
+     * Get the height of the tallest column on the board.
+     * @return maximum column height
+     */
+    int getStackHeight();
+    
+    /**
+     * Get the total number of holes on the board.
+     * @return sum of the hole counts of every column
+     */
+    int getTotalHoles();
+    
+    /**
+     * Get the cells changed since the view last repainted the background.
+     * The caller clears the region once it has repainted those cells.
+     * @return live dirty region of the board
+     */
+    DirtyRegion getDirtyRegion();
+    
+    /**
+     * Get the Zobrist hash of the game state: occupied cells, active piece with its rotation and
+     * offset, hold slot and the head of the next queue. Maintained incrementally, so reading it is O(1).
+     * @return 64-bit state hash
+     */
+    long getStateHash();
+    
+    /**
+     * Take a snapshot of the full game state (board, active piece, hold, queue, score, lines).
+     * On {@link TetrisBoard} this is O(1): board rows are copied only when they change afterwards.
+     * {@link ArenaBoard} copies the stack out of its off-heap slot, which costs one pass over its rows.
+     * @return snapshot that can later be passed to {@link #restore(BoardSnapshot)}
+     */
+    BoardSnapshot snapshot();
+    
+    /**
+     * Restore the game state recorded in a snapshot taken from this board.
+     * The snapshot stays valid and can be restored again.
+     * @param snapshot snapshot to restore
+     */
+    void restore(BoardSnapshot snapshot);
 }
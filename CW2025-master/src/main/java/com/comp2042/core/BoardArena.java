@@ -0,0 +1,191 @@
+package com.comp2042.core;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+
+/**
+ * Off-heap storage for a large number of boards of the same size, used by bulk simulations.
+ * Every board lives in a fixed-stride slot of one {@link MemorySegment}: the header (piece,
+ * hold, score, random state, occupancy hash), the piece queue, one occupancy mask and one column height per
+ * column of the skyline, and one color byte per cell. Boards are stepped through
+ * {@link ArenaBoard} cursors, so millions of games need no per-board objects on the heap, and
+ * finished games are recycled by resetting their slots in place.
+ * An all-zero slot is an empty board with nothing held, so bulk resets are a single fill.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+public final class BoardArena implements AutoCloseable {
+
+    // Header layout, shared by every slot
+    static final long RANDOM_STATE = 0;    // long: SplitMix64 state of the piece generator
+    static final long SCORE = 8;           // int
+    static final long LINES = 12;          // int: total lines cleared
+    static final long PIECE_X = 16;        // short
+    static final long PIECE_Y = 18;        // short
+    static final long PIECE_TYPE = 20;     // byte: type + 1, 0 when there is no piece
+    static final long ROTATION = 21;       // byte
+    static final long HELD_TYPE = 22;      // byte: type + 1, 0 when nothing is held
+    static final long FLAGS = 23;          // byte: HOLD_USED, GAME_OVER
+    static final long QUEUE_HEAD = 24;     // byte: ring index of the next piece
+    static final long QUEUE_SIZE = 25;     // byte
+    static final long HISTORY = 26;        // 3 bytes: last generated types + 1, oldest first
+    static final long LAST_HOLE = 29;      // byte: column of the last cheese hole + 1, 0 before the first
+    static final long QUEUE = 32;          // QUEUE_CAPACITY bytes: queued types (ring buffer)
+    static final long OCCUPANCY_HASH = 40; // long: Zobrist hash of the occupied cells
+    static final long ROW_MASKS = 48;      // long per row
+
+    static final int QUEUE_CAPACITY = 8;
+    static final int HISTORY_LENGTH = 3;
+    static final int HOLD_USED = 1;
+    static final int GAME_OVER = 2;
+
+    private final int rows;
+    private final int cols;
+    private final int capacity;
+    private final long columnHeightsOffset; // short per column
+    private final long colorsOffset;        // byte per cell, row-major
+    private final long stride;
+    private final Arena arena;
+    private final MemorySegment segment;
+
+    /**
+     * Allocates an arena of empty boards. Call {@link #resetAll(long)} or {@link #reset(int, long)}
+     * to deal the first pieces before stepping a board.
+     *
+     * @param capacity The number of boards
+     * @param rows The number of rows of every board
+     * @param cols The number of columns of every board (1 to 64)
+     * @throws IllegalArgumentException if the size is not supported
+     */
+    public BoardArena(int capacity, int rows, int cols) {
+        if (capacity <= 0 || rows <= 0 || rows > Short.MAX_VALUE || cols <= 0 || cols > Long.SIZE) {
+            throw new IllegalArgumentException("Unsupported arena: " + capacity + " boards of " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.capacity = capacity;
+        this.columnHeightsOffset = ROW_MASKS + (long) rows * Long.BYTES;
+        this.colorsOffset = columnHeightsOffset + (long) cols * Short.BYTES;
+        // Keep every slot 8-byte aligned so the row masks can be read as aligned longs
+        this.stride = (colorsOffset + (long) rows * cols + 7) & ~7L;
+        this.arena = Arena.ofShared();
+        this.segment = arena.allocate(stride * capacity, Long.BYTES);
+    }
+
+    /**
+     * Gets the number of boards in the arena.
+     *
+     * @return The slot count
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of rows of every board.
+     *
+     * @return The row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns of every board.
+     *
+     * @return The column count
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Gets the number of bytes used by one board.
+     *
+     * @return The slot stride
+     */
+    public long getSlotSize() {
+        return stride;
+    }
+
+    /**
+     * Creates a cursor positioned on a board. A cursor can be moved to any other slot with
+     * {@link ArenaBoard#select(int)}, so one cursor per thread is enough to step every board.
+     *
+     * @param slot The slot index
+     * @return A board view of the slot
+     */
+    public ArenaBoard board(int slot) {
+        return new ArenaBoard(this, slot);
+    }
+
+    /**
+     * Starts a new game in one slot, e.g. to recycle a finished game.
+     *
+     * @param slot The slot index
+     * @param seed The seed of the piece sequence
+     */
+    public void reset(int slot, long seed) {
+        long base = slotOffset(slot);
+        segment.asSlice(base, stride).fill((byte) 0);
+        ArenaBoard board = new ArenaBoard(this, slot);
+        board.seed(seed);
+        board.createNewBrick();
+    }
+
+    /**
+     * Starts a new game in every slot with one bulk fill of the whole arena.
+     * Each slot gets its own piece sequence derived from the seed and the slot index.
+     *
+     * @param seed The seed of the piece sequences
+     */
+    public void resetAll(long seed) {
+        segment.fill((byte) 0);
+        ArenaBoard board = new ArenaBoard(this, 0);
+        for (int slot = 0; slot < capacity; slot++) {
+            board.select(slot);
+            board.seed(SeededPieces.seedFor(seed, slot));
+            board.createNewBrick();
+        }
+    }
+
+    /**
+     * Checks whether the game in a slot has ended because a new piece could not spawn.
+     *
+     * @param slot The slot index
+     * @return true if the game is over
+     */
+    public boolean isGameOver(int slot) {
+        return (segment.get(JAVA_BYTE, slotOffset(slot) + FLAGS) & GAME_OVER) != 0;
+    }
+
+    /**
+     * Frees the off-heap memory. The arena and its cursors must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    MemorySegment getSegment() {
+        return segment;
+    }
+
+    long slotOffset(int slot) {
+        if (slot < 0 || slot >= capacity) {
+            throw new IndexOutOfBoundsException("Slot " + slot + " outside arena of " + capacity);
+        }
+        return slot * stride;
+    }
+
+    long getColumnHeightsOffset() {
+        return columnHeightsOffset;
+    }
+
+    long getColorsOffset() {
+        return colorsOffset;
+    }
+}
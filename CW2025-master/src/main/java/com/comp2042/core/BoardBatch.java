@@ -0,0 +1,503 @@
+package com.comp2042.core;
+
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.Arrays;
+
+/**
+ * Steps many independent games in lockstep for bulk simulation.
+ * State is laid out as struct-of-arrays: each field of every game lives in one flat array
+ * indexed by game, and the rows of one game are contiguous in {@code rowMasks}, so a step
+ * is a tight loop over primitive arrays instead of a walk over separate board objects.
+ * Each step applies one action to every running game, then gravity; landed pieces lock,
+ * full rows clear and the next piece spawns. Scoring follows {@link GameEngine}:
+ * 1 point per soft-dropped row, 2 per hard-dropped row and 50 &times; lines&sup2; per clear.
+ * Only occupancy is tracked, not block colors.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+public final class BoardBatch {
+
+    public static final byte NONE = 0;
+    public static final byte LEFT = 1;
+    public static final byte RIGHT = 2;
+    public static final byte ROTATE_RIGHT = 3;
+    public static final byte ROTATE_LEFT = 4;
+    public static final byte ROTATE_180 = 5;
+    public static final byte SOFT_DROP = 6;
+    public static final byte HARD_DROP = 7;
+    public static final byte HOLD = 8;
+
+    private static final byte NO_PIECE = -1;
+
+    private final int games;
+    private final int rows;
+    private final int cols;
+    private final long fullRowMask;
+    private final int spawnX;
+
+    private final long[] rowMasks;       // games * rows, row-major within a game
+    private final int[] columnHeights;   // games * cols
+    private final long[] randomStates;
+    private final byte[] pieceTypes;
+    private final byte[] rotations;
+    private final int[] pieceX;
+    private final int[] pieceY;
+    private final byte[] nextTypes;
+    private final byte[] heldTypes;
+    private final boolean[] holdUsed;
+    private final boolean[] gameOver;
+    private final int[] scores;
+    private final int[] linesCleared;
+    private int liveGames;
+
+    /**
+     * Creates a batch of empty games. Call {@link #resetAll(long)} or {@link #reset(int, long)}
+     * to deal the first pieces before stepping.
+     *
+     * @param games The number of games
+     * @param rows The number of rows of every board
+     * @param cols The number of columns of every board (4 to 64)
+     * @throws IllegalArgumentException if the size is not supported
+     */
+    public BoardBatch(int games, int rows, int cols) {
+        if (games <= 0 || rows < PieceShape.SIZE || cols < PieceShape.SIZE || cols > Long.SIZE) {
+            throw new IllegalArgumentException("Unsupported batch: " + games + " games of " + rows + "x" + cols);
+        }
+        this.games = games;
+        this.rows = rows;
+        this.cols = cols;
+        this.fullRowMask = cols == Long.SIZE ? -1L : (1L << cols) - 1;
+        this.spawnX = cols / 2 - 1;
+        this.rowMasks = new long[games * rows];
+        this.columnHeights = new int[games * cols];
+        this.randomStates = new long[games];
+        this.pieceTypes = new byte[games];
+        this.rotations = new byte[games];
+        this.pieceX = new int[games];
+        this.pieceY = new int[games];
+        this.nextTypes = new byte[games];
+        this.heldTypes = new byte[games];
+        this.holdUsed = new boolean[games];
+        this.gameOver = new boolean[games];
+        this.scores = new int[games];
+        this.linesCleared = new int[games];
+        Arrays.fill(gameOver, true);
+        Arrays.fill(pieceTypes, NO_PIECE);
+    }
+
+    /**
+     * Starts a new game in every slot. Each game gets its own piece sequence derived from the
+     * seed and the game index.
+     *
+     * @param seed The seed of the piece sequences
+     */
+    public void resetAll(long seed) {
+        for (int game = 0; game < games; game++) {
+            reset(game, SeededPieces.seedFor(seed, game));
+        }
+    }
+
+    /**
+     * Starts a new game in one slot, e.g. to recycle a finished game.
+     *
+     * @param game The game index
+     * @param seed The seed of the piece sequence
+     */
+    public void reset(int game, long seed) {
+        Arrays.fill(rowMasks, game * rows, (game + 1) * rows, 0L);
+        Arrays.fill(columnHeights, game * cols, (game + 1) * cols, 0);
+        if (!gameOver[game]) {
+            liveGames--;
+        }
+        randomStates[game] = seed;
+        heldTypes[game] = NO_PIECE;
+        scores[game] = 0;
+        linesCleared[game] = 0;
+        gameOver[game] = false;
+        liveGames++;
+        nextTypes[game] = (byte) dealPiece(game);
+        spawnPiece(game);
+    }
+
+    /**
+     * Applies one action to every running game, then gravity. Finished games are skipped.
+     *
+     * @param actions The action of each game, e.g. {@link #HARD_DROP}
+     * @return The number of games still running
+     */
+    public int step(byte[] actions) {
+        for (int game = 0; game < games; game++) {
+            if (!gameOver[game]) {
+                stepGame(game, actions[game]);
+            }
+        }
+        return liveGames;
+    }
+
+    /**
+     * Applies the same action to every running game, then gravity.
+     *
+     * @param action The action, e.g. {@link #HARD_DROP}
+     * @return The number of games still running
+     */
+    public int step(byte action) {
+        for (int game = 0; game < games; game++) {
+            if (!gameOver[game]) {
+                stepGame(game, action);
+            }
+        }
+        return liveGames;
+    }
+
+    /**
+     * Gets the number of games in the batch.
+     *
+     * @return The game count
+     */
+    public int getGameCount() {
+        return games;
+    }
+
+    /**
+     * Gets the number of games that have not ended.
+     *
+     * @return The running game count
+     */
+    public int getLiveGames() {
+        return liveGames;
+    }
+
+    /**
+     * Checks whether a game has ended because a new piece could not spawn.
+     *
+     * @param game The game index
+     * @return true if the game is over
+     */
+    public boolean isGameOver(int game) {
+        return gameOver[game];
+    }
+
+    /**
+     * Gets the score of a game.
+     *
+     * @param game The game index
+     * @return The score
+     */
+    public int getScore(int game) {
+        return scores[game];
+    }
+
+    /**
+     * Gets the number of lines a game has cleared.
+     *
+     * @param game The game index
+     * @return The total lines cleared
+     */
+    public int getLinesCleared(int game) {
+        return linesCleared[game];
+    }
+
+    /**
+     * Gets the type of the active piece of a game.
+     *
+     * @param game The game index
+     * @return The {@link ShapeTable} type, or -1 if the game has no piece
+     */
+    public int getPieceType(int game) {
+        return pieceTypes[game];
+    }
+
+    /**
+     * Gets the column of the active piece of a game.
+     *
+     * @param game The game index
+     * @return The X position of the piece
+     */
+    public int getPieceX(int game) {
+        return pieceX[game];
+    }
+
+    /**
+     * Gets the row of the active piece of a game.
+     *
+     * @param game The game index
+     * @return The Y position of the piece
+     */
+    public int getPieceY(int game) {
+        return pieceY[game];
+    }
+
+    /**
+     * Gets the occupancy of one row of a game (bit {@code col} set when occupied).
+     *
+     * @param game The game index
+     * @param row The row index
+     * @return The row mask
+     */
+    public long getRowMask(int game, int row) {
+        return rowMasks[game * rows + row];
+    }
+
+    /**
+     * Gets the number of filled rows from the floor to the top of a column.
+     *
+     * @param game The game index
+     * @param col The column index
+     * @return The column height
+     */
+    public int getColumnHeight(int game, int col) {
+        return columnHeights[game * cols + col];
+    }
+
+    /**
+     * Gets the height of the tallest column of a game.
+     *
+     * @param game The game index
+     * @return The stack height
+     */
+    public int getStackHeight(int game) {
+        int height = 0;
+        for (int i = game * cols; i < (game + 1) * cols; i++) {
+            height = Math.max(height, columnHeights[i]);
+        }
+        return height;
+    }
+
+    /**
+     * Replaces one row of a game, e.g. to set up a position.
+     */
+    void setRowMask(int game, int row, long mask) {
+        rowMasks[game * rows + row] = mask & fullRowMask;
+        rebuildHeights(game);
+    }
+
+    private void stepGame(int game, byte action) {
+        switch (action) {
+            case LEFT:
+                tryMove(game, -1, 0);
+                break;
+            case RIGHT:
+                tryMove(game, 1, 0);
+                break;
+            case ROTATE_RIGHT:
+                rotate(game, WallKicks.CLOCKWISE);
+                break;
+            case ROTATE_LEFT:
+                rotate(game, WallKicks.COUNTER_CLOCKWISE);
+                break;
+            case ROTATE_180:
+                rotate(game, WallKicks.HALF_TURN);
+                break;
+            case SOFT_DROP:
+                if (!tryMove(game, 0, 1)) {
+                    lockPiece(game);
+                    return;
+                }
+                scores[game]++;
+                break;
+            case HARD_DROP:
+                scores[game] += 2 * hardDrop(game);
+                lockPiece(game);
+                return;
+            case HOLD:
+                hold(game);
+                if (gameOver[game]) {
+                    // The swapped-in piece could not spawn, so there is nothing left to drop
+                    return;
+                }
+                break;
+            default:
+                break;
+        }
+        // Gravity
+        if (!tryMove(game, 0, 1)) {
+            lockPiece(game);
+        }
+    }
+
+    private boolean tryMove(int game, int dx, int dy) {
+        PieceShape shape = ShapeTable.get(pieceTypes[game], rotations[game]);
+        if (intersects(game, shape, pieceX[game] + dx, pieceY[game] + dy)) {
+            return false;
+        }
+        pieceX[game] += dx;
+        pieceY[game] += dy;
+        return true;
+    }
+
+    private void rotate(int game, int turn) {
+        int type = pieceTypes[game];
+        int rotation = rotations[game];
+        int nextRotation = WallKicks.targetIndex(type, rotation, ShapeTable.rotationCount(type), turn);
+        PieceShape nextShape = ShapeTable.get(type, nextRotation);
+        int[] kicks = WallKicks.offsets(type, rotation, turn);
+        for (int i = 0; i < kicks.length; i += 2) {
+            int x = pieceX[game] + kicks[i];
+            int y = pieceY[game] + kicks[i + 1];
+            if (!intersects(game, nextShape, x, y)) {
+                pieceX[game] = x;
+                pieceY[game] = y;
+                rotations[game] = (byte) nextRotation;
+                return;
+            }
+        }
+    }
+
+    private int hardDrop(int game) {
+        PieceShape shape = ShapeTable.get(pieceTypes[game], rotations[game]);
+        int x = pieceX[game];
+        int y = pieceY[game];
+        // Column heights and the piece's bottom profile give the answer unless the piece is under an overhang
+        int landingY = Integer.MAX_VALUE;
+        for (int c = shape.getMinCol(); c <= shape.getMaxCol(); c++) {
+            int bottom = shape.getColumnBottom(c);
+            if (bottom < 0) {
+                continue;
+            }
+            int top = rows - columnHeights[game * cols + x + c];
+            if (y + bottom >= top) {
+                landingY = -1;
+                break;
+            }
+            landingY = Math.min(landingY, top - 1 - bottom);
+        }
+        if (landingY < y) {
+            landingY = y;
+            while (!intersects(game, shape, x, landingY + 1)) {
+                landingY++;
+            }
+        }
+        pieceY[game] = landingY;
+        return landingY - y;
+    }
+
+    private void hold(int game) {
+        if (holdUsed[game]) {
+            return;
+        }
+        byte held = heldTypes[game];
+        heldTypes[game] = pieceTypes[game];
+        if (held == NO_PIECE) {
+            spawnPiece(game);
+        } else {
+            placePiece(game, held);
+        }
+        holdUsed[game] = true;
+    }
+
+    /**
+     * Merges the active piece, clears full rows and spawns the next piece.
+     */
+    private void lockPiece(int game) {
+        PieceShape shape = ShapeTable.get(pieceTypes[game], rotations[game]);
+        int base = game * rows;
+        int heightBase = game * cols;
+        int x = pieceX[game];
+        int y = pieceY[game];
+        boolean anyFull = false;
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            long mask = rowMasks[base + y + r] | shift(shape.getRowBits(r), x);
+            rowMasks[base + y + r] = mask;
+            anyFull |= mask == fullRowMask;
+        }
+        // Cells are ordered top to bottom, so the first cell of a column is its highest
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int col = heightBase + x + shape.getCellCol(i);
+            columnHeights[col] = Math.max(columnHeights[col], rows - y - shape.getCellRow(i));
+        }
+        if (anyFull) {
+            clearRows(game, y + shape.getMaxRow());
+        }
+        spawnPiece(game);
+    }
+
+    /**
+     * Removes the full rows at or above the given row and drops the stack above them.
+     */
+    private void clearRows(int game, int lowestRow) {
+        int base = game * rows;
+        int top = rows - getStackHeight(game);
+        int writeRow = lowestRow;
+        int removed = 0;
+        for (int readRow = lowestRow; readRow >= top; readRow--) {
+            long mask = rowMasks[base + readRow];
+            if (mask == fullRowMask) {
+                removed++;
+                continue;
+            }
+            rowMasks[base + writeRow--] = mask;
+        }
+        Arrays.fill(rowMasks, base + top, base + top + removed, 0L);
+        linesCleared[game] += removed;
+        scores[game] += 50 * removed * removed;
+        rebuildHeights(game);
+    }
+
+    private void rebuildHeights(int game) {
+        int base = game * rows;
+        int heightBase = game * cols;
+        Arrays.fill(columnHeights, heightBase, heightBase + cols, 0);
+        long covered = 0L;
+        for (int row = 0; row < rows && covered != fullRowMask; row++) {
+            long newTops = rowMasks[base + row] & ~covered;
+            covered |= newTops;
+            for (; newTops != 0; newTops &= newTops - 1) {
+                columnHeights[heightBase + Long.numberOfTrailingZeros(newTops)] = rows - row;
+            }
+        }
+    }
+
+    private void spawnPiece(int game) {
+        byte type = nextTypes[game];
+        nextTypes[game] = (byte) dealPiece(game);
+        placePiece(game, type);
+        holdUsed[game] = false;
+    }
+
+    private void placePiece(int game, byte type) {
+        pieceTypes[game] = type;
+        rotations[game] = 0;
+        pieceX[game] = spawnX;
+        pieceY[game] = 0;
+        if (!gameOver[game] && intersects(game, ShapeTable.get(type, 0), spawnX, 0)) {
+            gameOver[game] = true;
+            liveGames--;
+        }
+    }
+
+    private int dealPiece(int game) {
+        long state = SeededPieces.advance(randomStates[game]);
+        randomStates[game] = state;
+        return SeededPieces.weightedType(SeededPieces.bounded(state, SeededPieces.TOTAL_WEIGHT));
+    }
+
+    private static long shift(int bits, int x) {
+        return x >= 0 ? (long) bits << x : (long) bits >>> -x;
+    }
+
+    /**
+     * Checks a piece shape against a game's row masks; cells outside the board count as a hit.
+     */
+    private boolean intersects(int game, PieceShape shape, int x, int y) {
+        int base = game * rows;
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int bits = shape.getRowBits(r);
+            if (bits == 0) {
+                continue;
+            }
+            int row = y + r;
+            int low = x + Integer.numberOfTrailingZeros(bits);
+            int high = x + (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(bits));
+            if (row < 0 || row >= rows || low < 0 || high >= cols) {
+                return true;
+            }
+            if ((rowMasks[base + row] & shift(bits, x)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
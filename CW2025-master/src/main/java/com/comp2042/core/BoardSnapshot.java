@@ -0,0 +1,179 @@
+package com.comp2042.core;
+
+import com.comp2042.logic.bricks.Brick;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of a game board, used for undo, replay seeking and lookahead search.
+ * Holds the board contents as a copy-on-write {@link GridSnapshot} together with the
+ * active piece, its rotation and offset, the held piece, the piece queue, the state of
+ * the piece sequence, the score and the cleared line count.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+public final class BoardSnapshot {
+
+    private final GridSnapshot grid;
+    private final Brick brick;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final Brick heldBrick;
+    private final boolean canHold;
+    private final List<Brick> queuedBricks;
+    private final List<Brick> recentBricks;
+    private final boolean hasPieceState;
+    private final long pieceSeed;
+    private final long streamState;
+    private final long randomizerState;
+    private final int score;
+    private final int totalLinesCleared;
+
+    BoardSnapshot(GridSnapshot grid, Brick brick, int rotation, int x, int y, Brick heldBrick, boolean canHold,
+                  List<Brick> queuedBricks, List<Brick> recentBricks, boolean hasPieceState, long pieceSeed,
+                  long streamState, long randomizerState, int score, int totalLinesCleared) {
+        this.grid = grid;
+        this.brick = brick;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.heldBrick = heldBrick;
+        this.canHold = canHold;
+        this.queuedBricks = queuedBricks;
+        this.recentBricks = recentBricks;
+        this.hasPieceState = hasPieceState;
+        this.pieceSeed = pieceSeed;
+        this.streamState = streamState;
+        this.randomizerState = randomizerState;
+        this.score = score;
+        this.totalLinesCleared = totalLinesCleared;
+    }
+
+    GridSnapshot getGrid() {
+        return grid;
+    }
+
+    /**
+     * Gets the active piece at the time of the snapshot.
+     *
+     * @return The active brick
+     */
+    public Brick getBrick() {
+        return brick;
+    }
+
+    /**
+     * Gets the rotation index of the active piece.
+     *
+     * @return The rotation index
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the X coordinate (column) of the active piece.
+     *
+     * @return The piece column offset
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the Y coordinate (row) of the active piece.
+     *
+     * @return The piece row offset
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Gets the held piece.
+     *
+     * @return The held brick, or null if nothing was held
+     */
+    public Brick getHeldBrick() {
+        return heldBrick;
+    }
+
+    /**
+     * Checks whether hold was still available for the active piece.
+     *
+     * @return true if the piece could be held
+     */
+    public boolean canHold() {
+        return canHold;
+    }
+
+    /**
+     * Gets the queued pieces, next piece first.
+     *
+     * @return An unmodifiable list of queued bricks
+     */
+    public List<Brick> getQueuedBricks() {
+        return queuedBricks;
+    }
+
+    List<Brick> getRecentBricks() {
+        return recentBricks;
+    }
+
+    /**
+     * Checks whether the snapshot holds the state of the piece sequence. Without it, the pieces
+     * dealt after the queue cannot be replayed.
+     *
+     * @return true if the seed, stream and randomizer states are recorded
+     */
+    public boolean hasPieceState() {
+        return hasPieceState;
+    }
+
+    /**
+     * Gets the seed of the game the pieces were dealt from.
+     *
+     * @return The game seed, meaningless without piece state
+     */
+    public long getPieceSeed() {
+        return pieceSeed;
+    }
+
+    /**
+     * Gets the position of the piece stream, queued pieces already drawn.
+     *
+     * @return The stream state, meaningless without piece state
+     */
+    public long getStreamState() {
+        return streamState;
+    }
+
+    /**
+     * Gets the packed state the randomizer keeps between draws.
+     *
+     * @return The randomizer state, meaningless without piece state
+     */
+    public long getRandomizerState() {
+        return randomizerState;
+    }
+
+    /**
+     * Gets the score at the time of the snapshot.
+     *
+     * @return The score value
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the number of lines cleared at the time of the snapshot.
+     *
+     * @return The cleared line count
+     */
+    public int getTotalLinesCleared() {
+        return totalLinesCleared;
+    }
+}
@@ -1,8 +1,11 @@
 package com.comp2042.core;
 
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceShape;
 import com.comp2042.models.NextShapeInfo;
 
+import java.util.List;
+
 /**
  * Manages rotation state for Tetris pieces.
  * Handles the current rotation state of a brick and provides methods
@@ -14,6 +17,7 @@ import com.comp2042.models.NextShapeInfo;
 public class BrickRotator {
 
     private Brick brick;
+    private List<PieceShape> rotations; // Shared rotation states of the current brick
     private int currentShape = 0;
 
     /**
@@ -22,18 +26,66 @@ public class BrickRotator {
      * @return NextShapeInfo containing the next shape matrix and position index
      */
     public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        int nextShape = getNextPosition();
+        return new NextShapeInfo(rotations.get(nextShape).getMatrix(), nextShape);
+    }
+
+    /**
+     * Gets the index of the rotation state that follows the current one.
+     * 
+     * @return The next rotation index, wrapping back to 0 after the last state
+     */
+    public int getNextPosition() {
+        return (currentShape + 1) % rotations.size();
+    }
+
+    /**
+     * Gets the shape matrix of a rotation state without copying it.
+     * The returned matrix is shared and must not be modified.
+     * 
+     * @param position The rotation index
+     * @return A 2D array representing the requested rotation state
+     */
+    public int[][] getShape(int position) {
+        return rotations.get(position).getMatrix();
+    }
+
+    /**
+     * Gets the precomputed shape of a rotation state.
+     * 
+     * @param position The rotation index
+     * @return The shared PieceShape for the requested rotation state
+     */
+    public PieceShape getPieceShape(int position) {
+        return rotations.get(position);
+    }
+
+    /**
+     * Gets the precomputed shape of the current rotation state.
+     * 
+     * @return The shared PieceShape for the current rotation state
+     */
+    public PieceShape getCurrentPieceShape() {
+        return rotations.get(currentShape);
+    }
+
+    /**
+     * Gets the index of the current rotation state.
+     * 
+     * @return The current rotation index
+     */
+    public int getCurrentPosition() {
+        return currentShape;
     }
 
     /**
      * Gets the current shape matrix of the brick.
+     * The returned matrix is shared and must not be modified.
      * 
      * @return A 2D array representing the current rotation state of the brick
      */
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return rotations.get(currentShape).getMatrix();
     }
 
     /**
@@ -52,9 +104,19 @@ public class BrickRotator {
      */
     public void setBrick(Brick brick) {
         this.brick = brick;
+        this.rotations = brick.getRotations();
         currentShape = 0;
     }
     
+    /**
+     * Gets the number of rotation states of the current brick.
+     * 
+     * @return The rotation count
+     */
+    public int getRotationCount() {
+        return rotations.size();
+    }
+
     /**
      * Gets the current brick.
      * 
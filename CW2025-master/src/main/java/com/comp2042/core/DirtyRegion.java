@@ -0,0 +1,165 @@
+package com.comp2042.core;
+
+import java.util.Arrays;
+
+/**
+ * Set of board cells changed since the view last repainted the background.
+ * Every board mutation marks the cells it touches, stored as column bitmasks per row (one
+ * 64-bit word per row on standard boards, more on wider ones), so the renderer can repaint only those cells instead of the whole grid.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+public final class DirtyRegion {
+
+    private final long[] dirtyColumns; // Row r uses words r * words to r * words + words - 1
+    private final int rows;
+    private final int words;
+    private final long lastWordMask;
+    private int topRow;     // First row with a dirty cell, or rows when clean
+    private int bottomRow;  // Last row with a dirty cell, or -1 when clean
+
+    /**
+     * Constructs a clean region for a board of the specified size.
+     *
+     * @param rows The number of board rows
+     * @param cols The number of board columns
+     */
+    public DirtyRegion(int rows, int cols) {
+        this.rows = rows;
+        this.words = (cols + Long.SIZE - 1) / Long.SIZE;
+        int lastBits = cols - (words - 1) * Long.SIZE;
+        this.lastWordMask = lastBits == Long.SIZE ? -1L : (1L << lastBits) - 1;
+        this.dirtyColumns = new long[rows * words];
+        this.topRow = rows;
+        this.bottomRow = -1;
+    }
+
+    /**
+     * Marks a single cell as changed.
+     *
+     * @param row The row index
+     * @param col The column index
+     */
+    public void markCell(int row, int col) {
+        markColumns(row, col / Long.SIZE, 1L << col);
+    }
+
+    /**
+     * Marks a set of cells in one row as changed.
+     *
+     * @param row The row index
+     * @param word The mask word the columns belong to
+     * @param columns Bitmask of changed columns (bit {@code b} for column {@code word * 64 + b})
+     */
+    public void markColumns(int row, int word, long columns) {
+        if (columns == 0) {
+            return;
+        }
+        dirtyColumns[row * words + word] |= columns;
+        topRow = Math.min(topRow, row);
+        bottomRow = Math.max(bottomRow, row);
+    }
+
+    /**
+     * Marks every cell of a range of rows as changed.
+     *
+     * @param firstRow The first row of the range
+     * @param lastRow The last row of the range (inclusive)
+     */
+    public void markRows(int firstRow, int lastRow) {
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int w = 0; w < words; w++) {
+                markColumns(row, w, w == words - 1 ? lastWordMask : -1L);
+            }
+        }
+    }
+
+    /**
+     * Marks the whole board as changed.
+     */
+    public void markAll() {
+        markRows(0, rows - 1);
+    }
+
+    /**
+     * Checks whether any cell has changed.
+     *
+     * @return true if nothing needs repainting
+     */
+    public boolean isEmpty() {
+        return bottomRow < 0;
+    }
+
+    /**
+     * Gets the first row containing a changed cell.
+     *
+     * @return The top dirty row, or the row count if the region is clean
+     */
+    public int getTopRow() {
+        return topRow;
+    }
+
+    /**
+     * Gets the last row containing a changed cell.
+     *
+     * @return The bottom dirty row, or -1 if the region is clean
+     */
+    public int getBottomRow() {
+        return bottomRow;
+    }
+
+    /**
+     * Gets the number of mask words per row.
+     *
+     * @return The word count, 1 for boards up to 64 columns
+     */
+    public int getRowWords() {
+        return words;
+    }
+
+    /**
+     * Gets the changed columns of a row on a board of at most 64 columns.
+     *
+     * @param row The row index
+     * @return Bitmask of changed columns (bit {@code c} for column {@code c})
+     */
+    public long getDirtyColumns(int row) {
+        return dirtyColumns[row * words];
+    }
+
+    /**
+     * Gets one word of the changed columns of a row.
+     *
+     * @param row The row index
+     * @param word The word index (0 to {@link #getRowWords()} - 1)
+     * @return Bitmask of changed columns (bit {@code b} for column {@code word * 64 + b})
+     */
+    public long getDirtyColumns(int row, int word) {
+        return dirtyColumns[row * words + word];
+    }
+
+    /**
+     * Counts the changed cells.
+     *
+     * @return The number of dirty cells
+     */
+    public int getCellCount() {
+        int count = 0;
+        for (int i = topRow * words; i < (bottomRow + 1) * words; i++) {
+            count += Long.bitCount(dirtyColumns[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Marks every cell as clean, typically after the view has repainted.
+     */
+    public void clear() {
+        if (bottomRow >= 0) {
+            Arrays.fill(dirtyColumns, topRow * words, (bottomRow + 1) * words, 0L);
+        }
+        topRow = rows;
+        bottomRow = -1;
+    }
+}
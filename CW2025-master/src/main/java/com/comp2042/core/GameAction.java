@@ -0,0 +1,29 @@
+package com.comp2042.core;
+
+/**
+ * Enum representing the actions a player, a bot or a replay can apply to a {@link GameEngine}.
+ * The order matches the action codes of {@link BoardBatch}.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+public enum GameAction {
+    /** Do nothing this step */
+    NONE,
+    /** Move piece one column to the left */
+    LEFT,
+    /** Move piece one column to the right */
+    RIGHT,
+    /** Rotate piece clockwise */
+    ROTATE_RIGHT,
+    /** Rotate piece counter-clockwise */
+    ROTATE_LEFT,
+    /** Rotate piece by half a turn */
+    ROTATE_180,
+    /** Move piece down one row, scoring 1 point */
+    SOFT_DROP,
+    /** Instantly drop piece to bottom, scoring 2 points per row */
+    HARD_DROP,
+    /** Swap the piece with the held piece */
+    HOLD
+}
@@ -0,0 +1,580 @@
+package com.comp2042.core;
+
+import com.comp2042.models.ClearRow;
+import com.comp2042.models.ViewData;
+import com.comp2042.modes.GameMode;
+import com.comp2042.rpg.AbilityType;
+import com.comp2042.rpg.RPGModeManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The rules of one game in every mode, with no UI dependencies.
+ * Input arrives as {@link GameAction}s and gravity as {@link #step()} calls; scoring, line
+ * clears, the Sprint goal, the Ultra clock, Survival and RPG levels and RPG abilities are
+ * decided here and reported to {@link GameListener}s. The JavaFX {@link GameController} is one
+ * such listener driven by keys and timelines; bots, replays and tests drive the same engine
+ * headless, as fast as they like. The Ultra clock only advances through
+ * {@link #advanceTime(long)}, so a headless game decides how much time a step takes.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+public class GameEngine {
+
+    /** Lines a Sprint game has to clear. */
+    public static final int SPRINT_LINES = 40;
+    /** Length of an Ultra game in milliseconds. */
+    public static final long ULTRA_TIME_LIMIT_MS = 120000;
+    /** Time between Ultra speed levels in milliseconds. */
+    public static final long ULTRA_SPEED_INTERVAL_MS = 20000;
+    /** Points between Survival speed levels. */
+    public static final int SURVIVAL_LEVEL_POINTS = 1500;
+    /** Level that completes an RPG game. */
+    public static final int RPG_FINAL_LEVEL = 40;
+
+    private final TetrisBoard board;
+    private final GameMode mode;
+    private final RPGModeManager rpgModeManager; // Only created in RPG mode
+    private final List<GameListener> listeners = new ArrayList<>(1);
+
+    private boolean finished;
+    private ClearRow lastClearRow; // Rows cleared by the piece the last action or step locked
+    private long elapsedMillis;
+    private int speedLevel = 1;
+
+    /**
+     * Creates a game of the given mode on a default-sized board with a fresh seed.
+     *
+     * @param mode The game mode
+     */
+    public GameEngine(GameMode mode) {
+        this(mode, TetrisBoard.DEFAULT_ROWS, TetrisBoard.DEFAULT_COLS);
+    }
+
+    /**
+     * Creates a game of the given mode and board size with a fresh seed.
+     *
+     * @param mode The game mode
+     * @param rows The number of board rows, including the hidden spawn rows
+     * @param cols The number of board columns
+     */
+    public GameEngine(GameMode mode, int rows, int cols) {
+        this(mode, new TetrisBoard(rows, cols));
+    }
+
+    /**
+     * Creates a game of the given mode and board size that replays exactly from its seed.
+     *
+     * @param mode The game mode
+     * @param rows The number of board rows, including the hidden spawn rows
+     * @param cols The number of board columns
+     * @param seed The game seed
+     */
+    public GameEngine(GameMode mode, int rows, int cols, long seed) {
+        this(mode, new TetrisBoard(rows, cols, seed));
+    }
+
+    private GameEngine(GameMode mode, TetrisBoard board) {
+        this.board = board;
+        this.mode = mode;
+        rpgModeManager = mode == GameMode.RPG ? new RPGModeManager() : null;
+        if (rpgModeManager != null) {
+            rpgModeManager.reset(board.getRandom().abilities());
+        }
+        board.getScore().addListener(this::scoreChanged);
+        board.createNewBrick();
+    }
+
+    /**
+     * Adds a listener that is told about every later event of the game.
+     *
+     * @param listener The listener to add
+     */
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addListener(GameListener)}.
+     *
+     * @param listener The listener to remove
+     */
+    public void removeListener(GameListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Applies one action without gravity, e.g. for a key press.
+     * Ignored once the game is finished. A drop that locks the piece leaves the rows it cleared
+     * in {@link #getLastClearRow()}.
+     *
+     * @param action The action to apply
+     * @return true if the action changed the game
+     */
+    public boolean apply(GameAction action) {
+        lastClearRow = null;
+        if (finished) {
+            return false;
+        }
+        switch (action) {
+            case LEFT:
+                return board.moveBrickLeft();
+            case RIGHT:
+                return board.moveBrickRight();
+            case ROTATE_RIGHT:
+                return board.rotateRightBrick();
+            case ROTATE_LEFT:
+                return board.rotateLeftBrick();
+            case ROTATE_180:
+                return board.rotate180Brick();
+            case SOFT_DROP:
+                moveDown(true);
+                return true;
+            case HARD_DROP:
+                hardDrop();
+                return true;
+            case HOLD:
+                if (!board.holdBrick()) {
+                    return false;
+                }
+                if (board.isBrickBlocked()) {
+                    // The swapped-in piece has no room to spawn
+                    endGame();
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Applies one gravity step: the piece moves down a row or locks.
+     * Ignored once the game is finished.
+     *
+     * @return The rows cleared if the piece locked, null if it moved or the game is finished
+     */
+    public ClearRow step() {
+        lastClearRow = null;
+        return finished ? null : moveDown(false);
+    }
+
+    /**
+     * Applies one action, then gravity unless the action locked the piece, the way
+     * {@link BoardBatch} steps its games.
+     *
+     * @param action The action to apply
+     * @return true if the game is still running
+     */
+    public boolean step(GameAction action) {
+        lastClearRow = null;
+        if (finished) {
+            return false;
+        }
+        switch (action) {
+            case HARD_DROP:
+                hardDrop();
+                return !finished;
+            case SOFT_DROP:
+                if (moveDown(true) != null) {
+                    return !finished;
+                }
+                break;
+            default:
+                apply(action);
+                break;
+        }
+        // Gravity
+        step();
+        return !finished;
+    }
+
+    /**
+     * Moves the piece down one row, locking it if it cannot move.
+     *
+     * @param soft true if the player dropped the piece, which scores 1 point per row
+     * @return The rows cleared if the piece locked, null if it moved
+     */
+    private ClearRow moveDown(boolean soft) {
+        if (board.moveBrickDown()) {
+            if (soft) {
+                board.getScore().add(1);
+            }
+            return null;
+        }
+        return lockPiece();
+    }
+
+    /**
+     * Drops the piece to the bottom and locks it, scoring 2 points per row dropped.
+     *
+     * @return The rows cleared by the piece
+     */
+    private ClearRow hardDrop() {
+        int dropDistance = board.hardDropBrick();
+        if (dropDistance > 0) {
+            board.getScore().add(dropDistance * 2);
+        }
+        return lockPiece();
+    }
+
+    private ClearRow lockPiece() {
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        lastClearRow = clearRow;
+        int linesRemoved = clearRow.getLinesRemoved();
+        if (linesRemoved > 0) {
+            board.getScore().add(clearRow.getScoreBonus());
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onLinesCleared(clearRow, board.getTotalLinesCleared());
+            }
+        }
+
+        if (mode == GameMode.SPRINT && board.getTotalLinesCleared() >= SPRINT_LINES) {
+            finished = true;
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onSprintComplete(board.getTotalLinesCleared());
+            }
+            return clearRow;
+        }
+
+        if (rpgModeManager != null) {
+            checkRPGProgression();
+        }
+
+        if (board.createNewBrick()) {
+            endGame();
+        }
+        notifyBoardChanged();
+        return clearRow;
+    }
+
+    /**
+     * Finishes the game because a piece has no room to spawn.
+     */
+    private void endGame() {
+        finished = true;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onGameOver();
+        }
+    }
+
+    /**
+     * Levels up an RPG game from its total lines cleared. A level-up sets the new speed,
+     * spawns garbage from level 2 on and offers abilities; the final level completes the game.
+     */
+    private void checkRPGProgression() {
+        int totalLinesCleared = board.getTotalLinesCleared();
+        int newLevel = rpgModeManager.calculateLevelFromLines(totalLinesCleared);
+        if (newLevel > rpgModeManager.getRpgLevel()) {
+            rpgModeManager.setRpgLevel(newLevel);
+            if (newLevel == RPG_FINAL_LEVEL) {
+                finished = true;
+                for (int i = 0; i < listeners.size(); i++) {
+                    listeners.get(i).onRpgComplete(totalLinesCleared, newLevel);
+                }
+                return;
+            }
+            notifyDropInterval();
+            if (newLevel > 1 && rpgModeManager.spawnGarbageBlocksForLevel(board, newLevel) > 0) {
+                notifyBoardChanged();
+            }
+            String[] offers = rpgModeManager.drawLevelUpOffers();
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onLevelUp(newLevel, offers);
+            }
+        } else {
+            notifyDropInterval();
+        }
+        notifyRpgStatus();
+    }
+
+    /**
+     * Advances the game clock. Only Ultra games use it: the speed level rises every
+     * {@value #ULTRA_SPEED_INTERVAL_MS} ms and the game ends after {@value #ULTRA_TIME_LIMIT_MS} ms.
+     * Ignored once the game is finished.
+     *
+     * @param millis The time passed in milliseconds
+     */
+    public void advanceTime(long millis) {
+        if (finished || mode != GameMode.ULTRA) {
+            return;
+        }
+        elapsedMillis = Math.min(elapsedMillis + millis, ULTRA_TIME_LIMIT_MS);
+        if (elapsedMillis >= ULTRA_TIME_LIMIT_MS) {
+            finished = true;
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onUltraComplete(board.getScore().get());
+            }
+            return;
+        }
+        int level = (int) (elapsedMillis / ULTRA_SPEED_INTERVAL_MS) + 1;
+        if (level > speedLevel) {
+            setSpeedLevel(level);
+        }
+    }
+
+    private void scoreChanged(int oldValue, int newValue) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onScoreChanged(newValue);
+        }
+        if (mode == GameMode.SURVIVAL) {
+            int level = newValue / SURVIVAL_LEVEL_POINTS + 1;
+            if (level > speedLevel) {
+                setSpeedLevel(level);
+            }
+        }
+    }
+
+    private void setSpeedLevel(int level) {
+        speedLevel = level;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onSpeedLevelChanged(level);
+        }
+    }
+
+    /**
+     * Selects an ability offered on an RPG level-up: adds a charge and assigns it to a slot.
+     *
+     * @param abilityType The ability type name, as offered
+     */
+    public void selectAbility(String abilityType) {
+        if (rpgModeManager == null) {
+            return;
+        }
+        var abilityManager = rpgModeManager.getAbilityManager();
+        AbilityType mappedType = abilityManager.mapAbilityType(abilityManager.getAbilityDisplayName(abilityType));
+        if (mappedType == AbilityType.CLEAR_ROWS) {
+            abilityManager.incrementClearRowsCharges();
+        } else if (mappedType == AbilityType.SLOW_TIME) {
+            abilityManager.incrementSlowTimeCharges();
+        } else if (mappedType == AbilityType.COLOR_BOMB) {
+            abilityManager.incrementColorBombCharges();
+        } else if (mappedType == AbilityType.COLOR_SYNC) {
+            abilityManager.incrementColorSyncCharges();
+        }
+        abilityManager.assignAbilityToSlot(mappedType);
+        notifyRpgStatus();
+    }
+
+    /**
+     * Uses the RPG ability in a slot, spending one charge; an ability whose charges run out
+     * leaves its slot. Slow Time changes no board state, so it is left to the listeners.
+     *
+     * @param slotIndex The slot index, starting at 0
+     * @return true if an ability was used
+     */
+    public boolean useAbility(int slotIndex) {
+        if (rpgModeManager == null) {
+            return false;
+        }
+        var abilityManager = rpgModeManager.getAbilityManager();
+        AbilityType[] abilitySlots = abilityManager.getAbilitySlots();
+        if (slotIndex < 0 || slotIndex >= abilitySlots.length) {
+            return false;
+        }
+        AbilityType slotType = abilitySlots[slotIndex];
+        int affected = 0;
+        switch (slotType) {
+            case CLEAR_ROWS:
+                if (!abilityManager.hasCharges(AbilityType.CLEAR_ROWS)) {
+                    return false;
+                }
+                rpgModeManager.executeClearBottom3Rows(board);
+                abilityManager.decrementClearRowsCharges();
+                if (abilityManager.getClearRowsCharges() == 0) {
+                    abilityManager.removeAbilityFromSlots(AbilityType.CLEAR_ROWS);
+                }
+                break;
+            case SLOW_TIME:
+                if (!abilityManager.hasCharges(AbilityType.SLOW_TIME)) {
+                    return false;
+                }
+                abilityManager.decrementSlowTimeCharges();
+                if (abilityManager.getSlowTimeCharges() == 0) {
+                    abilityManager.removeAbilityFromSlots(AbilityType.SLOW_TIME);
+                }
+                break;
+            case COLOR_BOMB:
+                if (!abilityManager.hasCharges(AbilityType.COLOR_BOMB)) {
+                    return false;
+                }
+                affected = rpgModeManager.executeColorBomb(board);
+                abilityManager.decrementColorBombCharges();
+                if (abilityManager.getColorBombCharges() == 0) {
+                    abilityManager.removeAbilityFromSlots(AbilityType.COLOR_BOMB);
+                }
+                break;
+            case COLOR_SYNC:
+                if (!abilityManager.hasCharges(AbilityType.COLOR_SYNC)) {
+                    return false;
+                }
+                affected = rpgModeManager.executeColorSync(board);
+                abilityManager.decrementColorSyncCharges();
+                if (abilityManager.getColorSyncCharges() == 0) {
+                    abilityManager.removeAbilityFromSlots(AbilityType.COLOR_SYNC);
+                }
+                break;
+            default:
+                return false;
+        }
+        notifyBoardChanged();
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onAbilityUsed(slotType, affected);
+        }
+        notifyRpgStatus();
+        return true;
+    }
+
+    /**
+     * Starts a new game with a fresh seed, reusing the board and mode managers.
+     */
+    public void newGame() {
+        board.newGame();
+        restart();
+    }
+
+    /**
+     * Starts a new game that replays exactly from its seed.
+     *
+     * @param seed The game seed
+     */
+    public void newGame(long seed) {
+        board.newGame(seed);
+        restart();
+    }
+
+    private void restart() {
+        if (rpgModeManager != null) {
+            rpgModeManager.reset(board.getRandom().abilities());
+        }
+        finished = false;
+        elapsedMillis = 0;
+        speedLevel = 1;
+        notifyBoardChanged();
+        if (rpgModeManager != null) {
+            notifyRpgStatus();
+        }
+    }
+
+    /**
+     * Tells the listeners about the board cells changed since the last call and marks them clean.
+     * Listeners get the board's read-only matrix view, so repainting copies nothing.
+     */
+    private void notifyBoardChanged() {
+        DirtyRegion dirtyRegion = board.getDirtyRegion();
+        if (dirtyRegion.isEmpty()) {
+            return;
+        }
+        int[][] boardMatrix = board.getBoardMatrix();
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onBoardChanged(boardMatrix, dirtyRegion);
+        }
+        dirtyRegion.clear();
+    }
+
+    private void notifyDropInterval() {
+        long interval = rpgModeManager.calculateSpeedForLevel(rpgModeManager.getRpgLevel());
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onDropIntervalChanged(interval);
+        }
+    }
+
+    private void notifyRpgStatus() {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onRpgStatusChanged();
+        }
+    }
+
+    /**
+     * Gets the rows cleared by the piece that the last {@link #apply(GameAction)} or
+     * {@link #step()} locked, e.g. to show the line clear bonus.
+     *
+     * @return The rows cleared, or null if the last action or step did not lock a piece
+     */
+    public ClearRow getLastClearRow() {
+        return lastClearRow;
+    }
+
+    /**
+     * Checks whether the game has ended: game over, or the mode's goal or time limit reached.
+     *
+     * @return true if the game is finished
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Gets the mode whose rules the game follows.
+     *
+     * @return The game mode
+     */
+    public GameMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the board, e.g. for a bot to evaluate or a replay to snapshot.
+     *
+     * @return The game board
+     */
+    public TetrisBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the RPG state of the game.
+     *
+     * @return The RPG mode manager, or null outside RPG mode
+     */
+    public RPGModeManager getRpgModeManager() {
+        return rpgModeManager;
+    }
+
+    /**
+     * Gets the active piece, next piece and hold slot for the view to draw.
+     *
+     * @return The view data of the board
+     */
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    /**
+     * Gets the score of the game.
+     *
+     * @return The current score
+     */
+    public int getScore() {
+        return board.getScore().get();
+    }
+
+    /**
+     * Gets the number of lines cleared since the game started.
+     *
+     * @return The total lines cleared
+     */
+    public int getTotalLinesCleared() {
+        return board.getTotalLinesCleared();
+    }
+
+    /**
+     * Gets the Ultra or Survival speed level.
+     *
+     * @return The speed level, starting at 1
+     */
+    public int getSpeedLevel() {
+        return speedLevel;
+    }
+
+    /**
+     * Gets the game time passed through {@link #advanceTime(long)}.
+     *
+     * @return The elapsed game time in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
@@ -0,0 +1,116 @@
+package com.comp2042.core;
+
+import com.comp2042.models.ClearRow;
+import com.comp2042.rpg.AbilityType;
+
+/**
+ * Receives the events of a {@link GameEngine}.
+ * Every method has an empty default, so a listener only implements what it shows or records:
+ * the JavaFX {@link GameController} repaints and plays sounds, a headless run may only count
+ * game overs. Listeners are called on the thread that drives the engine.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+public interface GameListener {
+
+    /**
+     * Called when settled board cells changed, e.g. after a piece locked or an ability ran.
+     * Both arguments are live views of the board, not copies: they must not be modified and are
+     * only valid during the call. The dirty region is cleared once every listener has been called,
+     * and later moves change the matrix, so a listener that keeps the board must copy it.
+     *
+     * @param boardMatrix The read-only board, as returned by {@link Board#getBoardMatrix()}
+     * @param dirtyRegion The cells changed since the last call
+     */
+    default void onBoardChanged(int[][] boardMatrix, DirtyRegion dirtyRegion) {
+    }
+
+    /**
+     * Called after the score changed.
+     *
+     * @param score The new score
+     */
+    default void onScoreChanged(int score) {
+    }
+
+    /**
+     * Called after a locked piece cleared rows.
+     *
+     * @param clearRow The rows cleared by the piece
+     * @param totalLinesCleared The lines cleared so far this game
+     */
+    default void onLinesCleared(ClearRow clearRow, int totalLinesCleared) {
+    }
+
+    /**
+     * Called when a new piece could not spawn.
+     */
+    default void onGameOver() {
+    }
+
+    /**
+     * Called when a Sprint game reaches its line goal.
+     *
+     * @param totalLinesCleared The lines cleared this game
+     */
+    default void onSprintComplete(int totalLinesCleared) {
+    }
+
+    /**
+     * Called when the clock of an Ultra game runs out.
+     *
+     * @param score The final score
+     */
+    default void onUltraComplete(int score) {
+    }
+
+    /**
+     * Called when the speed level of an Ultra or Survival game rises.
+     *
+     * @param level The new speed level, starting at 1
+     */
+    default void onSpeedLevelChanged(int level) {
+    }
+
+    /**
+     * Called when an RPG game sets its gravity interval, after every locked piece.
+     *
+     * @param intervalMillis The time between gravity steps in milliseconds
+     */
+    default void onDropIntervalChanged(long intervalMillis) {
+    }
+
+    /**
+     * Called when an RPG game gains a level below the final one.
+     *
+     * @param level The new level
+     * @param offers The ability type names offered for the level-up
+     */
+    default void onLevelUp(int level, String[] offers) {
+    }
+
+    /**
+     * Called when an RPG game reaches its final level.
+     *
+     * @param totalLinesCleared The lines cleared this game
+     * @param level The final level
+     */
+    default void onRpgComplete(int totalLinesCleared, int level) {
+    }
+
+    /**
+     * Called when the level, lines or abilities shown by an RPG HUD changed.
+     */
+    default void onRpgStatusChanged() {
+    }
+
+    /**
+     * Called after an RPG ability was used.
+     *
+     * @param ability The ability used
+     * @param affectedBlocks The blocks removed or recolored, 0 for abilities that touch none
+     */
+    default void onAbilityUsed(AbilityType ability, int affectedBlocks) {
+    }
+}
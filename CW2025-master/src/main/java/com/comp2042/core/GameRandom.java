@@ -0,0 +1,81 @@
+package com.comp2042.core;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The random streams of one game, all derived from a single 64-bit seed.
+ * The seed is split into independent streams for the piece queue, garbage and RPG ability
+ * offers, so consuming one never shifts another and a game replays exactly from its seed.
+ * The piece queue gets a seed of its own, since its generator keeps a stream whose state
+ * snapshots can record.
+ * Streams are not shared between games, so games on different threads never contend.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+public final class GameRandom {
+
+    private final long seed;
+    private final long pieceSeed;
+    private final SplittableRandom garbage;
+    private final SplittableRandom abilities;
+
+    /**
+     * Creates the streams of a game. The split order is fixed, so equal seeds give equal streams.
+     *
+     * @param seed The game seed
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        this.pieceSeed = root.split().nextLong();
+        this.garbage = root.split();
+        this.abilities = root.split();
+    }
+
+    /**
+     * Creates the streams of a game from a fresh, unpredictable seed.
+     *
+     * @return The game streams
+     */
+    public static GameRandom fromEntropy() {
+        return new GameRandom(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Gets the seed the streams were derived from, e.g. to record it with a replay.
+     *
+     * @return The game seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the seed of the stream that deals the piece queue.
+     *
+     * @return The piece stream seed
+     */
+    public long pieceSeed() {
+        return pieceSeed;
+    }
+
+    /**
+     * Gets the stream that places garbage.
+     *
+     * @return The garbage stream
+     */
+    public SplittableRandom garbage() {
+        return garbage;
+    }
+
+    /**
+     * Gets the stream that picks the abilities offered on an RPG level-up.
+     *
+     * @return The ability offer stream
+     */
+    public SplittableRandom abilities() {
+        return abilities;
+    }
+}
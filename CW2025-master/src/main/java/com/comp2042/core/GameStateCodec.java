@@ -0,0 +1,367 @@
+package com.comp2042.core;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.rpg.AbilityType;
+import com.comp2042.rpg.RPGModeManager;
+import com.comp2042.rpg.ability.AbilityManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Versioned binary format for the full state of a game: the board, the active and held
+ * pieces, the piece queue and the state of the piece sequence, the score and, optionally,
+ * the RPG level and abilities. The sequence state is the game seed with the piece stream and
+ * randomizer states, so a decoded game deals the same pieces as the original after its queue
+ * runs out, provided the target board uses the same randomizer.
+ * Data is written as one bit stream: each row from the top of the stack down is stored as its
+ * occupancy bits followed by a 4-bit color per occupied cell, pieces are stored as type bytes
+ * and counters as varints, so a typical game encodes to well under 200 bytes.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+public final class GameStateCodec {
+
+    /** Version written by {@link #encode}; bump it whenever the layout changes. */
+    public static final int FORMAT_VERSION = 3;
+    // Version 1 had no piece sequence state and version 2 only a position in it; both still
+    // decode, dealing new pieces after the queue
+    private static final int FIRST_VERSION_WITH_POSITION = 2;
+    private static final int FIRST_VERSION_WITH_PIECE_STATE = 3;
+
+    private static final int MAGIC = 0x54;
+    private static final int NO_PIECE = 0xFF;
+    private static final int COLOR_BITS = 4;
+    private static final int ABILITY_SLOTS = 4;
+    // Charges are stored in this order, skipping AbilityType.NONE
+    private static final AbilityType[] CHARGED_ABILITIES = {
+        AbilityType.CLEAR_ROWS, AbilityType.SLOW_TIME, AbilityType.COLOR_BOMB, AbilityType.COLOR_SYNC
+    };
+
+    //We don't want to instantiate this utility class
+    private GameStateCodec() {
+    }
+
+    /**
+     * Encodes the state of a board and, if given, the RPG progress of the game.
+     *
+     * @param board The board to encode
+     * @param rpgManager The RPG mode manager, or null for modes without RPG state
+     * @return The encoded state
+     */
+    public static byte[] encode(TetrisBoard board, RPGModeManager rpgManager) {
+        BitBoard grid = board.getGrid();
+        BoardSnapshot state = board.snapshot();
+        BitWriter out = new BitWriter();
+        out.writeBits(MAGIC, 8);
+        out.writeBits(FORMAT_VERSION, 8);
+        out.writeVarint(grid.getRows());
+        out.writeVarint(grid.getCols());
+
+        // Rows above the stack are empty, so only the stack itself is stored
+        int firstRow = grid.getHighestOccupiedRow();
+        out.writeVarint(firstRow);
+        for (int row = firstRow; row < grid.getRows(); row++) {
+            for (int word = 0; word < grid.getRowWords(); word++) {
+                long mask = grid.getRowMask(row, word);
+                out.writeBits(mask, wordBits(grid.getCols(), word));
+                for (long bits = mask; bits != 0; bits &= bits - 1) {
+                    int col = word * BitBoard.WORD_BITS + Long.numberOfTrailingZeros(bits);
+                    out.writeBits(grid.getCell(row, col), COLOR_BITS);
+                }
+            }
+        }
+
+        writePiece(out, state.getBrick());
+        out.writeBits(state.getRotation(), 8);
+        out.writeVarint(zigZag(state.getX()));
+        out.writeVarint(zigZag(state.getY()));
+        writePiece(out, state.getHeldBrick());
+        out.writeBits(state.canHold() ? 1 : 0, 1);
+        writePieces(out, state.getQueuedBricks());
+        writePieces(out, state.getRecentBricks());
+        out.writeBits(state.hasPieceState() ? 1 : 0, 1);
+        if (state.hasPieceState()) {
+            out.writeBits(state.getPieceSeed(), Long.SIZE);
+            out.writeBits(state.getStreamState(), Long.SIZE);
+            out.writeVarlong(state.getRandomizerState());
+        }
+        out.writeVarint(zigZag(state.getScore()));
+        out.writeVarint(state.getTotalLinesCleared());
+
+        out.writeBits(rpgManager != null ? 1 : 0, 1);
+        if (rpgManager != null) {
+            AbilityManager abilities = rpgManager.getAbilityManager();
+            out.writeVarint(rpgManager.getRpgLevel());
+            for (AbilityType ability : CHARGED_ABILITIES) {
+                out.writeVarint(abilities.getChargesForType(ability));
+            }
+            for (AbilityType slot : abilities.getAbilitySlots()) {
+                out.writeBits(slot.ordinal(), 8);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Restores a board and, if given, the RPG progress of the game from encoded state.
+     *
+     * @param data The encoded state from {@link #encode}
+     * @param board The board to restore; it must have the same dimensions as the encoded one
+     * @param rpgManager The RPG mode manager to restore, or null to skip any stored RPG state
+     * @throws IllegalArgumentException if the data is truncated, of an unknown version,
+     *         or does not fit the board
+     */
+    public static void decode(byte[] data, TetrisBoard board, RPGModeManager rpgManager) {
+        BitReader in = new BitReader(data);
+        if (in.readBits(8) != MAGIC) {
+            throw new IllegalArgumentException("Not an encoded game state");
+        }
+        int version = (int) in.readBits(8);
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported game state version " + version);
+        }
+        int rows = in.readVarint();
+        int cols = in.readVarint();
+        BitBoard grid = board.getGrid();
+        if (rows != grid.getRows() || cols != grid.getCols()) {
+            throw new IllegalArgumentException("Encoded board is " + rows + "x" + cols
+                    + " but the target board is " + grid.getRows() + "x" + grid.getCols());
+        }
+
+        // Rebuild the row tables directly so the board restores them like any other snapshot
+        int words = grid.getRowWords();
+        long[] rowMasks = new long[rows * words];
+        int[][] colorRows = new int[rows][cols];
+        long[][] colorPlanes = new long[rows][(BitBoard.MAX_COLOR + 1) * words];
+        int firstRow = in.readVarint();
+        if (firstRow > rows) {
+            throw new IllegalArgumentException("Stack top " + firstRow + " is outside the board");
+        }
+        for (int row = firstRow; row < rows; row++) {
+            for (int word = 0; word < words; word++) {
+                long mask = in.readBits(wordBits(cols, word));
+                rowMasks[row * words + word] = mask;
+                for (long bits = mask; bits != 0; bits &= bits - 1) {
+                    int bit = Long.numberOfTrailingZeros(bits);
+                    int color = (int) in.readBits(COLOR_BITS);
+                    if (color == 0 || color > BitBoard.MAX_COLOR) {
+                        throw new IllegalArgumentException("Invalid block color " + color);
+                    }
+                    colorRows[row][word * BitBoard.WORD_BITS + bit] = color;
+                    colorPlanes[row][color * words + word] |= 1L << bit;
+                }
+            }
+        }
+        GridSnapshot gridState = new GridSnapshot(rows, cols, words);
+        gridState.capture(rowMasks, colorRows, colorPlanes);
+
+        Brick brick = readPiece(in);
+        int rotation = (int) in.readBits(8);
+        if (brick != null && rotation >= brick.getRotations().size()) {
+            throw new IllegalArgumentException("Invalid rotation " + rotation);
+        }
+        int x = unZigZag(in.readVarint());
+        int y = unZigZag(in.readVarint());
+        Brick heldBrick = readPiece(in);
+        boolean canHold = in.readBits(1) == 1;
+        List<Brick> queuedBricks = readPieces(in);
+        List<Brick> recentBricks = readPieces(in);
+        boolean hasPieceState = false;
+        long pieceSeed = 0L;
+        long streamState = 0L;
+        long randomizerState = 0L;
+        if (version >= FIRST_VERSION_WITH_PIECE_STATE) {
+            hasPieceState = in.readBits(1) == 1;
+            if (hasPieceState) {
+                pieceSeed = in.readBits(Long.SIZE);
+                streamState = in.readBits(Long.SIZE);
+                randomizerState = in.readVarlong();
+            }
+        } else if (version >= FIRST_VERSION_WITH_POSITION) {
+            // Seed and draw count, which only a replay of every draw could turn into a state
+            in.readBits(Long.SIZE);
+            in.readVarlong();
+        }
+        int score = unZigZag(in.readVarint());
+        int totalLinesCleared = in.readVarint();
+
+        AbilityType[] slots = null;
+        int[] charges = null;
+        int rpgLevel = 0;
+        boolean hasRpgState = in.readBits(1) == 1;
+        if (hasRpgState) {
+            rpgLevel = in.readVarint();
+            charges = new int[CHARGED_ABILITIES.length];
+            for (int i = 0; i < charges.length; i++) {
+                charges[i] = in.readVarint();
+            }
+            AbilityType[] types = AbilityType.values();
+            slots = new AbilityType[ABILITY_SLOTS];
+            for (int i = 0; i < slots.length; i++) {
+                int ordinal = (int) in.readBits(8);
+                if (ordinal >= types.length) {
+                    throw new IllegalArgumentException("Invalid ability " + ordinal);
+                }
+                slots[i] = types[ordinal];
+            }
+        }
+
+        // Everything was read and validated, only now touch the game
+        board.restore(new BoardSnapshot(gridState, brick, rotation, x, y, heldBrick, canHold,
+                queuedBricks, recentBricks, hasPieceState, pieceSeed, streamState, randomizerState,
+                score, totalLinesCleared));
+        if (hasRpgState && rpgManager != null) {
+            AbilityManager abilities = rpgManager.getAbilityManager();
+            rpgManager.setRpgLevel(rpgLevel);
+            for (int i = 0; i < CHARGED_ABILITIES.length; i++) {
+                abilities.setChargesForType(CHARGED_ABILITIES[i], charges[i]);
+            }
+            for (int i = 0; i < slots.length; i++) {
+                abilities.setAbilitySlot(i, slots[i]);
+            }
+        }
+    }
+
+    private static void writePiece(BitWriter out, Brick brick) {
+        out.writeBits(brick == null ? NO_PIECE : brick.getTypeId(), 8);
+    }
+
+    private static void writePieces(BitWriter out, List<Brick> bricks) {
+        out.writeVarint(bricks.size());
+        for (Brick brick : bricks) {
+            writePiece(out, brick);
+        }
+    }
+
+    private static Brick readPiece(BitReader in) {
+        int type = (int) in.readBits(8);
+        if (type == NO_PIECE) {
+            return null;
+        }
+        if (type >= ShapeTable.TYPE_COUNT) {
+            throw new IllegalArgumentException("Invalid piece type " + type);
+        }
+        return ShapeTable.brick(type);
+    }
+
+    private static List<Brick> readPieces(BitReader in) {
+        int count = in.readVarint();
+        List<Brick> bricks = new ArrayList<>(Math.min(count, 16));
+        for (int i = 0; i < count; i++) {
+            Brick brick = readPiece(in);
+            if (brick == null) {
+                throw new IllegalArgumentException("Empty slot in piece queue");
+            }
+            bricks.add(brick);
+        }
+        return List.copyOf(bricks);
+    }
+
+    private static int wordBits(int cols, int word) {
+        return Math.min(BitBoard.WORD_BITS, cols - word * BitBoard.WORD_BITS);
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Appends bits least significant first to a growing byte buffer.
+     */
+    private static final class BitWriter {
+
+        private byte[] buffer = new byte[64];
+        private int bitCount;
+
+        void writeBits(long value, int count) {
+            for (int i = 0; i < count; i++) {
+                if (bitCount >> 3 == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                if ((value >>> i & 1) != 0) {
+                    buffer[bitCount >> 3] |= (byte) (1 << (bitCount & 7));
+                }
+                bitCount++;
+            }
+        }
+
+        void writeVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                writeBits((value & 0x7F) | 0x80, 8);
+                value >>>= 7;
+            }
+            writeBits(value, 8);
+        }
+
+        void writeVarlong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeBits((value & 0x7F) | 0x80, 8);
+                value >>>= 7;
+            }
+            writeBits(value, 8);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, (bitCount + 7) >> 3);
+        }
+    }
+
+    /**
+     * Reads bits in the order {@link BitWriter} wrote them.
+     */
+    private static final class BitReader {
+
+        private final byte[] data;
+        private int bitPosition;
+
+        BitReader(byte[] data) {
+            this.data = data;
+        }
+
+        long readBits(int count) {
+            if (bitPosition + count > data.length * 8) {
+                throw new IllegalArgumentException("Encoded game state is truncated");
+            }
+            long value = 0;
+            for (int i = 0; i < count; i++) {
+                if ((data[bitPosition >> 3] >> (bitPosition & 7) & 1) != 0) {
+                    value |= 1L << i;
+                }
+                bitPosition++;
+            }
+            return value;
+        }
+
+        int readVarint() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = (int) readBits(8);
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in game state");
+        }
+
+        long readVarlong() {
+            long value = 0;
+            for (int shift = 0; shift < 70; shift += 7) {
+                long b = readBits(8);
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in game state");
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.comp2042.core;
+
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.ShapeTable;
+
+/**
+ * Seeded garbage generation for a {@link BitBoard}.
+ * Garbage shapes are grey copies of the piece rotations laid on their side, built once for
+ * every type and rotation; each one is dropped onto the skyline at a random column. Cheese
+ * rows are full grey rows with one hole each, pushed in from the floor.
+ * Generation draws from its own SplitMix64 stream, so the player's piece queue is untouched,
+ * and it allocates nothing.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+final class GarbageGenerator {
+
+    static final int GARBAGE_COLOR = BitBoard.MAX_COLOR;
+    // Rows kept free at the top of the board so new pieces can still spawn
+    static final int SPAWN_ROWS = 4;
+    // Shapes are only added while the stack stays below this row
+    static final int SAFE_STACK_ROW = 10;
+
+    private static final PieceShape[][] GREY_SHAPES = new PieceShape[ShapeTable.TYPE_COUNT][];
+
+    static {
+        for (int type = 0; type < ShapeTable.TYPE_COUNT; type++) {
+            GREY_SHAPES[type] = new PieceShape[ShapeTable.rotationCount(type)];
+            for (int rotation = 0; rotation < GREY_SHAPES[type].length; rotation++) {
+                int[][] shape = ShapeTable.get(type, rotation).getMatrix();
+                int[][] grey = new int[PieceShape.SIZE][PieceShape.SIZE];
+                for (int r = 0; r < PieceShape.SIZE; r++) {
+                    for (int c = 0; c < PieceShape.SIZE; c++) {
+                        grey[c][r] = shape[r][c] != 0 ? GARBAGE_COLOR : 0;
+                    }
+                }
+                GREY_SHAPES[type][rotation] = PieceShape.of(grey);
+            }
+        }
+    }
+
+    private long state;
+    private int lastHole = -1;
+
+    GarbageGenerator(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Restarts the garbage sequence from a seed.
+     */
+    void setSeed(long seed) {
+        state = seed;
+        lastHole = -1;
+    }
+
+    /**
+     * Gets the grey garbage shape for a piece type and rotation.
+     */
+    static PieceShape greyShape(int type, int rotation) {
+        return GREY_SHAPES[type][rotation];
+    }
+
+    /**
+     * Drops grey shapes onto the stack. Shapes that would reach into the spawn rows are skipped,
+     * and nothing is added while the stack is already above {@link #SAFE_STACK_ROW}.
+     *
+     * @param grid The board
+     * @param count The number of shapes to drop
+     * @return The number of blocks added
+     */
+    int spawnShapes(BitBoard grid, int count) {
+        if (count <= 0 || grid.getHighestOccupiedRow() < SAFE_STACK_ROW) {
+            return 0;
+        }
+        int spawned = 0;
+        for (int i = 0; i < count; i++) {
+            int type = SeededPieces.weightedType(nextInt(SeededPieces.TOTAL_WEIGHT));
+            PieceShape shape = GREY_SHAPES[type][nextInt(GREY_SHAPES[type].length)];
+            int width = shape.getMaxCol() - shape.getMinCol() + 1;
+            int x = nextInt(Math.max(1, grid.getCols() - width + 1)) - shape.getMinCol();
+            if (grid.intersects(shape, x, 0)) {
+                continue;
+            }
+            int y = grid.getDropRow(shape, x, 0);
+            if (y + shape.getMinRow() < SPAWN_ROWS) {
+                continue;
+            }
+            grid.merge(shape, x, y);
+            spawned += shape.getCellCount();
+        }
+        return spawned;
+    }
+
+    /**
+     * Pushes cheese rows in from the floor: full grey rows with one hole, the hole moving
+     * to a different column on every row. Rows that would push the stack into the spawn
+     * rows are not added.
+     *
+     * @param grid The board
+     * @param count The number of rows to add
+     * @return The number of rows added
+     */
+    int spawnCheeseRows(BitBoard grid, int count) {
+        int added = Math.min(count, grid.getHighestOccupiedRow() - SPAWN_ROWS);
+        for (int i = 0; i < added; i++) {
+            grid.insertBottomRow(nextHole(grid.getCols()), GARBAGE_COLOR);
+        }
+        return Math.max(added, 0);
+    }
+
+    /**
+     * Picks the hole column of the next cheese row.
+     */
+    int nextHole(int cols) {
+        if (cols == 1) {
+            return 0;
+        }
+        state = SeededPieces.advance(state);
+        lastHole = holeAfter(lastHole, cols, state);
+        return lastHole;
+    }
+
+    /**
+     * Maps an advanced random state to the hole column of a cheese row, never the column of
+     * the previous hole. Shared with the off-heap boards, which keep the last hole in their slot.
+     *
+     * @param lastHole The previous hole column, or -1 if there was none
+     * @param cols The number of columns, at least 2
+     * @param state The advanced SplitMix64 state
+     * @return The hole column
+     */
+    static int holeAfter(int lastHole, int cols, long state) {
+        int hole = SeededPieces.bounded(state, lastHole < 0 ? cols : cols - 1);
+        if (lastHole >= 0 && hole >= lastHole) {
+            hole++;
+        }
+        return hole;
+    }
+
+    private int nextInt(int bound) {
+        state = SeededPieces.advance(state);
+        return SeededPieces.bounded(state, bound);
+    }
+}
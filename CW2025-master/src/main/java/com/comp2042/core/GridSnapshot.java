@@ -0,0 +1,60 @@
+package com.comp2042.core;
+
+/**
+ * Copy-on-write snapshot of the contents of a {@link BitBoard}.
+ * The row table (row masks plus color row and color bitplane references) is filled in
+ * lazily by the board just before its first change after the snapshot was taken; the rows
+ * themselves are shared with the board and never modified once captured.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+final class GridSnapshot {
+
+    private final int rows;
+    private final int cols;
+    private final int words;
+    private long[] rowMasks;
+    private int[][] colorRows;
+    private long[][] colorPlanes;
+
+    GridSnapshot(int rows, int cols, int words) {
+        this.rows = rows;
+        this.cols = cols;
+        this.words = words;
+    }
+
+    void capture(long[] rowMasks, int[][] colorRows, long[][] colorPlanes) {
+        this.rowMasks = rowMasks;
+        this.colorRows = colorRows;
+        this.colorPlanes = colorPlanes;
+    }
+
+    boolean isCaptured() {
+        return rowMasks != null;
+    }
+
+    int getRows() {
+        return rows;
+    }
+
+    int getCols() {
+        return cols;
+    }
+
+    int getWords() {
+        return words;
+    }
+
+    long[] getRowMasks() {
+        return rowMasks;
+    }
+
+    int[][] getColorRows() {
+        return colorRows;
+    }
+
+    long[][] getColorPlanes() {
+        return colorPlanes;
+    }
+}
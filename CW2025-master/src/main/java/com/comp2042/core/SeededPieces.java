@@ -0,0 +1,61 @@
+package com.comp2042.core;
+
+import com.comp2042.logic.bricks.ShapeTable;
+
+/**
+ * Seeded piece dealing shared by the simulation boards, which keep their random state as a
+ * plain {@code long} instead of a {@link java.util.Random} object.
+ * The state is a SplitMix64 counter; piece types use the same weights as
+ * {@code RandomBrickGenerator} (I gets 6, every other type 4).
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+final class SeededPieces {
+
+    static final int TOTAL_WEIGHT = 30;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int I_WEIGHT = 6;
+    private static final int OTHER_WEIGHT = 4;
+
+    //We don't want to instantiate this utility class
+    private SeededPieces() {
+    }
+
+    /**
+     * Advances a SplitMix64 state by one step.
+     */
+    static long advance(long state) {
+        return state + GOLDEN_GAMMA;
+    }
+
+    /**
+     * Derives the seed of one game of a batch from a shared seed.
+     * The result is mixed: seeds one gamma apart would give the same sequence shifted by one
+     * piece, so neighbouring games would deal nearly the same pieces.
+     */
+    static long seedFor(long seed, int index) {
+        return mix(seed + index * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Maps an advanced state to a uniform value below the bound.
+     */
+    static int bounded(long state, int bound) {
+        return (int) (((mix(state) >>> 32) * bound) >>> 32);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Maps a roll below {@link #TOTAL_WEIGHT} to a piece type.
+     */
+    static int weightedType(int roll) {
+        return roll < I_WEIGHT ? ShapeTable.I : 1 + (roll - I_WEIGHT) / OTHER_WEIGHT;
+    }
+}
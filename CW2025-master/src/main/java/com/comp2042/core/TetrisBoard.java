@@ -1,19 +1,17 @@
 package com.comp2042.core;
 
 import com.comp2042.logic.bricks.Brick;
-import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.PieceShape;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.Randomizer;
+import com.comp2042.logic.bricks.RandomizerType;
 import com.comp2042.models.Score;
 import com.comp2042.models.ViewData;
 import com.comp2042.models.ClearRow;
-import com.comp2042.models.NextShapeInfo;
-import com.comp2042.utils.MatrixOperations;
 
 import java.awt.*;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Implementation of the Board interface for Tetris game logic.
@@ -25,105 +23,138 @@ import java.util.Random;
  */
 public class TetrisBoard implements Board {
 
+    /** Number of rows of the standard board. */
+    public static final int DEFAULT_ROWS = 25;
+    /** Number of columns of the standard board. */
+    public static final int DEFAULT_COLS = 10;
+    /** Rows above the visible playfield; new pieces spawn here. */
+    private static final int HIDDEN_ROWS = 2;
+
     private final int rows;
     private final int cols;
-    private final BrickGenerator brickGenerator;
+    private final int spawnX;
+    private final RandomBrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
-    private int[][] currentGameMatrix;
-    private Point currentOffset;
+    private final BitBoard grid;
+    private final GarbageGenerator garbageGenerator;
+    private GameRandom random;
+    private int currentX;
+    private int currentY;
     private final Score score;
     private int totalLinesCleared = 0; // Track total lines cleared for Sprint mode
     private Brick heldBrick = null; // Currently held piece
     private boolean canHold = true; // Whether we can hold this turn (prevents multiple holds per piece)
+    private long pieceKey; // Zobrist key of the active piece, rotation and offset
+    private long heldKey; // Zobrist key of the hold slot (0 when empty)
 
     /**
      * Constructs a new TetrisBoard with the specified dimensions.
      * 
-     * @param rows The number of rows in the game board
-     * @param cols The number of columns in the game board
+     * @param rows The number of rows in the game board, including the hidden spawn rows
+     * @param cols The number of columns in the game board (up to {@value BitBoard#MAX_COLUMNS})
      */
     public TetrisBoard(int rows, int cols) {
+        this(rows, cols, GameRandom.fromEntropy());
+    }
+
+    /**
+     * Constructs a new TetrisBoard whose first game is dealt from a seed.
+     * 
+     * @param rows The number of rows in the game board, including the hidden spawn rows
+     * @param cols The number of columns in the game board (up to {@value BitBoard#MAX_COLUMNS})
+     * @param seed The seed of the first game
+     */
+    public TetrisBoard(int rows, int cols, long seed) {
+        this(rows, cols, new GameRandom(seed));
+    }
+
+    private TetrisBoard(int rows, int cols, GameRandom random) {
         this.rows = rows;
         this.cols = cols;
-        currentGameMatrix = new int[rows][cols];
-        brickGenerator = new RandomBrickGenerator();
+        // Center the 4-wide piece box, leaning left on even widths (column 4 on a 10-wide board)
+        this.spawnX = cols / 2 - 1;
+        grid = new BitBoard(rows, cols);
+        this.random = random;
+        brickGenerator = new RandomBrickGenerator(random.pieceSeed());
         brickRotator = new BrickRotator();
+        garbageGenerator = new GarbageGenerator(random.garbage().nextLong());
         score = new Score();
     }
 
     @Override
     public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(0, 1);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(0, 1);
     }
 
 
     @Override
     public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(-1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(-1, 0);
     }
 
     @Override
     public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
+        return tryMove(1, 0);
+    }
+
+    /**
+     * Moves the current piece by the given offset if it fits on the live board.
+     * Works on primitive coordinates so a move allocates nothing.
+     * 
+     * @param dx The column offset
+     * @param dy The row offset
+     * @return true if the piece was moved, false if it is blocked
+     */
+    private boolean tryMove(int dx, int dy) {
+        int newX = currentX + dx;
+        int newY = currentY + dy;
+        if (grid.intersects(brickRotator.getCurrentPieceShape(), newX, newY)) {
             return false;
-        } else {
-            currentOffset = p;
-            return true;
         }
+        currentX = newX;
+        currentY = newY;
+        updatePieceKey();
+        return true;
     }
 
     @Override
     public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        
-        // Try rotation at current position first
-        if (!MatrixOperations.intersect(currentMatrix, nextShape.getShape(), (int) currentOffset.getX(), (int) currentOffset.getY())) {
-            brickRotator.setCurrentShape(nextShape.getPosition());
-            return true;
-        }
-        
-        // Wall-kick system: Try different positions if rotation fails
-        Point[] kickTests = {
-            new Point(-1, 0),  // Try left
-            new Point(1, 0),   // Try right
-            new Point(-2, 0),  // Try further left
-            new Point(2, 0),   // Try further right
-            new Point(0, -1),  // Try up
-            new Point(-1, -1), // Try left-up
-            new Point(1, -1),  // Try right-up
-        };
+        return rotateBrick(WallKicks.COUNTER_CLOCKWISE);
+    }
+
+    @Override
+    public boolean rotateRightBrick() {
+        return rotateBrick(WallKicks.CLOCKWISE);
+    }
+
+    @Override
+    public boolean rotate180Brick() {
+        return rotateBrick(WallKicks.HALF_TURN);
+    }
+
+    /**
+     * Rotates the current piece, trying the kick offsets of its table in order.
+     * 
+     * @param turn The turn to apply, one of the {@link WallKicks} turn constants
+     * @return true if the piece was rotated, false if every kick position was blocked
+     */
+    private boolean rotateBrick(int turn) {
+        int type = brickRotator.getBrick().getTypeId();
+        int position = brickRotator.getCurrentPosition();
+        int nextPosition = WallKicks.targetIndex(type, position, brickRotator.getRotationCount(), turn);
+        PieceShape nextShape = brickRotator.getPieceShape(nextPosition);
+        int[] kicks = WallKicks.offsets(type, position, turn);
         
-        for (Point kick : kickTests) {
-            int testX = (int) currentOffset.getX() + kick.x;
-            int testY = (int) currentOffset.getY() + kick.y;
+        // Try rotation at current position first, then the wall-kick offsets
+        for (int i = 0; i < kicks.length; i += 2) {
+            int testX = currentX + kicks[i];
+            int testY = currentY + kicks[i + 1];
             
-            if (!MatrixOperations.intersect(currentMatrix, nextShape.getShape(), testX, testY)) {
-                // Rotation successful with wall-kick
-                currentOffset = new Point(testX, testY);
-                brickRotator.setCurrentShape(nextShape.getPosition());
+            if (!grid.intersects(nextShape, testX, testY)) {
+                currentX = testX;
+                currentY = testY;
+                brickRotator.setCurrentShape(nextPosition);
+                updatePieceKey();
                 return true;
             }
         }
@@ -134,11 +165,10 @@ public class TetrisBoard implements Board {
 
     @Override
     public int hardDropBrick() {
-        int dropDistance = 0;
-        // Keep moving down until we can't move anymore
-        while (moveBrickDown()) {
-            dropDistance++;
-        }
+        int landingY = getLandingRow();
+        int dropDistance = landingY - currentY;
+        currentY = landingY;
+        updatePieceKey();
         return dropDistance; // Return how far we dropped for bonus points
     }
 
@@ -146,10 +176,17 @@ public class TetrisBoard implements Board {
     public boolean createNewBrick() {
         Brick currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
-        // Fix: Start at top center (X=4 for center of 10-wide board, Y=0 for top)
-        currentOffset = new Point(4, 0);
+        // Start at top center of the board
+        currentX = spawnX;
+        currentY = 0;
         canHold = true; // Reset hold ability when new piece is created
-        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        updatePieceKey();
+        return grid.intersects(brickRotator.getCurrentPieceShape(), currentX, currentY);
+    }
+    
+    @Override
+    public boolean isBrickBlocked() {
+        return grid.intersects(brickRotator.getCurrentPieceShape(), currentX, currentY);
     }
     
     @Override
@@ -175,8 +212,11 @@ public class TetrisBoard implements Board {
         }
         
         // Reset position to top center
-        currentOffset = new Point(4, 0);
+        currentX = spawnX;
+        currentY = 0;
         canHold = false; // Can't hold again until next piece
+        heldKey = ZobristKeys.held(heldBrick.getTypeId());
+        updatePieceKey();
         
         return true;
     }
@@ -192,7 +232,21 @@ public class TetrisBoard implements Board {
 
     @Override
     public int[][] getBoardMatrix() {
-        return currentGameMatrix;
+        return grid.getMatrix();
+    }
+
+    @Override
+    public int getHiddenRows() {
+        return Math.min(HIDDEN_ROWS, rows - 1);
+    }
+
+    /**
+     * Gets the bitboard backing this board.
+     * 
+     * @return The BitBoard holding occupancy masks and block colors
+     */
+    BitBoard getGrid() {
+        return grid;
     }
 
     @Override
@@ -201,22 +255,21 @@ public class TetrisBoard implements Board {
         
         // Get next 4 bricks for preview
         List<int[][]> nextBricksList = new ArrayList<>();
-        RandomBrickGenerator randomGen = (RandomBrickGenerator) brickGenerator;
         for (int i = 0; i < 4; i++) {
-            Brick next = randomGen.peekNextBrick(i);
+            Brick next = brickGenerator.peekNextBrick(i);
             if (next != null) {
-                nextBricksList.add(next.getShapeMatrix().get(0));
+                nextBricksList.add(next.getRotations().get(0).getMatrix());
             }
         }
         
         // Get held piece data (if any)
         int[][] heldBrickData = null;
         if (heldBrick != null) {
-            heldBrickData = heldBrick.getShapeMatrix().get(0);
+            heldBrickData = heldBrick.getRotations().get(0).getMatrix();
         }
         
-        return new ViewData(brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY(), 
-                           brickGenerator.getNextBrick().getShapeMatrix().get(0), nextBricksList, ghostPos, heldBrickData);
+        return new ViewData(brickRotator.getCurrentShape(), currentX, currentY, 
+                           brickGenerator.getNextBrick().getRotations().get(0).getMatrix(), nextBricksList, ghostPos, heldBrickData);
     }
 
     /**
@@ -224,42 +277,38 @@ public class TetrisBoard implements Board {
      * @return Point representing the ghost piece position (clamped to visible board bounds)
      */
     public Point getGhostPiecePosition() {
-        Point ghostPosition = new Point(currentOffset);
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        int[][] pieceShape = brickRotator.getCurrentShape();
-        
-        // Keep moving down until we hit something
-        while (true) {
-            Point testPosition = new Point(ghostPosition);
-            testPosition.translate(0, 1);
-            
-            if (MatrixOperations.intersect(currentMatrix, pieceShape, 
-                    (int) testPosition.getX(), (int) testPosition.getY())) {
-                break; // Can't move further down
-            }
-            
-            ghostPosition = testPosition;
-        }
-        
         // Return the true landing position without clamping
         // The rendering will handle clipping to visible area if needed
         // This ensures ghost always shows where piece will actually land
-        return ghostPosition;
+        return new Point(currentX, getLandingRow());
+    }
+
+    /**
+     * Finds the row the current piece would come to rest on if dropped straight down.
+     * 
+     * @return The Y coordinate of the landing position
+     */
+    private int getLandingRow() {
+        // Column heights and the piece's bottom profile give the answer without stepping down
+        return grid.getDropRow(brickRotator.getCurrentPieceShape(), currentX, currentY);
     }
 
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        grid.merge(brickRotator.getCurrentPieceShape(), currentX, currentY);
     }
 
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
+        int linesRemoved = grid.clearFullRows();
+        if (linesRemoved == 0) {
+            // Most locks complete no line: reuse one result instead of allocating
+            return ClearRow.NONE;
+        }
         // Track total lines cleared for Sprint mode
-        totalLinesCleared += clearRow.getLinesRemoved();
-        return clearRow;
-
+        totalLinesCleared += linesRemoved;
+        return new ClearRow(linesRemoved, grid.getClearedRowOffset(), grid.getClearedRowMask(),
+                50 * linesRemoved * linesRemoved);
     }
     
     /**
@@ -271,6 +320,98 @@ public class TetrisBoard implements Board {
     public int getTotalLinesCleared() {
         return totalLinesCleared;
     }
+
+    @Override
+    public int getColumnHeight(int col) {
+        return grid.getColumnHeight(col);
+    }
+
+    @Override
+    public int getColumnHoles(int col) {
+        return grid.getColumnHoles(col);
+    }
+
+    @Override
+    public int getStackHeight() {
+        return grid.getRows() - grid.getHighestOccupiedRow();
+    }
+
+    @Override
+    public int getTotalHoles() {
+        return grid.getTotalHoles();
+    }
+
+    @Override
+    public DirtyRegion getDirtyRegion() {
+        return grid.getDirtyRegion();
+    }
+
+    @Override
+    public long getStateHash() {
+        long hash = grid.getOccupancyHash() ^ pieceKey ^ heldKey;
+        Brick nextBrick = brickGenerator.getNextBrick();
+        if (nextBrick != null) {
+            hash ^= ZobristKeys.next(nextBrick.getTypeId());
+        }
+        if (canHold) {
+            hash ^= ZobristKeys.CAN_HOLD;
+        }
+        return hash;
+    }
+
+    /**
+     * Recomputes the Zobrist key of the active piece after it moved, rotated or changed.
+     */
+    private void updatePieceKey() {
+        Brick brick = brickRotator.getBrick();
+        pieceKey = brick == null ? 0L
+                : ZobristKeys.piece(brick.getTypeId(), brickRotator.getCurrentPosition(), currentX, currentY);
+    }
+
+    @Override
+    public BoardSnapshot snapshot() {
+        return new BoardSnapshot(grid.snapshot(), brickRotator.getBrick(), brickRotator.getCurrentPosition(),
+                currentX, currentY, heldBrick, canHold, brickGenerator.getQueuedBricks(),
+                brickGenerator.getRecentBricks(), true, random.getSeed(), brickGenerator.getStreamState(),
+                brickGenerator.getRandomizerState(), score.get(), totalLinesCleared);
+    }
+
+    @Override
+    public void restore(BoardSnapshot snapshot) {
+        grid.restore(snapshot.getGrid());
+        if (snapshot.getBrick() != null) {
+            brickRotator.setBrick(snapshot.getBrick());
+            brickRotator.setCurrentShape(snapshot.getRotation());
+        }
+        currentX = snapshot.getX();
+        currentY = snapshot.getY();
+        heldBrick = snapshot.getHeldBrick();
+        canHold = snapshot.canHold();
+        heldKey = heldBrick == null ? 0L : ZobristKeys.held(heldBrick.getTypeId());
+        updatePieceKey();
+        restorePieces(snapshot);
+        score.restore(snapshot.getScore());
+        totalLinesCleared = snapshot.getTotalLinesCleared();
+    }
+    
+    /**
+     * Returns the piece sequence to the snapshot's state, so the pieces dealt after the
+     * restored queue are the ones the recorded game dealt. The states are set directly,
+     * so restoring costs the same however many pieces were dealt.
+     */
+    private void restorePieces(BoardSnapshot snapshot) {
+        if (!snapshot.hasPieceState()) {
+            brickGenerator.restoreQueue(snapshot.getQueuedBricks(), snapshot.getRecentBricks());
+            return;
+        }
+        if (snapshot.getPieceSeed() != random.getSeed()) {
+            // Snapshot of another game; its seed is kept for replays and randomizer switches
+            random = new GameRandom(snapshot.getPieceSeed());
+            brickGenerator.reset(random.pieceSeed());
+        }
+        brickGenerator.restore(snapshot.getStreamState(), snapshot.getRandomizerState(),
+                snapshot.getQueuedBricks(), snapshot.getRecentBricks());
+    }
     
     /**
      * Clears the bottom N rows and drops all blocks above down.
@@ -285,41 +426,10 @@ public class TetrisBoard implements Board {
         }
         
         int rowsToRemove = Math.min(numRows, rows);
-        int[][] newMatrix = new int[rows][cols];
-        int destinationRow = rows - 1;
-        boolean anyBlocksCleared = false;
-
-        for (int sourceRow = rows - 1; sourceRow >= 0; sourceRow--) {
-            boolean removeThisRow = (rows - 1 - sourceRow) < rowsToRemove;
-
-            if (removeThisRow) {
-                boolean hasBlocks = false;
-                for (int col = 0; col < cols; col++) {
-                    if (currentGameMatrix[sourceRow][col] != 0) {
-                        hasBlocks = true;
-                        break;
-                    }
-                }
-
-                if (hasBlocks) {
-                    anyBlocksCleared = true;
-                    score.add(100);
-                    totalLinesCleared++;
-                }
-            } else {
-                System.arraycopy(currentGameMatrix[sourceRow], 0, newMatrix[destinationRow], 0, cols);
-                destinationRow--;
-            }
-        }
-
-        // Fill remaining rows (if any) at the top with zeros
-        while (destinationRow >= 0) {
-            Arrays.fill(newMatrix[destinationRow], 0);
-            destinationRow--;
-        }
-
-        currentGameMatrix = newMatrix;
-        System.out.println("✅ Cleared bottom " + rowsToRemove + " rows. Blocks dropped down.");
+        int nonEmptyRowsRemoved = grid.removeBottomRows(rowsToRemove);
+        boolean anyBlocksCleared = nonEmptyRowsRemoved > 0;
+        score.add(100 * nonEmptyRowsRemoved);
+        totalLinesCleared += nonEmptyRowsRemoved;
         return anyBlocksCleared;
     }
     
@@ -328,15 +438,7 @@ public class TetrisBoard implements Board {
         if (colorValue <= 0) {
             return 0;
         }
-        int removedCount = 0;
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                if (currentGameMatrix[row][col] == colorValue) {
-                    currentGameMatrix[row][col] = 0;
-                    removedCount++;
-                }
-            }
-        }
+        int removedCount = grid.clearColor(colorValue);
         if (removedCount > 0) {
             collapseColumns();
             score.add(removedCount * 50);
@@ -349,15 +451,7 @@ public class TetrisBoard implements Board {
         if (colorValue <= 0) {
             return 0;
         }
-        int changed = 0;
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                if (currentGameMatrix[row][col] != 0 && currentGameMatrix[row][col] != colorValue) {
-                    currentGameMatrix[row][col] = colorValue;
-                    changed++;
-                }
-            }
-        }
+        int changed = grid.recolor(colorValue);
         return changed;
     }
     
@@ -366,22 +460,7 @@ public class TetrisBoard implements Board {
      * Moves all non-zero blocks down to fill empty spaces in each column.
      */
     private void collapseColumns() {
-        for (int col = 0; col < cols; col++) {
-            int writeRow = rows - 1;
-            for (int row = rows - 1; row >= 0; row--) {
-                int cell = currentGameMatrix[row][col];
-                if (cell != 0) {
-                    currentGameMatrix[writeRow][col] = cell;
-                    if (writeRow != row) {
-                        currentGameMatrix[row][col] = 0;
-                    }
-                    writeRow--;
-                }
-            }
-            for (int row = writeRow; row >= 0; row--) {
-                currentGameMatrix[row][col] = 0;
-            }
-        }
+        grid.collapseColumns();
     }
 
     @Override
@@ -390,125 +469,87 @@ public class TetrisBoard implements Board {
     }
 
 
+    /**
+     * Starts a new game dealt from a fresh random seed.
+     */
     @Override
     public void newGame() {
-        currentGameMatrix = new int[rows][cols];
+        newGame(GameRandom.fromEntropy());
+    }
+
+    /**
+     * Starts a new game whose pieces and garbage are drawn from a seed, so equal seeds
+     * replay the same game for equal inputs.
+     * 
+     * @param seed The game seed
+     */
+    public void newGame(long seed) {
+        newGame(new GameRandom(seed));
+    }
+
+    /**
+     * Starts a new game drawing from the given streams.
+     * 
+     * @param random The random streams of the game
+     */
+    public void newGame(GameRandom random) {
+        this.random = random;
+        brickGenerator.reset(random.pieceSeed());
+        garbageGenerator.setSeed(random.garbage().nextLong());
+        grid.clear();
         score.reset();
         totalLinesCleared = 0; // Reset lines cleared counter
         heldBrick = null; // Clear held piece
+        heldKey = 0L;
         canHold = true; // Reset hold ability
         createNewBrick();
     }
     
     /**
-     * Spawn random garbage brick shapes that drop from the top and land on existing blocks.
-     * Complete brick shapes (I, O, T, S, Z, J, L) fall down and stack on top of existing blocks.
-     * @param numBlocks number of garbage bricks to spawn (each brick is a complete shape)
-     * @param level current RPG level (affects spawn pattern)
-     * @return number of blocks actually spawned (counts individual blocks in each brick)
+     * Drops grey garbage shapes onto the stack. Each shape is a piece rotation laid on its side,
+     * dropped at a random column onto the skyline; shapes that would reach into the top four
+     * rows are skipped, and nothing is added while the stack is above row 10.
+     * Shapes come from the board's own seeded garbage stream, not from the piece queue.
+     * @param numBlocks number of garbage shapes to drop
+     * @param level current RPG level (the pattern is the same at every level)
+     * @return number of blocks actually spawned (counts individual blocks in each shape)
      */
     @Override
     public int spawnGarbageBlocks(int numBlocks, int level) {
-        if (numBlocks <= 0) {
-            return 0;
-        }
-        
-        // SAFETY CHECK: Find the highest occupied row
-        int highestOccupiedRow = rows;
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                if (currentGameMatrix[row][col] != 0) {
-                    highestOccupiedRow = row;
-                    break;
-                }
-            }
-            if (highestOccupiedRow < rows) {
-                break;
-            }
-        }
-        
-        // If blocks are already too high (above row 10), don't add more to prevent game over
-        if (highestOccupiedRow < 10) {
-            System.out.println("⚠️ Board is too high (row " + highestOccupiedRow + "), skipping garbage block spawn to prevent game over");
-            return 0;
-        }
-        
-        int totalBlocksSpawned = 0;
-        Random random = new Random();
-        
-        // Add complete brick shapes horizontally as rows
-        // numBlocks represents how many brick shapes to place horizontally
-        for (int brickNum = 0; brickNum < numBlocks; brickNum++) {
-            // Generate a random brick shape
-            Brick randomBrick = brickGenerator.getBrick();
-            List<int[][]> brickShapes = randomBrick.getShapeMatrix();
-            
-            // Pick a random rotation (some will be horizontal, some vertical)
-            int[][] brickShape = brickShapes.get(random.nextInt(brickShapes.size()));
-            
-            // Convert brick shape to grey (color 8)
-            int[][] greyBrickShape = new int[brickShape.length][brickShape[0].length];
-            for (int i = 0; i < brickShape.length; i++) {
-                for (int j = 0; j < brickShape[i].length; j++) {
-                    if (brickShape[i][j] != 0) {
-                        greyBrickShape[i][j] = 8; // Grey color for garbage
-                    }
-                }
-            }
-            
-            // Calculate which row to place this brick (above the highest existing block)
-            int targetRow = highestOccupiedRow - 1 - (brickNum / 2); // Place 2 bricks per row
-            
-            // Make sure we're not placing in the top 4 rows (leave space for new pieces)
-            if (targetRow < 4) {
-                System.out.println("⚠️ Skipping brick placement - row " + targetRow + " too high");
-                continue;
-            }
-            
-            // Find a random X position to place the brick horizontally
-            int brickWidth = greyBrickShape[0].length;
-            int maxX = cols - brickWidth;
-            if (maxX < 0) {
-                maxX = 0; // Brick is wider than board, try anyway
-            }
-            int spawnX = random.nextInt(Math.max(1, maxX + 1));
-            
-            // Check if brick would fit at this position (horizontally in the row)
-            boolean canPlace = true;
-            for (int i = 0; i < greyBrickShape.length; i++) {
-                for (int j = 0; j < greyBrickShape[i].length; j++) {
-                    if (greyBrickShape[i][j] != 0) {
-                        int targetCol = spawnX + i;
-                        int targetRowForBlock = targetRow + j;
-                        if (targetCol >= cols || targetRowForBlock >= rows || targetRowForBlock < 0) {
-                            canPlace = false;
-                            break;
-                        }
-                        if (currentGameMatrix[targetRowForBlock][targetCol] != 0) {
-                            canPlace = false;
-                            break;
-                        }
-                    }
-                }
-                if (!canPlace) break;
-            }
-            
-            // Place the brick shape horizontally if it fits
-            if (canPlace) {
-                for (int i = 0; i < greyBrickShape.length; i++) {
-                    for (int j = 0; j < greyBrickShape[i].length; j++) {
-                        if (greyBrickShape[i][j] != 0) {
-                            int targetCol = spawnX + i;
-                            int targetRowForBlock = targetRow + j;
-                            currentGameMatrix[targetRowForBlock][targetCol] = 8; // Grey color
-                            totalBlocksSpawned++;
-                        }
-                    }
-                }
-            }
-        }
-        
-        System.out.println("🗑️ Added " + numBlocks + " complete brick shapes horizontally (" + totalBlocksSpawned + " total blocks) at level " + level);
-        return totalBlocksSpawned;
+        return garbageGenerator.spawnShapes(grid, numBlocks);
+    }
+    
+    @Override
+    public int spawnCheeseRows(int count) {
+        return garbageGenerator.spawnCheeseRows(grid, count);
+    }
+    
+    /**
+     * Switches the randomizer that deals the pieces, e.g. to play under tournament rules,
+     * and restarts the piece queue with it. The choice is kept for later games.
+     * 
+     * @param randomizer The randomizer, see {@link RandomizerType#create()}
+     */
+    public void setRandomizer(Randomizer randomizer) {
+        brickGenerator.setRandomizer(randomizer);
+    }
+
+    /**
+     * Gets the random streams of the current game, e.g. to read its seed for a replay or to
+     * draw the RPG ability offers.
+     * 
+     * @return The random streams of the current game
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Restarts the garbage sequence, so the same seed spawns the same garbage.
+     * 
+     * @param seed The seed of the garbage stream
+     */
+    public void setGarbageSeed(long seed) {
+        garbageGenerator.setSeed(seed);
     }
 }
@@ -0,0 +1,134 @@
+package com.comp2042.core;
+
+import com.comp2042.logic.bricks.ShapeTable;
+
+/**
+ * Static SRS-style wall kick tables used when rotating a piece.
+ * Rotation indices of the shape table are mapped to SRS orientations
+ * (0 = spawn, 1 = R, 2 = 2, 3 = L) so the standard kick data can be used: one table for
+ * J, L, S, T and Z, a separate one for the I piece and a table for 180 degree turns.
+ * Kicks are stored as flat {dx0, dy0, dx1, dy1, ...} arrays with y pointing down the board,
+ * so a rotation attempt reads primitive offsets and never allocates.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+final class WallKicks {
+
+    /** Quarter turn clockwise, added to the SRS orientation. */
+    static final int CLOCKWISE = 1;
+    /** Half turn, added to the SRS orientation. */
+    static final int HALF_TURN = 2;
+    /** Quarter turn counter-clockwise, added to the SRS orientation. */
+    static final int COUNTER_CLOCKWISE = 3;
+
+    // SRS orientation of each rotation index in ShapeTable, per piece type (I, J, L, O, S, T, Z)
+    private static final int[][] SRS_STATES = {
+        {0, 3},
+        {2, 1, 0, 3},
+        {2, 3, 0, 1},
+        {0},
+        {2, 3},
+        {2, 1, 0, 3},
+        {2, 3},
+    };
+
+    // Offsets tried by bricks without a table entry: in place, sideways, then up
+    private static final int[] BASIC_KICKS = {0, 0, -1, 0, 1, 0, -2, 0, 2, 0, 0, -1, -1, -1, 1, -1};
+
+    private static final int[] NO_KICKS = {0, 0};
+
+    // Indexed by from * 4 + to; quarter turns only
+    private static final int[][] JLSTZ_KICKS = new int[16][];
+    private static final int[][] I_KICKS = new int[16][];
+    // Indexed by from; the target is always from + 2
+    private static final int[][] HALF_TURN_KICKS = {
+        {0, 0, 0, -1, 1, -1, -1, -1, 1, 0, -1, 0},   // 0 -> 2
+        {0, 0, 1, 0, 1, -2, 1, -1, 0, -2, 0, -1},    // R -> L
+        {0, 0, 0, 1, -1, 1, 1, 1, -1, 0, 1, 0},      // 2 -> 0
+        {0, 0, -1, 0, -1, -2, -1, -1, 0, -2, 0, -1}, // L -> R
+    };
+    private static final int[][] INDEX_OF_STATE = new int[SRS_STATES.length][4];
+
+    static {
+        JLSTZ_KICKS[0 * 4 + 1] = new int[] {0, 0, -1, 0, -1, -1, 0, 2, -1, 2};
+        JLSTZ_KICKS[1 * 4 + 0] = new int[] {0, 0, 1, 0, 1, 1, 0, -2, 1, -2};
+        JLSTZ_KICKS[1 * 4 + 2] = new int[] {0, 0, 1, 0, 1, 1, 0, -2, 1, -2};
+        JLSTZ_KICKS[2 * 4 + 1] = new int[] {0, 0, -1, 0, -1, -1, 0, 2, -1, 2};
+        JLSTZ_KICKS[2 * 4 + 3] = new int[] {0, 0, 1, 0, 1, -1, 0, 2, 1, 2};
+        JLSTZ_KICKS[3 * 4 + 2] = new int[] {0, 0, -1, 0, -1, 1, 0, -2, -1, -2};
+        JLSTZ_KICKS[3 * 4 + 0] = new int[] {0, 0, -1, 0, -1, 1, 0, -2, -1, -2};
+        JLSTZ_KICKS[0 * 4 + 3] = new int[] {0, 0, 1, 0, 1, -1, 0, 2, 1, 2};
+
+        I_KICKS[0 * 4 + 1] = new int[] {0, 0, -2, 0, 1, 0, -2, 1, 1, -2};
+        I_KICKS[1 * 4 + 0] = new int[] {0, 0, 2, 0, -1, 0, 2, -1, -1, 2};
+        I_KICKS[1 * 4 + 2] = new int[] {0, 0, -1, 0, 2, 0, -1, -2, 2, 1};
+        I_KICKS[2 * 4 + 1] = new int[] {0, 0, 1, 0, -2, 0, 1, 2, -2, -1};
+        I_KICKS[2 * 4 + 3] = new int[] {0, 0, 2, 0, -1, 0, 2, -1, -1, 2};
+        I_KICKS[3 * 4 + 2] = new int[] {0, 0, -2, 0, 1, 0, -2, 1, 1, -2};
+        I_KICKS[3 * 4 + 0] = new int[] {0, 0, 1, 0, -2, 0, 1, 2, -2, -1};
+        I_KICKS[0 * 4 + 3] = new int[] {0, 0, -1, 0, 2, 0, -1, -2, 2, 1};
+
+        // Two-state pieces show the same shape for opposite orientations (0 and 2, R and L)
+        for (int type = 0; type < SRS_STATES.length; type++) {
+            int[] states = SRS_STATES[type];
+            for (int state = 0; state < 4; state++) {
+                for (int index = 0; index < states.length; index++) {
+                    if (states[index] % states.length == state % states.length) {
+                        INDEX_OF_STATE[type][state] = index;
+                    }
+                }
+            }
+        }
+    }
+
+    //We don't want to instantiate this utility class
+    private WallKicks() {
+    }
+
+    /**
+     * Gets the rotation index a piece ends up in after a turn.
+     *
+     * @param type The piece type from {@code Brick.getTypeId()}, or -1 for bricks without kick data
+     * @param index The current rotation index
+     * @param rotationCount The number of rotation states of the piece
+     * @param turn {@link #CLOCKWISE}, {@link #HALF_TURN} or {@link #COUNTER_CLOCKWISE}
+     * @return The target rotation index
+     */
+    static int targetIndex(int type, int index, int rotationCount, int turn) {
+        if (!hasTable(type)) {
+            // Bricks without SRS data keep the historical "next index" rotation
+            int step = turn == COUNTER_CLOCKWISE ? 1 : turn == CLOCKWISE ? rotationCount - 1 : rotationCount / 2;
+            return (index + step) % rotationCount;
+        }
+        return INDEX_OF_STATE[type][(SRS_STATES[type][index] + turn) & 3];
+    }
+
+    /**
+     * Gets the kick offsets to try, in order, for a turn.
+     * The returned array is shared and must not be modified.
+     *
+     * @param type The piece type from {@code Brick.getTypeId()}, or -1 for bricks without kick data
+     * @param index The current rotation index
+     * @param turn {@link #CLOCKWISE}, {@link #HALF_TURN} or {@link #COUNTER_CLOCKWISE}
+     * @return Flat {dx0, dy0, dx1, dy1, ...} offsets, starting with the unkicked position
+     */
+    static int[] offsets(int type, int index, int turn) {
+        if (!hasTable(type)) {
+            return BASIC_KICKS;
+        }
+        if (type == ShapeTable.O) {
+            return NO_KICKS;
+        }
+        int from = SRS_STATES[type][index];
+        if (turn == HALF_TURN) {
+            return HALF_TURN_KICKS[from];
+        }
+        int to = (from + turn) & 3;
+        return type == ShapeTable.I ? I_KICKS[from * 4 + to] : JLSTZ_KICKS[from * 4 + to];
+    }
+
+    private static boolean hasTable(int type) {
+        return type >= 0 && type < SRS_STATES.length;
+    }
+}
@@ -0,0 +1,82 @@
+package com.comp2042.core;
+
+/**
+ * Fixed-seed Zobrist keys for hashing game state.
+ * Every key is derived from its coordinates with the SplitMix64 finalizer, which behaves like
+ * a table of random 64-bit numbers generated from a fixed seed but works for any board size
+ * and needs no storage. Keys are stable across runs, so hashes can be compared between
+ * replays and test runs.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+final class ZobristKeys {
+
+    private static final long SEED = 0x2545F4914F6CDD1DL;
+
+    // Separate key domains so a cell key can never equal a piece or hold key
+    private static final long CELL = 1L << 56;
+    private static final long PIECE = 2L << 56;
+    private static final long HELD = 3L << 56;
+    private static final long NEXT = 4L << 56;
+
+    /** Key mixed in while the active piece may still be held. */
+    static final long CAN_HOLD = mix(5L << 56);
+
+    //We don't want to instantiate this utility class
+    private ZobristKeys() {
+    }
+
+    /**
+     * Gets the key of an occupied board cell.
+     *
+     * @param row The row index
+     * @param col The column index
+     * @return The cell key
+     */
+    static long cell(int row, int col) {
+        return mix(CELL | ((long) row << 16) | col);
+    }
+
+    /**
+     * Gets the key of the active piece in a given rotation and position.
+     *
+     * @param type The piece type id
+     * @param rotation The rotation index
+     * @param x The X coordinate (column) of the piece
+     * @param y The Y coordinate (row) of the piece
+     * @return The piece key
+     */
+    static long piece(int type, int rotation, int x, int y) {
+        // Offsets may be slightly negative near the walls, so store them biased into 16 bits
+        return mix(PIECE | ((long) (type & 0xFF) << 40) | ((long) (rotation & 0xFF) << 32)
+                | ((long) ((x + 0x8000) & 0xFFFF) << 16) | ((y + 0x8000) & 0xFFFF));
+    }
+
+    /**
+     * Gets the key of the piece in the hold slot.
+     *
+     * @param type The held piece type id
+     * @return The hold key
+     */
+    static long held(int type) {
+        return mix(HELD | (type & 0xFF));
+    }
+
+    /**
+     * Gets the key of the piece at the head of the queue.
+     *
+     * @param type The next piece type id
+     * @return The queue head key
+     */
+    static long next(int type) {
+        return mix(NEXT | (type & 0xFF));
+    }
+
+    private static long mix(long value) {
+        long z = value + SEED;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
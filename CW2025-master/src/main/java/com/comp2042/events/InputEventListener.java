@@ -59,6 +59,14 @@ public interface InputEventListener {
      */
     ViewData onHoldEvent();
 
+    /**
+     * Handles the passing of game time, e.g. a tick of the Ultra mode clock.
+     * Paused time must not be reported, so the game clock stops while the game is paused.
+     * 
+     * @param millis The game time passed since the last event, in milliseconds
+     */
+    void onTimeEvent(long millis);
+
     /**
      * Resets the game to start a new game.
      * Clears the board and resets all game state.
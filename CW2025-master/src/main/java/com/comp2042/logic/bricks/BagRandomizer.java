@@ -0,0 +1,97 @@
+package com.comp2042.logic.bricks;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Bag randomizer: every type appears a fixed number of times per bag, dealt in random order.
+ * One copy per type gives the 7-bag, two copies the 14-bag. Draws swap the chosen type to the
+ * end of the bag (a Fisher-Yates shuffle done one draw at a time), so the bag array is never
+ * rebuilt.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+final class BagRandomizer implements Randomizer {
+
+    // The packed state holds one nibble per bag entry below the remaining count
+    private static final int MAX_COPIES = 2;
+    private static final int REMAINING_SHIFT = 56;
+
+    private final byte[] bag;
+    private int remaining; // Types still in the bag are bag[0..remaining)
+    private RandomGenerator random;
+
+    /**
+     * Creates a bag randomizer.
+     *
+     * @param copies How many times each type appears per bag, at most {@value #MAX_COPIES}
+     */
+    BagRandomizer(int copies) {
+        if (copies < 1 || copies > MAX_COPIES) {
+            throw new IllegalArgumentException("A bag holds 1 to " + MAX_COPIES + " copies of each type");
+        }
+        bag = new byte[ShapeTable.TYPE_COUNT * copies];
+    }
+
+    @Override
+    public void reset(RandomGenerator random) {
+        this.random = random;
+        // Draws reorder the bag; start from the same order so equal seeds deal equal pieces
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = (byte) (i % ShapeTable.TYPE_COUNT);
+        }
+        remaining = bag.length;
+    }
+
+    @Override
+    public int nextType() {
+        if (remaining == 0) {
+            // The bag still holds every copy, only reordered
+            remaining = bag.length;
+        }
+        int pick = random.nextInt(remaining);
+        byte type = bag[pick];
+        take(pick);
+        return type;
+    }
+
+    @Override
+    public void observe(int type) {
+        if (remaining == 0) {
+            remaining = bag.length;
+        }
+        for (int i = 0; i < remaining; i++) {
+            if (bag[i] == type) {
+                take(i);
+                return;
+            }
+        }
+        // Every copy of the type was dealt already, so it opened a new bag
+        remaining = bag.length;
+        observe(type);
+    }
+
+    @Override
+    public long getState() {
+        long state = (long) remaining << REMAINING_SHIFT;
+        for (int i = 0; i < bag.length; i++) {
+            state |= (long) bag[i] << (4 * i);
+        }
+        return state;
+    }
+
+    @Override
+    public void setState(long state) {
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = (byte) (state >>> (4 * i) & 0xF);
+        }
+        remaining = (int) (state >>> REMAINING_SHIFT);
+    }
+
+    private void take(int index) {
+        byte type = bag[index];
+        remaining--;
+        bag[index] = bag[remaining];
+        bag[remaining] = type;
+    }
+}
@@ -1,5 +1,7 @@
 package com.comp2042.logic.bricks;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -18,4 +20,29 @@ public interface Brick {
      * @return A list of 2D integer arrays, each representing a rotation of the brick
      */
     List<int[][]> getShapeMatrix();
+
+    /**
+     * Gets the precomputed rotation states of this brick.
+     * Standard bricks return shared entries of the {@link ShapeTable}; the default
+     * implementation builds them from {@link #getShapeMatrix()}.
+     * 
+     * @return An unmodifiable list of rotation shapes
+     */
+    default List<PieceShape> getRotations() {
+        List<int[][]> matrices = getShapeMatrix();
+        List<PieceShape> rotations = new ArrayList<>(matrices.size());
+        for (int[][] matrix : matrices) {
+            rotations.add(PieceShape.of(matrix));
+        }
+        return Collections.unmodifiableList(rotations);
+    }
+
+    /**
+     * Gets the piece type index of this brick in the {@link ShapeTable}.
+     * 
+     * @return The piece type index, or -1 for bricks that are not in the table
+     */
+    default int getTypeId() {
+        return -1;
+    }
 }
@@ -0,0 +1,82 @@
+package com.comp2042.logic.bricks;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * TGM-style randomizer: a uniform draw is rerolled up to {@value #ROLLS} times while it
+ * matches one of the last {@value #HISTORY_LENGTH} types, and the last roll is kept either way.
+ * The history starts as Z, S, S, Z and the first piece is never S, Z or O, as in TGM2.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+final class HistoryRandomizer implements Randomizer {
+
+    private static final int HISTORY_LENGTH = 4;
+    private static final int ROLLS = 6;
+    private static final byte[] START_HISTORY = {ShapeTable.Z, ShapeTable.S, ShapeTable.S, ShapeTable.Z};
+    private static final byte[] FIRST_TYPES = {ShapeTable.I, ShapeTable.J, ShapeTable.L, ShapeTable.T};
+
+    private final byte[] history = new byte[HISTORY_LENGTH]; // Ring buffer, oldest at historyHead
+    private int historyHead;
+    private boolean first;
+    private RandomGenerator random;
+
+    @Override
+    public void reset(RandomGenerator random) {
+        this.random = random;
+        System.arraycopy(START_HISTORY, 0, history, 0, HISTORY_LENGTH);
+        historyHead = 0;
+        first = true;
+    }
+
+    @Override
+    public int nextType() {
+        int type;
+        if (first) {
+            type = FIRST_TYPES[random.nextInt(FIRST_TYPES.length)];
+        } else {
+            type = random.nextInt(ShapeTable.TYPE_COUNT);
+            for (int roll = 1; roll < ROLLS && inHistory(type); roll++) {
+                type = random.nextInt(ShapeTable.TYPE_COUNT);
+            }
+        }
+        observe(type);
+        return type;
+    }
+
+    @Override
+    public void observe(int type) {
+        first = false;
+        history[historyHead] = (byte) type;
+        historyHead = (historyHead + 1) % HISTORY_LENGTH;
+    }
+
+    @Override
+    public long getState() {
+        // One nibble per history entry, then the head and the first-piece flag
+        long state = 0;
+        for (int i = 0; i < HISTORY_LENGTH; i++) {
+            state |= (long) history[i] << (4 * i);
+        }
+        return state | (long) historyHead << 16 | (first ? 1L : 0L) << 20;
+    }
+
+    @Override
+    public void setState(long state) {
+        for (int i = 0; i < HISTORY_LENGTH; i++) {
+            history[i] = (byte) (state >>> (4 * i) & 0xF);
+        }
+        historyHead = (int) (state >>> 16 & 0xF);
+        first = (state >>> 20 & 1) != 0;
+    }
+
+    private boolean inHistory(int type) {
+        for (byte recent : history) {
+            if (recent == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
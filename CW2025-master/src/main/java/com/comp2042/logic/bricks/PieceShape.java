@@ -0,0 +1,202 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.utils.MatrixOperations;
+
+/**
+ * Immutable, precomputed description of one rotation state of a brick.
+ * Besides the 4x4 shape matrix it stores the occupancy as a packed 16-bit mask
+ * (bit {@code row * 4 + col}), the per-row bitmasks used by the bitboard and a
+ * list of occupied cells, so collision and merge code never has to scan or copy
+ * the matrix. The bottom profile (lowest block of each column) lets drop
+ * distances be computed straight from the board's column heights.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+public final class PieceShape {
+
+    /** Width and height of the square area a shape is defined in. */
+    public static final int SIZE = 4;
+
+    private final int[][] matrix;
+    private final int mask;
+    private final int[] rowBits = new int[SIZE];
+    private final int[] columnBottoms = {-1, -1, -1, -1};
+    private final int[] cellRows;
+    private final int[] cellCols;
+    private final int color;
+    private final int minRow;
+    private final int maxRow;
+    private final int minCol;
+    private final int maxCol;
+
+    private PieceShape(int[][] source) {
+        if (source.length > SIZE) {
+            throw new IllegalArgumentException("Shape taller than " + SIZE + " rows");
+        }
+        matrix = MatrixOperations.copy(source);
+        int packed = 0;
+        int count = 0;
+        int shapeColor = 0;
+        int top = SIZE, bottom = -1, left = SIZE, right = -1;
+        for (int r = 0; r < matrix.length; r++) {
+            if (matrix[r].length > SIZE) {
+                throw new IllegalArgumentException("Shape wider than " + SIZE + " columns");
+            }
+            for (int c = 0; c < matrix[r].length; c++) {
+                if (matrix[r][c] != 0) {
+                    packed |= 1 << (r * SIZE + c);
+                    rowBits[r] |= 1 << c;
+                    columnBottoms[c] = r;
+                    shapeColor = matrix[r][c];
+                    count++;
+                    top = Math.min(top, r);
+                    bottom = Math.max(bottom, r);
+                    left = Math.min(left, c);
+                    right = Math.max(right, c);
+                }
+            }
+        }
+        mask = packed;
+        color = shapeColor;
+        minRow = top;
+        maxRow = bottom;
+        minCol = left;
+        maxCol = right;
+        cellRows = new int[count];
+        cellCols = new int[count];
+        int index = 0;
+        for (int bit = 0; bit < SIZE * SIZE; bit++) {
+            if ((packed & (1 << bit)) != 0) {
+                cellRows[index] = bit / SIZE;
+                cellCols[index] = bit % SIZE;
+                index++;
+            }
+        }
+    }
+
+    /**
+     * Creates a shape from a matrix of at most 4x4 cells, indexed as {@code matrix[row][col]}.
+     * The matrix is copied, so later changes to it do not affect the shape.
+     *
+     * @param matrix The shape matrix where 0 is empty and other values are the block color
+     * @return The precomputed shape
+     * @throws IllegalArgumentException if the matrix is larger than 4x4
+     */
+    public static PieceShape of(int[][] matrix) {
+        return new PieceShape(matrix);
+    }
+
+    /**
+     * Gets the shape matrix.
+     * The matrix is shared by every user of this shape and must not be modified.
+     *
+     * @return The shape matrix indexed as {@code [row][col]}
+     */
+    public int[][] getMatrix() {
+        return matrix;
+    }
+
+    /**
+     * Gets the packed 16-bit occupancy mask (bit {@code row * 4 + col}).
+     *
+     * @return The packed mask
+     */
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * Gets the occupancy bits of one shape row (bit {@code col} set when occupied).
+     *
+     * @param row The shape row (0 to 3)
+     * @return The row bitmask
+     */
+    public int getRowBits(int row) {
+        return rowBits[row];
+    }
+
+    /**
+     * Gets the lowest occupied shape row of a column (the shape's bottom profile).
+     *
+     * @param col The shape column (0 to 3)
+     * @return The bottom row of the column, or -1 if the column is empty
+     */
+    public int getColumnBottom(int col) {
+        return columnBottoms[col];
+    }
+
+    /**
+     * Gets the number of occupied cells.
+     *
+     * @return The cell count
+     */
+    public int getCellCount() {
+        return cellRows.length;
+    }
+
+    /**
+     * Gets the shape row of an occupied cell. Cells are ordered top to bottom, left to right.
+     *
+     * @param index The cell index
+     * @return The row of the cell within the shape
+     */
+    public int getCellRow(int index) {
+        return cellRows[index];
+    }
+
+    /**
+     * Gets the shape column of an occupied cell. Cells are ordered top to bottom, left to right.
+     *
+     * @param index The cell index
+     * @return The column of the cell within the shape
+     */
+    public int getCellCol(int index) {
+        return cellCols[index];
+    }
+
+    /**
+     * Gets the color value of the shape's blocks.
+     *
+     * @return The color value, or 0 for an empty shape
+     */
+    public int getColor() {
+        return color;
+    }
+
+    /**
+     * Gets the first shape row containing a block.
+     *
+     * @return The top row, or 4 for an empty shape
+     */
+    public int getMinRow() {
+        return minRow;
+    }
+
+    /**
+     * Gets the last shape row containing a block.
+     *
+     * @return The bottom row, or -1 for an empty shape
+     */
+    public int getMaxRow() {
+        return maxRow;
+    }
+
+    /**
+     * Gets the first shape column containing a block.
+     *
+     * @return The leftmost column, or 4 for an empty shape
+     */
+    public int getMinCol() {
+        return minCol;
+    }
+
+    /**
+     * Gets the last shape column containing a block.
+     *
+     * @return The rightmost column, or -1 for an empty shape
+     */
+    public int getMaxCol() {
+        return maxCol;
+    }
+}
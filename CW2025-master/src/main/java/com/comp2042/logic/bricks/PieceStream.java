@@ -0,0 +1,54 @@
+package com.comp2042.logic.bricks;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The random stream a {@link RandomBrickGenerator} deals from: a SplitMix64 generator, the
+ * algorithm behind {@link java.util.SplittableRandom}, whose whole state is one {@code long}.
+ * Unlike {@code SplittableRandom} the state can be read and set, so a snapshot records the
+ * exact stream position and a restore returns to it without replaying the draws.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+final class PieceStream implements RandomGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    /**
+     * Creates a stream starting at a seed.
+     *
+     * @param seed The seed
+     */
+    PieceStream(long seed) {
+        state = seed;
+    }
+
+    /**
+     * Gets the position of the stream.
+     *
+     * @return The stream state
+     */
+    long getState() {
+        return state;
+    }
+
+    /**
+     * Moves the stream to a position read with {@link #getState()}, or to the start of a seed.
+     *
+     * @param state The stream state
+     */
+    void setState(long state) {
+        this.state = state;
+    }
+
+    @Override
+    public long nextLong() {
+        long z = state += GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
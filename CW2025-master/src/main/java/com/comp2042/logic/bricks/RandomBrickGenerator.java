@@ -1,262 +1,254 @@
 package com.comp2042.logic.bricks;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Piece generator that deals from a preview queue filled by a {@link Randomizer}.
+ * The default randomizer is {@link RandomizerType#WEIGHTED}; tournaments and bot benchmarks
+ * can switch to another with {@link #setRandomizer(Randomizer)}. Pieces are tracked as byte
+ * type ids of the {@link ShapeTable}: the queue is a fixed-capacity ring buffer topped up in
+ * batches once it falls to half full, and the recent piece history is a small ring buffer,
+ * so dealing a piece allocates nothing. Types are drawn from a seeded SplitMix64 stream,
+ * so a seed deals the same sequence every time, and the stream and randomizer states are
+ * plain values that snapshots record and restore without replaying the draws.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
 public class RandomBrickGenerator implements BrickGenerator {
 
-    private final List<Brick> brickList;
-    private final List<Integer> weights; // Weight for each brick type
-    private int totalWeight; // Sum of all weights
+    /** Number of pieces the queue holds; the furthest piece that can be peeked. */
+    public static final int QUEUE_CAPACITY = 8;
+    // The queue is topped up once it holds this many pieces or fewer
+    private static final int REFILL_THRESHOLD = QUEUE_CAPACITY / 2;
+    private static final int RECENT_LENGTH = 3;
 
-    private final Deque<Brick> nextBricks = new ArrayDeque<>();
-    private final Deque<Brick> recentPieces = new ArrayDeque<>(); // Track last 3 pieces to prevent 4+ consecutive of any type
+    private final byte[] queue = new byte[QUEUE_CAPACITY]; // Ring buffer, capacity is a power of two
+    private int queueHead;
+    private int queueSize;
 
+    private final byte[] recent = new byte[RECENT_LENGTH]; // Ring buffer of the last dealt pieces
+    private int recentHead;
+    private int recentSize;
+
+    private Randomizer randomizer;
+    private final PieceStream stream;
+    private long seed;
+
+    /**
+     * Creates a weighted generator drawing from an unpredictable seed.
+     */
     public RandomBrickGenerator() {
-        brickList = new ArrayList<>();
-        weights = new ArrayList<>();
-        
-        // I-piece (4-in-a-row) gets weight 6 (20% probability: 6/30 = 20%)
-        brickList.add(new IBrick());
-        weights.add(6);
-        
-        // Other pieces get weight 4 each (80% total, ~13.33% each: 4/30 = 13.33%)
-        brickList.add(new JBrick());
-        weights.add(4);
-        brickList.add(new LBrick());
-        weights.add(4);
-        brickList.add(new OBrick());
-        weights.add(4);
-        brickList.add(new SBrick());
-        weights.add(4);
-        brickList.add(new TBrick());
-        weights.add(4);
-        brickList.add(new ZBrick());
-        weights.add(4);
-        
-        // Calculate total weight
-        totalWeight = weights.stream().mapToInt(Integer::intValue).sum();
-        
-        // Initialize next bricks queue
-        nextBricks.add(getWeightedRandomBrick());
-        nextBricks.add(getWeightedRandomBrickForQueue());
+        this(ThreadLocalRandom.current().nextLong());
     }
-    
+
     /**
-     * Check if a specific brick type has appeared 3 times in a row
-     * @param brickType The class of the brick type to check
-     * @return true if the last 3 pieces are all of this type
+     * Creates a weighted generator drawing from a seed.
+     *
+     * @param seed The seed of the piece stream
      */
-    private boolean hasThreeConsecutive(Class<? extends Brick> brickType) {
-        if (recentPieces.size() < 3) {
-            return false;
-        }
-        Brick[] recent = recentPieces.toArray(new Brick[0]);
-        int lastIndex = recent.length - 1;
-        // Check if last 3 pieces are all of the same type
-        return brickType.isInstance(recent[lastIndex]) && 
-               brickType.isInstance(recent[lastIndex - 1]) &&
-               brickType.isInstance(recent[lastIndex - 2]);
+    public RandomBrickGenerator(long seed) {
+        this(RandomizerType.WEIGHTED.create(), seed);
     }
-    
+
     /**
-     * Get the index of a brick type in the brickList
-     * @param brickType The class of the brick type
-     * @return The index, or -1 if not found
+     * Creates a generator with the given randomizer drawing from a seed.
+     *
+     * @param randomizer The randomizer deciding the piece order
+     * @param seed The seed of the piece stream
      */
-    private int getBrickTypeIndex(Class<? extends Brick> brickType) {
-        for (int i = 0; i < brickList.size(); i++) {
-            if (brickType.isInstance(brickList.get(i))) {
-                return i;
-            }
-        }
-        return -1;
+    public RandomBrickGenerator(Randomizer randomizer, long seed) {
+        this.randomizer = randomizer;
+        stream = new PieceStream(seed);
+        reset(seed);
     }
-    
+
     /**
-     * Get a random brick based on weighted probability
-     * I-piece has 20% probability (weight 6), other pieces ~13.33% each (weight 4)
-     * Prevents any block type from appearing 4 times in a row (max 3 consecutive)
-     * 
-     * When a type is excluded (has appeared 3 times), the remaining types maintain
-     * their relative probabilities to each other.
+     * Starts a new piece sequence from a seed, clearing the queue and the recent pieces.
+     *
+     * @param seed The seed of the piece stream
      */
-    private Brick getWeightedRandomBrick() {
-        // Find which brick type (if any) has appeared 3 times consecutively
-        // If found, exclude it from this selection to prevent 4 in a row
-        Class<? extends Brick> excludedType = null;
-        for (Brick brick : brickList) {
-            Class<? extends Brick> brickType = brick.getClass();
-            if (hasThreeConsecutive(brickType)) {
-                excludedType = brickType;
-                break;
-            }
-        }
-        
-        // Calculate total weight excluding the blocked type (if any)
-        // This maintains the relative probabilities of remaining types
-        int weightToUse = totalWeight;
-        if (excludedType != null) {
-            int excludedIndex = getBrickTypeIndex(excludedType);
-            if (excludedIndex >= 0) {
-                weightToUse -= weights.get(excludedIndex);
-            }
-        }
-        
-        // Safety check: if weight becomes invalid, use total weight
-        if (weightToUse <= 0) {
-            weightToUse = totalWeight;
-            excludedType = null; // Don't exclude anything if weights are invalid
-        }
-        
-        // Generate random number within the valid weight range
-        int random = ThreadLocalRandom.current().nextInt(weightToUse);
-        int cumulativeWeight = 0;
-        
-        // Select brick based on weighted probability, skipping excluded type
-        for (int i = 0; i < brickList.size(); i++) {
-            // Skip excluded type to prevent 4 in a row
-            if (excludedType != null && excludedType.isInstance(brickList.get(i))) {
-                continue;
-            }
-            
-            // Add this brick's weight to cumulative
-            cumulativeWeight += weights.get(i);
-            if (random < cumulativeWeight) {
-                return brickList.get(i);
-            }
+    public final void reset(long seed) {
+        this.seed = seed;
+        stream.setState(seed);
+        randomizer.reset(stream);
+        queueHead = 0;
+        queueSize = 0;
+        recentHead = 0;
+        recentSize = 0;
+        refill();
+    }
+
+    /**
+     * Switches to another randomizer and starts the piece sequence of the current seed again with it.
+     *
+     * @param randomizer The randomizer deciding the piece order
+     */
+    public void setRandomizer(Randomizer randomizer) {
+        this.randomizer = randomizer;
+        reset(seed);
+    }
+
+    /**
+     * Fills every free slot of the queue in one pass.
+     */
+    private void refill() {
+        for (int i = queueSize; i < QUEUE_CAPACITY; i++) {
+            queue[(queueHead + i) & (QUEUE_CAPACITY - 1)] = (byte) randomizer.nextType();
         }
-        
-        // Fallback: return first non-excluded brick (should rarely be needed)
-        for (int i = 0; i < brickList.size(); i++) {
-            if (excludedType == null || !excludedType.isInstance(brickList.get(i))) {
-                return brickList.get(i);
-            }
+        queueSize = QUEUE_CAPACITY;
+    }
+
+    private void remember(int type) {
+        recent[(recentHead + recentSize) % RECENT_LENGTH] = (byte) type;
+        if (recentSize < RECENT_LENGTH) {
+            recentSize++;
+        } else {
+            recentHead = (recentHead + 1) % RECENT_LENGTH;
         }
-        
-        // Ultimate fallback (should never reach here)
-        return brickList.get(0);
     }
 
     @Override
     public Brick getBrick() {
-        if (nextBricks.size() <= 1) {
-            nextBricks.add(getWeightedRandomBrickForQueue());
-        }
-        Brick consumed = nextBricks.poll();
-        // Track consumed piece in recent pieces (keep only last 3 to prevent 4 in a row)
-        recentPieces.add(consumed);
-        if (recentPieces.size() > 3) {
-            recentPieces.poll();
-        }
-        return consumed;
+        if (queueSize <= REFILL_THRESHOLD) {
+            refill();
+        }
+        int consumed = queue[queueHead];
+        queueHead = (queueHead + 1) & (QUEUE_CAPACITY - 1);
+        queueSize--;
+        // Track consumed piece in recent pieces (the history saved with snapshots)
+        remember(consumed);
+        return ShapeTable.brick(consumed);
     }
 
     @Override
     public Brick getNextBrick() {
-        return nextBricks.peek();
+        return queueSize == 0 ? null : ShapeTable.brick(queue[queueHead]);
     }
 
     /**
-     * Peek at a future brick in the queue without consuming it
-     * @param index 0 = next, 1 = after next, etc.
-     * @return The brick at that position, or null if not enough bricks
+     * Get the bricks currently waiting in the queue, next brick first
+     * @return An unmodifiable copy of the queue contents
      */
-    public Brick peekNextBrick(int index) {
-        // Ensure we have enough bricks, applying the same constraint logic
-        while (nextBricks.size() < index + 1) {
-            nextBricks.add(getWeightedRandomBrickForQueue());
+    public List<Brick> getQueuedBricks() {
+        List<Brick> queued = new ArrayList<>(queueSize);
+        for (int i = 0; i < queueSize; i++) {
+            queued.add(ShapeTable.brick(queue[(queueHead + i) & (QUEUE_CAPACITY - 1)]));
         }
-        
-        // Convert to array to peek at specific index
-        Brick[] array = nextBricks.toArray(new Brick[0]);
-        return index < array.length ? array[index] : null;
+        return List.copyOf(queued);
     }
-    
+
     /**
-     * Get a weighted random brick for the queue, considering both recent pieces 
-     * and pieces already in the queue to prevent more than 3 of same type
+     * Get the most recently dealt bricks
+     * @return An unmodifiable copy of the recent pieces, oldest first
      */
-    private Brick getWeightedRandomBrickForQueue() {
-        // Create a combined list of recent pieces + queue pieces to check constraints
-        List<Brick> combinedPieces = new ArrayList<>();
-        combinedPieces.addAll(recentPieces);
-        combinedPieces.addAll(nextBricks);
-        
-        // Check if any brick type would have 3 or more in the combined sequence
-        Class<? extends Brick> excludedType = null;
-        for (Brick brick : brickList) {
-            Class<? extends Brick> brickType = brick.getClass();
-            int consecutiveCount = countConsecutiveAtEnd(combinedPieces, brickType);
-            if (consecutiveCount >= 3) {
-                excludedType = brickType;
-                System.out.println("Brick constraint: Excluding " + brickType.getSimpleName() + 
-                                 " (found " + consecutiveCount + " consecutive)");
-                break;
-            }
+    public List<Brick> getRecentBricks() {
+        List<Brick> dealt = new ArrayList<>(recentSize);
+        for (int i = 0; i < recentSize; i++) {
+            dealt.add(ShapeTable.brick(recent[(recentHead + i) % RECENT_LENGTH]));
         }
-        
-        // Calculate total weight excluding the blocked type (if any)
-        int weightToUse = totalWeight;
-        if (excludedType != null) {
-            int excludedIndex = getBrickTypeIndex(excludedType);
-            if (excludedIndex >= 0) {
-                weightToUse -= weights.get(excludedIndex);
-            }
-        }
-        
-        // Safety check: if weight becomes invalid, use total weight
-        if (weightToUse <= 0) {
-            weightToUse = totalWeight;
-            excludedType = null;
+        return List.copyOf(dealt);
+    }
+
+    /**
+     * Get the position of the piece stream, queued pieces already drawn
+     * @return The stream state, to be passed back to {@link #restore}
+     */
+    public long getStreamState() {
+        return stream.getState();
+    }
+
+    /**
+     * Get the state the randomizer keeps between draws, queued pieces already drawn
+     * @return The packed randomizer state, to be passed back to {@link #restore}
+     */
+    public long getRandomizerState() {
+        return randomizer.getState();
+    }
+
+    /**
+     * Return to a recorded point of a sequence, e.g. when restoring a snapshot, so the pieces
+     * dealt after the restored queue are the ones the recorded game dealt. The stream and
+     * randomizer states are set directly, so this costs the same however far the game went.
+     * The states must come from a generator with the same kind of randomizer.
+     * @param streamState The stream state from {@link #getStreamState()}
+     * @param randomizerState The randomizer state from {@link #getRandomizerState()}
+     * @param queued The queued bricks, next brick first
+     * @param recent The recently dealt bricks, oldest first
+     * @throws IllegalArgumentException if a brick is not a standard piece or the queue is too long
+     */
+    public void restore(long streamState, long randomizerState, List<Brick> queued, List<Brick> recent) {
+        if (queued.size() > QUEUE_CAPACITY) {
+            throw new IllegalArgumentException("Queue holds at most " + QUEUE_CAPACITY + " pieces");
+        }
+        byte[] queuedTypes = new byte[queued.size()];
+        for (int i = 0; i < queuedTypes.length; i++) {
+            queuedTypes[i] = (byte) typeOf(queued.get(i));
+        }
+        stream.setState(streamState);
+        randomizer.setState(randomizerState);
+        queueHead = 0;
+        queueSize = queuedTypes.length;
+        System.arraycopy(queuedTypes, 0, queue, 0, queueSize);
+        recentHead = 0;
+        recentSize = 0;
+        for (int i = Math.max(0, recent.size() - RECENT_LENGTH); i < recent.size(); i++) {
+            remember(typeOf(recent.get(i)));
         }
-        
-        // Generate random number within the valid weight range
-        int random = ThreadLocalRandom.current().nextInt(weightToUse);
-        int cumulativeWeight = 0;
-        
-        // Select brick based on weighted probability, skipping excluded type
-        for (int i = 0; i < brickList.size(); i++) {
-            // Skip excluded type to prevent more than 3 of same type
-            if (excludedType != null && excludedType.isInstance(brickList.get(i))) {
-                continue;
-            }
-            
-            // Add this brick's weight to cumulative
-            cumulativeWeight += weights.get(i);
-            if (random < cumulativeWeight) {
-                return brickList.get(i);
-            }
+    }
+
+    /**
+     * Replace the queue and recent piece history when the position of the recorded sequence
+     * is unknown, e.g. for snapshots of other boards. Use {@link #restore} when it is known.
+     * The randomizer restarts and is shown the recent and queued pieces in order, so the
+     * pieces drawn after them follow its rules, but they are not the pieces the recorded game dealt.
+     * @param queued The queued bricks, next brick first
+     * @param recent The recently dealt bricks, oldest first
+     * @throws IllegalArgumentException if a brick is not a standard piece or the queue is too long
+     */
+    public void restoreQueue(List<Brick> queued, List<Brick> recent) {
+        if (queued.size() > QUEUE_CAPACITY) {
+            throw new IllegalArgumentException("Queue holds at most " + QUEUE_CAPACITY + " pieces");
+        }
+        randomizer.reset(stream);
+        queueHead = 0;
+        queueSize = 0;
+        recentHead = 0;
+        recentSize = 0;
+        for (int i = Math.max(0, recent.size() - RECENT_LENGTH); i < recent.size(); i++) {
+            int type = typeOf(recent.get(i));
+            remember(type);
+            randomizer.observe(type);
+        }
+        for (Brick brick : queued) {
+            int type = typeOf(brick);
+            queue[queueSize++] = (byte) type;
+            randomizer.observe(type);
         }
-        
-        // Fallback: return first non-excluded brick
-        for (int i = 0; i < brickList.size(); i++) {
-            if (excludedType == null || !excludedType.isInstance(brickList.get(i))) {
-                return brickList.get(i);
-            }
+    }
+
+    private static int typeOf(Brick brick) {
+        int type = brick.getTypeId();
+        if (type < 0) {
+            throw new IllegalArgumentException("Not a standard piece: " + brick.getClass().getSimpleName());
         }
-        
-        // Ultimate fallback
-        return brickList.get(0);
+        return type;
     }
-    
+
     /**
-     * Count how many consecutive pieces of the same type appear at the end of the list
+     * Peek at a future brick in the queue without consuming it
+     * @param index 0 = next, 1 = after next, etc.
+     * @return The brick at that position, or null if the index is beyond the queue capacity
      */
-    private int countConsecutiveAtEnd(List<Brick> pieces, Class<? extends Brick> brickType) {
-        if (pieces.isEmpty()) return 0;
-        
-        int count = 0;
-        for (int i = pieces.size() - 1; i >= 0; i--) {
-            if (brickType.isInstance(pieces.get(i))) {
-                count++;
-            } else {
-                break;
-            }
+    public Brick peekNextBrick(int index) {
+        if (index < 0 || index >= QUEUE_CAPACITY) {
+            return null;
+        }
+        if (index >= queueSize) {
+            refill();
         }
-        return count;
+        return ShapeTable.brick(queue[(queueHead + index) & (QUEUE_CAPACITY - 1)]);
     }
 }
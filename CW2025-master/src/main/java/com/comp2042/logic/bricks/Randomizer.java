@@ -0,0 +1,58 @@
+package com.comp2042.logic.bricks;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Strategy that decides the order in which piece types are dealt.
+ * A {@link RandomBrickGenerator} draws types from its randomizer in batches to fill its
+ * preview queue; implementations hold only primitive state so drawing allocates nothing,
+ * and that state packs into a {@code long} so snapshots can record and restore it.
+ * Use {@link RandomizerType#create()} to get one of the standard randomizers.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+public interface Randomizer {
+
+    /**
+     * Starts a new sequence, forgetting every type drawn or observed so far.
+     *
+     * @param random The stream to draw from
+     */
+    void reset(RandomGenerator random);
+
+    /**
+     * Draws the next piece type.
+     *
+     * @return The piece type index in the {@link ShapeTable}
+     */
+    int nextType();
+
+    /**
+     * Records a type as dealt without drawing it, e.g. when a queue is restored from a
+     * snapshot, so the following draws take it into account.
+     *
+     * @param type The piece type index in the {@link ShapeTable}
+     */
+    default void observe(int type) {
+    }
+
+    /**
+     * Packs the state kept between draws, e.g. the types left in the bag, into one value.
+     * Randomizers that keep no state return 0.
+     *
+     * @return The packed state
+     */
+    default long getState() {
+        return 0L;
+    }
+
+    /**
+     * Returns to a state read with {@link #getState()} from a randomizer of the same kind.
+     * The stream passed to {@link #reset} is kept.
+     *
+     * @param state The packed state
+     */
+    default void setState(long state) {
+    }
+}
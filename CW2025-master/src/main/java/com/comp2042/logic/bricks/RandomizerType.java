@@ -0,0 +1,38 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * The standard piece randomizers.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+public enum RandomizerType {
+    /** Weighted draws (I 20%, others ~13.33% each) with no type four times in a row. */
+    WEIGHTED,
+    /** Every type once per bag of 7, in random order. */
+    BAG_7,
+    /** Every type twice per bag of 14, in random order. */
+    BAG_14,
+    /** Uniform draws rerolled against a history of the last 4 types. */
+    TGM;
+
+    /**
+     * Creates a new randomizer of this type. Randomizers hold per-game state, so every
+     * generator needs its own.
+     *
+     * @return A new randomizer
+     */
+    public Randomizer create() {
+        switch (this) {
+            case BAG_7:
+                return new BagRandomizer(1);
+            case BAG_14:
+                return new BagRandomizer(2);
+            case TGM:
+                return new HistoryRandomizer();
+            case WEIGHTED:
+            default:
+                return new WeightedRandomizer();
+        }
+    }
+}
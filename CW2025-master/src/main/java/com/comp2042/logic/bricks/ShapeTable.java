@@ -0,0 +1,241 @@
+package com.comp2042.logic.bricks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Shared, immutable table of every brick rotation, indexed by piece type and rotation.
+ * Shapes are built once when the class loads and handed out by reference, so
+ * rotating or moving a piece never copies shape data.
+ * Piece type indices match the block colors minus one (I is color 1, Z is color 7).
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+public final class ShapeTable {
+
+    public static final int I = 0;
+    public static final int J = 1;
+    public static final int L = 2;
+    public static final int O = 3;
+    public static final int S = 4;
+    public static final int T = 5;
+    public static final int Z = 6;
+
+    /** Number of piece types in the table. */
+    public static final int TYPE_COUNT = 7;
+
+    private static final int[][][] I_SHAPES = {
+            {
+                {0, 0, 0, 0},
+                {1, 1, 1, 1},
+                {0, 0, 0, 0},
+                {0, 0, 0, 0}
+            },
+            {
+                {0, 1, 0, 0},
+                {0, 1, 0, 0},
+                {0, 1, 0, 0},
+                {0, 1, 0, 0}
+            }
+    };
+
+    private static final int[][][] J_SHAPES = {
+            {
+                {0, 0, 0, 0},
+                {2, 2, 2, 0},
+                {0, 0, 2, 0},
+                {0, 0, 0, 0}
+            },
+            {
+                {0, 0, 0, 0},
+                {0, 2, 2, 0},
+                {0, 2, 0, 0},
+                {0, 2, 0, 0}
+            },
+            {
+                {0, 0, 0, 0},
+                {0, 2, 0, 0},
+                {0, 2, 2, 2},
+                {0, 0, 0, 0}
+            },
+            {
+                {0, 0, 2, 0},
+                {0, 0, 2, 0},
+                {0, 2, 2, 0},
+                {0, 0, 0, 0}
+            }
+    };
+
+    private static final int[][][] L_SHAPES = {
+            {
+                {0, 0, 0, 0},
+                {0, 3, 3, 3},
+                {0, 3, 0, 0},
+                {0, 0, 0, 0}
+            },
+            {
+                {0, 0, 0, 0},
+                {0, 3, 3, 0},
+                {0, 0, 3, 0},
+                {0, 0, 3, 0}
+            },
+            {
+                {0, 0, 0, 0},
+                {0, 0, 3, 0},
+                {3, 3, 3, 0},
+                {0, 0, 0, 0}
+            },
+            {
+                {0, 3, 0, 0},
+                {0, 3, 0, 0},
+                {0, 3, 3, 0},
+                {0, 0, 0, 0}
+            }
+    };
+
+    private static final int[][][] O_SHAPES = {
+            {
+                {0, 0, 0, 0},
+                {0, 4, 4, 0},
+                {0, 4, 4, 0},
+                {0, 0, 0, 0}
+            }
+    };
+
+    private static final int[][][] S_SHAPES = {
+            {
+                {0, 0, 0, 0},
+                {0, 5, 5, 0},
+                {5, 5, 0, 0},
+                {0, 0, 0, 0}
+            },
+            {
+                {5, 0, 0, 0},
+                {5, 5, 0, 0},
+                {0, 5, 0, 0},
+                {0, 0, 0, 0}
+            }
+    };
+
+    private static final int[][][] T_SHAPES = {
+            {
+                {0, 0, 0, 0},
+                {6, 6, 6, 0},
+                {0, 6, 0, 0},
+                {0, 0, 0, 0}
+            },
+            {
+                {0, 6, 0, 0},
+                {0, 6, 6, 0},
+                {0, 6, 0, 0},
+                {0, 0, 0, 0}
+            },
+            {
+                {0, 6, 0, 0},
+                {6, 6, 6, 0},
+                {0, 0, 0, 0},
+                {0, 0, 0, 0}
+            },
+            {
+                {0, 6, 0, 0},
+                {6, 6, 0, 0},
+                {0, 6, 0, 0},
+                {0, 0, 0, 0}
+            }
+    };
+
+    private static final int[][][] Z_SHAPES = {
+            {
+                {0, 0, 0, 0},
+                {7, 7, 0, 0},
+                {0, 7, 7, 0},
+                {0, 0, 0, 0}
+            },
+            {
+                {0, 7, 0, 0},
+                {7, 7, 0, 0},
+                {7, 0, 0, 0},
+                {0, 0, 0, 0}
+            }
+    };
+    private static final PieceShape[][] SHAPES = new PieceShape[TYPE_COUNT][];
+    private static final List<List<PieceShape>> ROTATIONS = new ArrayList<>(TYPE_COUNT);
+    private static final List<List<int[][]>> MATRICES = new ArrayList<>(TYPE_COUNT);
+    private static final Brick[] BRICKS = {
+        new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+    };
+
+    static {
+        int[][][][] definitions = {I_SHAPES, J_SHAPES, L_SHAPES, O_SHAPES, S_SHAPES, T_SHAPES, Z_SHAPES};
+        for (int type = 0; type < TYPE_COUNT; type++) {
+            int[][][] rotations = definitions[type];
+            SHAPES[type] = new PieceShape[rotations.length];
+            List<int[][]> matrices = new ArrayList<>(rotations.length);
+            for (int rotation = 0; rotation < rotations.length; rotation++) {
+                SHAPES[type][rotation] = PieceShape.of(rotations[rotation]);
+                matrices.add(SHAPES[type][rotation].getMatrix());
+            }
+            ROTATIONS.add(List.of(SHAPES[type]));
+            MATRICES.add(Collections.unmodifiableList(matrices));
+        }
+    }
+
+    //We don't want to instantiate this utility class
+    private ShapeTable() {
+    }
+
+    /**
+     * Gets the precomputed shape of a piece type in a rotation state.
+     *
+     * @param type The piece type index (0 to 6)
+     * @param rotation The rotation index (0 to rotationCount - 1)
+     * @return The shared shape
+     */
+    public static PieceShape get(int type, int rotation) {
+        return SHAPES[type][rotation];
+    }
+
+    /**
+     * Gets the number of distinct rotation states of a piece type.
+     *
+     * @param type The piece type index (0 to 6)
+     * @return The rotation count
+     */
+    public static int rotationCount(int type) {
+        return SHAPES[type].length;
+    }
+
+    /**
+     * Gets all rotation states of a piece type as an unmodifiable list.
+     *
+     * @param type The piece type index (0 to 6)
+     * @return The shared rotation list
+     */
+    public static List<PieceShape> rotations(int type) {
+        return ROTATIONS.get(type);
+    }
+
+    /**
+     * Gets a brick of a piece type, e.g. when rebuilding a queue from stored type ids.
+     * Bricks hold no state, so the instance is shared.
+     *
+     * @param type The piece type index (0 to 6)
+     * @return The shared brick
+     */
+    public static Brick brick(int type) {
+        return BRICKS[type];
+    }
+
+    /**
+     * Gets the shape matrices of a piece type as an unmodifiable list.
+     * The matrices are shared and must not be modified.
+     *
+     * @param type The piece type index (0 to 6)
+     * @return The shared matrix list
+     */
+    static List<int[][]> matrices(int type) {
+        return MATRICES.get(type);
+    }
+}
@@ -0,0 +1,40 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.utils.MatrixOperations;
+
+import java.util.List;
+
+/**
+ * Base class for the standard bricks, whose rotations live in the shared {@link ShapeTable}.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+abstract class TableBrick implements Brick {
+
+    private final int type;
+
+    /**
+     * Constructs a brick backed by a shape table entry.
+     *
+     * @param type The piece type index in the shape table
+     */
+    TableBrick(int type) {
+        this.type = type;
+    }
+
+    @Override
+    public List<int[][]> getShapeMatrix() {
+        return MatrixOperations.deepCopyList(ShapeTable.matrices(type));
+    }
+
+    @Override
+    public List<PieceShape> getRotations() {
+        return ShapeTable.rotations(type);
+    }
+
+    @Override
+    public int getTypeId() {
+        return type;
+    }
+}
@@ -0,0 +1,88 @@
+package com.comp2042.logic.bricks;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted randomizer: the I-piece has weight 6 (20%) and every other piece weight 4 (~13.33%),
+ * and no type is drawn more than 3 times in a row. The weights are expanded once into a roll
+ * table, so a draw is one bounded random int and a table lookup.
+ *
+ * @author Phung Yu Jie
+ * @version 1.0
+ */
+final class WeightedRandomizer implements Randomizer {
+
+    // Weight for each piece type, indexed by type id (I, J, L, O, S, T, Z)
+    private static final int[] WEIGHTS = {6, 4, 4, 4, 4, 4, 4};
+    // Sum of the weights of the types before each type
+    private static final int[] CUMULATIVE = new int[ShapeTable.TYPE_COUNT];
+    private static final int TOTAL_WEIGHT;
+    // Piece type of every roll below TOTAL_WEIGHT
+    private static final byte[] ROLL_TO_TYPE;
+    private static final int MAX_CONSECUTIVE = 3;
+
+    static {
+        int sum = 0;
+        for (int type = 0; type < ShapeTable.TYPE_COUNT; type++) {
+            CUMULATIVE[type] = sum;
+            sum += WEIGHTS[type];
+        }
+        TOTAL_WEIGHT = sum;
+        ROLL_TO_TYPE = new byte[TOTAL_WEIGHT];
+        for (int type = 0; type < ShapeTable.TYPE_COUNT; type++) {
+            Arrays.fill(ROLL_TO_TYPE, CUMULATIVE[type], CUMULATIVE[type] + WEIGHTS[type], (byte) type);
+        }
+    }
+
+    private RandomGenerator random;
+    // Run of equal types at the end of the sequence
+    private int tailType = -1;
+    private int tailRun;
+
+    @Override
+    public void reset(RandomGenerator random) {
+        this.random = random;
+        tailType = -1;
+        tailRun = 0;
+    }
+
+    /**
+     * Picks a weighted random type. When the last 3 types are the same, that type is left out
+     * and the remaining types keep their relative probabilities.
+     */
+    @Override
+    public int nextType() {
+        int type;
+        if (tailRun < MAX_CONSECUTIVE) {
+            type = ROLL_TO_TYPE[random.nextInt(TOTAL_WEIGHT)];
+        } else {
+            int roll = random.nextInt(TOTAL_WEIGHT - WEIGHTS[tailType]);
+            // Step over the excluded type's range of rolls
+            if (roll >= CUMULATIVE[tailType]) {
+                roll += WEIGHTS[tailType];
+            }
+            type = ROLL_TO_TYPE[roll];
+        }
+        observe(type);
+        return type;
+    }
+
+    @Override
+    public void observe(int type) {
+        tailRun = type == tailType ? tailRun + 1 : 1;
+        tailType = type;
+    }
+
+    @Override
+    public long getState() {
+        // Type in the low byte, -1 included, and the run length above it
+        return (long) tailRun << 8 | (tailType & 0xFF);
+    }
+
+    @Override
+    public void setState(long state) {
+        tailType = (byte) state;
+        tailRun = (int) (state >>> 8);
+    }
+}
@@ -1,36 +1,44 @@
 package com.comp2042.models;
 
-import com.comp2042.utils.MatrixOperations;
-
 /**
  * Data class containing information about cleared rows.
- * Stores the number of lines removed, the updated board matrix, and score bonus.
- * 
+ * Stores the number of lines removed, which rows they were, and the score bonus.
+ * The board compacts itself in place, so no board matrix is carried; the cleared rows are a
+ * bitmask over the board rows as they were before the clear, for the renderer to animate.
+ *
  * @author Phung Yu Jie
  * @version 1.0
  */
 public final class ClearRow {
 
+    /** Result of a clear that removed nothing. */
+    public static final ClearRow NONE = new ClearRow(0, 0, 0L, 0);
+
     private final int linesRemoved;
-    private final int[][] newMatrix;
+    private final int firstRow;
+    private final long rowMask;
     private final int scoreBonus;
 
     /**
      * Constructs a ClearRow object with information about cleared lines.
-     * 
+     *
      * @param linesRemoved The number of lines that were cleared
-     * @param newMatrix The updated board matrix after clearing rows
+     * @param rowOffset The board row of bit 0 of the mask
+     * @param rowMask The cleared rows, bit {@code i} set when row {@code rowOffset + i} was cleared
      * @param scoreBonus The score bonus awarded for clearing these lines
      */
-    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+    public ClearRow(int linesRemoved, int rowOffset, long rowMask, int scoreBonus) {
+        // Keep the mask anchored at the topmost cleared row
+        int shift = rowMask == 0 ? 0 : Long.numberOfTrailingZeros(rowMask);
         this.linesRemoved = linesRemoved;
-        this.newMatrix = newMatrix;
+        this.firstRow = rowOffset + shift;
+        this.rowMask = rowMask >>> shift;
         this.scoreBonus = scoreBonus;
     }
 
     /**
      * Gets the number of lines that were removed.
-     * 
+     *
      * @return The number of cleared lines
      */
     public int getLinesRemoved() {
@@ -38,17 +46,38 @@ public final class ClearRow {
     }
 
     /**
-     * Gets a copy of the updated board matrix after clearing rows.
-     * 
-     * @return A copy of the new board matrix
+     * Gets the topmost cleared row, the row of bit 0 of {@link #getClearedRowMask()}.
+     *
+     * @return The index of the highest cleared row
+     */
+    public int getFirstClearedRow() {
+        return firstRow;
+    }
+
+    /**
+     * Gets the cleared rows as a bitmask: bit {@code i} is set when row
+     * {@link #getFirstClearedRow()} {@code + i} was cleared.
+     *
+     * @return The cleared row mask
+     */
+    public long getClearedRowMask() {
+        return rowMask;
+    }
+
+    /**
+     * Checks whether a board row was cleared, using row indices from before the clear.
+     *
+     * @param row The row index
+     * @return true if the row was cleared
      */
-    public int[][] getNewMatrix() {
-        return MatrixOperations.copy(newMatrix);
+    public boolean isRowCleared(int row) {
+        int bit = row - firstRow;
+        return bit >= 0 && bit < Long.SIZE && (rowMask & 1L << bit) != 0;
     }
 
     /**
      * Gets the score bonus awarded for clearing these lines.
-     * 
+     *
      * @return The score bonus value
      */
     public int getScoreBonus() {
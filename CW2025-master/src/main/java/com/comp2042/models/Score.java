@@ -1,41 +1,118 @@
 package com.comp2042.models;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Represents the game score with JavaFX property binding support.
- * Provides methods to add points, reset the score, and bind to UI elements.
- * 
+ * Represents the game score as a plain counter with change listeners.
+ * Provides methods to add points, reset the score and observe changes; it has no UI
+ * dependencies, so boards keep score in headless games as well. The JavaFX view binds
+ * to a property that its controller updates from the game engine.
+ * The value lives in a field by default; a board that keeps its state elsewhere, such as an
+ * off-heap arena slot, overrides {@link #load()} and {@link #store(int)} to read and write it there.
+ *
  * @author Phung Yu Jie
  * @version 1.0
  */
-public final class Score {
+public class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    /**
+     * Receives every change of a score.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Called after the score changed.
+         *
+         * @param oldValue The score before the change
+         * @param newValue The score after the change
+         */
+        void scoreChanged(int oldValue, int newValue);
+    }
+
+    private int score;
+    private final List<Listener> listeners = new ArrayList<>(1);
+
+    /**
+     * Gets the current score.
+     *
+     * @return The current score
+     */
+    public final int get() {
+        return load();
+    }
 
     /**
-     * Gets the score property for JavaFX binding.
-     * 
-     * @return The IntegerProperty representing the current score
+     * Reads the stored score.
+     *
+     * @return The stored score
      */
-    public IntegerProperty scoreProperty() {
+    protected int load() {
         return score;
     }
 
+    /**
+     * Writes the stored score; listeners are notified by the caller.
+     *
+     * @param value The score to store
+     */
+    protected void store(int value) {
+        score = value;
+    }
+
+    /**
+     * Adds a listener that is told about every later change of the score.
+     *
+     * @param listener The listener to add
+     */
+    public final void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addListener(Listener)}.
+     *
+     * @param listener The listener to remove
+     */
+    public final void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
     /**
      * Adds points to the current score.
-     * 
+     *
      * @param i The number of points to add
      */
-    public void add(int i){
-        score.setValue(score.getValue() + i);
+    public final void add(int i){
+        set(load() + i);
     }
 
     /**
      * Resets the score to zero.
      */
-    public void reset() {
-        score.setValue(0);
+    public final void reset() {
+        set(0);
+    }
+
+    /**
+     * Sets the score back to a previously recorded value, e.g. when restoring a snapshot.
+     *
+     * @param value The score value to restore
+     */
+    public final void restore(int value) {
+        set(value);
+    }
+
+    private void set(int value) {
+        int oldValue = load();
+        if (value == oldValue) {
+            return;
+        }
+        store(value);
+        // Indexed loop, so notifying allocates no iterator on the scoring path
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).scoreChanged(oldValue, value);
+        }
     }
 }
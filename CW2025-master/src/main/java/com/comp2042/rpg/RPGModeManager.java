@@ -8,6 +8,8 @@ import com.comp2042.rpg.config.RPGConfig;
 import com.comp2042.rpg.progression.LevelProgressionCalculator;
 import com.comp2042.rpg.progression.RPGSpeedScaler;
 
+import java.util.SplittableRandom;
+
 /**
  * Manages all RPG mode functionality including level progression, ability management,
  * speed scaling, and garbage block spawning.
@@ -18,7 +20,12 @@ import com.comp2042.rpg.progression.RPGSpeedScaler;
  */
 public class RPGModeManager {
     
+    /** Number of abilities offered on each level-up. */
+    public static final int LEVEL_UP_OFFERS = 3;
+    private static final String[] LEVEL_UP_ABILITIES = {"CLEAR_BOTTOM_3", "SLOW_TIME", "COLOR_BOMB", "COLOR_SYNC"};
+    
     private int rpgLevel = 1;
+    private SplittableRandom offerRandom = new SplittableRandom();
     private final AbilityManager abilityManager;
     private final LevelProgressionCalculator levelCalculator;
     private final RPGSpeedScaler speedScaler;
@@ -47,6 +54,44 @@ public class RPGModeManager {
      */
     public void setRpgLevel(int level) { this.rpgLevel = level; }
     
+    /**
+     * Resets the level and abilities for a new game, reusing this manager and its subsystems.
+     */
+    public void reset() {
+        rpgLevel = 1;
+        abilityManager.reset();
+    }
+    
+    /**
+     * Resets the level and abilities for a new game whose level-up offers come from the
+     * game's ability stream, so a seeded game offers the same abilities every time.
+     * 
+     * @param offerRandom The ability offer stream of the new game
+     */
+    public void reset(SplittableRandom offerRandom) {
+        this.offerRandom = offerRandom;
+        reset();
+    }
+    
+    /**
+     * Picks the abilities offered on a level-up: {@value #LEVEL_UP_OFFERS} different abilities
+     * out of the four, in random order.
+     * 
+     * @return The ability type names to offer
+     */
+    public String[] drawLevelUpOffers() {
+        String[] pool = LEVEL_UP_ABILITIES.clone();
+        String[] offers = new String[LEVEL_UP_OFFERS];
+        // Partial Fisher-Yates shuffle: each offer is drawn from the abilities not offered yet
+        for (int i = 0; i < offers.length; i++) {
+            int pick = i + offerRandom.nextInt(pool.length - i);
+            offers[i] = pool[pick];
+            pool[pick] = pool[i];
+            pool[i] = offers[i];
+        }
+        return offers;
+    }
+    
     /**
      * Gets the AbilityManager instance for managing RPG abilities.
      * 
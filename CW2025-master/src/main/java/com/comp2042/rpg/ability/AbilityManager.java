@@ -2,6 +2,8 @@ package com.comp2042.rpg.ability;
 
 import com.comp2042.rpg.AbilityType;
 
+import java.util.Arrays;
+
 /**
  * Manages RPG abilities (charges, slots, execution).
  * Extracted from GameController for better organization.
@@ -37,6 +39,8 @@ public class AbilityManager {
     
     public AbilityType[] getAbilitySlots() { return abilitySlots; }
     
+    public void setAbilitySlot(int slotIndex, AbilityType type) { abilitySlots[slotIndex] = type; }
+    
     public AbilityType mapAbilityType(String abilityName) {
         switch (abilityName) {
             case "Clear 3 Rows":
@@ -129,8 +133,26 @@ public class AbilityManager {
         }
     }
     
+    public void setChargesForType(AbilityType type, int charges) {
+        switch (type) {
+            case CLEAR_ROWS: clearRowsCharges = charges; break;
+            case SLOW_TIME: slowTimeCharges = charges; break;
+            case COLOR_BOMB: colorBombCharges = charges; break;
+            case COLOR_SYNC: colorSyncCharges = charges; break;
+            default: break;
+        }
+    }
+    
     public boolean hasCharges(AbilityType type) {
         return getChargesForType(type) > 0;
     }
+    
+    public void reset() {
+        clearRowsCharges = 0;
+        slowTimeCharges = 0;
+        colorBombCharges = 0;
+        colorSyncCharges = 0;
+        Arrays.fill(abilitySlots, AbilityType.NONE);
+    }
 }
 
@@ -15,7 +15,10 @@ import com.comp2042.modes.GameMode;
  */
 public class GameAnimationManager {
     
+    private static final double BASE_INTERVAL_MS = 400;
+    
     private Timeline timeLine;
+    private final MoveEvent gravityEvent = new MoveEvent(EventType.DOWN, EventSource.THREAD);
     
     // Callback interface for move down action
     public interface MoveDownCallback {
@@ -48,17 +51,20 @@ public class GameAnimationManager {
     }
     
     /**
-     * Create and start the game timeline with the specified speed
+     * Start the game timeline with the specified speed.
+     * The timeline is built once; later calls restart it and only change its playback rate,
+     * so restarts and speed changes do not rebuild it.
      */
     public void createAndStartGameTimeline(long speed) {
-        if (timeLine != null) {
-            timeLine.stop();
+        if (timeLine == null) {
+            timeLine = new Timeline(new KeyFrame(
+                    Duration.millis(BASE_INTERVAL_MS),
+                    ae -> moveDownCallback.moveDown(gravityEvent)
+            ));
+            timeLine.setCycleCount(Timeline.INDEFINITE);
         }
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(speed),
-                ae -> moveDownCallback.moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
+        timeLine.stop();
+        timeLine.setRate(BASE_INTERVAL_MS / speed);
         timeLine.play();
     }
     
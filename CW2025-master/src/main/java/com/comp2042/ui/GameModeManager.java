@@ -11,11 +11,14 @@ import com.comp2042.modes.GameMode;
 import com.comp2042.managers.ScoreManager;
 import com.comp2042.managers.AudioManager;
 import com.comp2042.ui.panels.GameOverPanel;
+import com.comp2042.core.GameEngine;
 import com.comp2042.core.GameStateManager;
 
 /**
- * Manages game mode specific logic and timers.
+ * Manages game mode specific displays and timers.
  * Extracted from GameViewController for better maintainability.
+ * The mode rules (the Ultra time limit, Ultra and Survival speed levels) are decided by the
+ * {@link GameEngine}; the Ultra timer only feeds game time to it and shows what it reports.
  */
 public class GameModeManager {
     
@@ -25,17 +28,11 @@ public class GameModeManager {
     
     // Ultra mode variables
     private Timeline ultraTimer;
-    private long ultraStartTime = 0;
-    private int ultraSpeedLevel = 1; // Current speed level (starts at 1)
+    private static final long ULTRA_TICK_MILLIS = 100; // Game time fed to the engine per timer tick
     private long currentSpeedInterval = 400; // Current speed in milliseconds (starts at 400ms)
-    private static final long ULTRA_TIME_LIMIT = 120000; // 2 minutes in milliseconds
-    private static final long ULTRA_SPEED_INCREASE_INTERVAL = 20000; // 20 seconds in milliseconds
     
     // Survival mode variables
-    private int survivalSpeedLevel = 1; // Current speed level (starts at 1)
     private long survivalSpeedInterval = 400; // Current speed in milliseconds (starts at 400ms)
-    private int survivalNextThreshold = 1500; // Next score threshold for speed increase
-    private static final int SURVIVAL_SPEED_INCREASE_THRESHOLD = 1500; // Points needed for each speed increase
     
     // UI Labels
     private javafx.scene.control.Label sprintLinesLabel;
@@ -52,7 +49,7 @@ public class GameModeManager {
     
     // Callback interfaces
     public interface GameModeCallback {
-        void ultraComplete();
+        void advanceGameClock(long millis);
         void sprintComplete();
         void createAndStartGameTimeline(long speed);
         void centerGameOverPanel(Pane root);
@@ -89,78 +86,75 @@ public class GameModeManager {
      * Initialize Survival mode
      */
     public void initializeSurvivalMode() {
-        survivalSpeedLevel = 1;
         survivalSpeedInterval = 400;
-        survivalNextThreshold = SURVIVAL_SPEED_INCREASE_THRESHOLD;
-        updateSurvivalDisplay();
+        updateSurvivalDisplay(1);
     }
     
     /**
      * Update Survival mode display
      */
-    private void updateSurvivalDisplay() {
+    private void updateSurvivalDisplay(int level) {
         if (survivalSpeedLevelLabel != null) {
             Platform.runLater(() -> {
-                survivalSpeedLevelLabel.setText(String.valueOf(survivalSpeedLevel));
+                survivalSpeedLevelLabel.setText(String.valueOf(level));
             });
         }
         if (survivalNextThresholdLabel != null) {
+            // The engine raises the level every SURVIVAL_LEVEL_POINTS points
             Platform.runLater(() -> {
-                survivalNextThresholdLabel.setText(String.valueOf(survivalNextThreshold));
+                survivalNextThresholdLabel.setText(String.valueOf(level * GameEngine.SURVIVAL_LEVEL_POINTS));
             });
         }
     }
     
     /**
-     * Check if Survival mode speed should increase (every 1500 points)
+     * Show a new Ultra or Survival speed level reported by the game engine and restart the
+     * game timeline at its speed
      */
-    public void checkSurvivalSpeedIncrease(int currentScore, GameMode currentGameMode) {
-        if (currentGameMode == GameMode.SURVIVAL && currentScore >= survivalNextThreshold) {
-            survivalSpeedLevel++;
-            // Decrease interval (make faster): 400ms -> 350ms -> 300ms -> 250ms -> 200ms, etc.
-            // Keep at 400ms for now (can be adjusted later)
+    public void speedLevelChanged(int level, GameMode currentGameMode) {
+        // Keep at 400ms for all levels (can be adjusted later)
+        if (currentGameMode == GameMode.SURVIVAL) {
             survivalSpeedInterval = 400;
-            
-            // Update next threshold
-            survivalNextThreshold += SURVIVAL_SPEED_INCREASE_THRESHOLD;
-            
             // Update highest level if this is better
-            scoreManager.updateSurvivalHighestLevel(survivalSpeedLevel);
-            
-            // Update game timeline speed
-            if (gameModeCallback != null && currentGameMode == GameMode.SURVIVAL) {
-                gameModeCallback.createAndStartGameTimeline(survivalSpeedInterval);
-            }
-            
-            updateSurvivalDisplay();
+            scoreManager.updateSurvivalHighestLevel(level);
+            updateSurvivalDisplay(level);
+        } else if (currentGameMode == GameMode.ULTRA) {
+            currentSpeedInterval = 400;
+            updateUltraSpeedLevelDisplay(level);
+        } else {
+            return;
+        }
+        
+        // Update game timeline speed
+        if (gameModeCallback != null) {
+            gameModeCallback.createAndStartGameTimeline(currentGameMode == GameMode.SURVIVAL
+                    ? survivalSpeedInterval : currentSpeedInterval);
         }
     }
     
     /**
-     * Start Ultra mode timer and speed progression
+     * Start Ultra mode timer, which feeds game time to the engine
      */
     public void startUltraTimer() {
-        ultraStartTime = System.currentTimeMillis();
-        ultraSpeedLevel = 1;
         currentSpeedInterval = 400; // Start at 400ms
         
         // Update initial display
-        updateUltraTimerDisplay();
-        updateUltraSpeedLevelDisplay();
+        updateUltraTimer(GameEngine.ULTRA_TIME_LIMIT_MS);
+        updateUltraSpeedLevelDisplay(1);
         
-        if (ultraTimer != null) {
-            ultraTimer.stop();
+        // Timer that ticks every 100ms for smooth display, built once and restarted after that
+        if (ultraTimer == null) {
+            ultraTimer = new Timeline(new KeyFrame(
+                    Duration.millis(ULTRA_TICK_MILLIS),
+                    ae -> {
+                        if (gameModeCallback != null && !gameStateManager.isGameOver()) {
+                            gameModeCallback.advanceGameClock(ULTRA_TICK_MILLIS);
+                        }
+                    }
+            ));
+            ultraTimer.setCycleCount(Timeline.INDEFINITE);
         }
-        
-        // Timer that updates every 100ms for smooth display
-        ultraTimer = new Timeline(new KeyFrame(
-                Duration.millis(100),
-                ae -> {
-                    updateUltraTimerDisplay();
-                    checkUltraSpeedIncrease();
-                }
-        ));
-        ultraTimer.setCycleCount(Timeline.INDEFINITE);
+        ultraTimer.stop();
         ultraTimer.play();
     }
     
@@ -176,82 +170,39 @@ public class GameModeManager {
     /**
      * Update Ultra mode timer display (countdown from 2 minutes)
      */
-    private void updateUltraTimerDisplay() {
-        if (ultraStartTime > 0 && ultraTimerLabel != null && !gameStateManager.isGameOver()) {
-            long elapsed = System.currentTimeMillis() - ultraStartTime;
-            long remaining = ULTRA_TIME_LIMIT - elapsed;
-            
-            if (remaining <= 0) {
-                // Time's up! Stop immediately
-                ultraTimerLabel.setText("00:00");
-                // Stop timeline immediately to prevent blocks from falling
-                if (gameModeCallback != null) {
-                    gameModeCallback.stopTimeline();
-                }
-                // Set game over state to prevent any further moves
-                gameStateManager.setGameOver(true);
-                // Then show completion screen
-                Platform.runLater(() -> {
-                    if (gameModeCallback != null) {
-                        gameModeCallback.ultraComplete();
-                    }
-                });
-            } else {
-                long seconds = remaining / 1000;
-                long minutes = seconds / 60;
-                seconds = seconds % 60;
-                ultraTimerLabel.setText(String.format("%02d:%02d", minutes, seconds));
-            }
+    public void updateUltraTimer(long remainingMillis) {
+        if (ultraTimerLabel != null) {
+            long seconds = Math.max(0, remainingMillis) / 1000;
+            long minutes = seconds / 60;
+            seconds = seconds % 60;
+            ultraTimerLabel.setText(String.format("%02d:%02d", minutes, seconds));
         }
     }
     
     /**
      * Update Ultra mode speed level display
      */
-    private void updateUltraSpeedLevelDisplay() {
+    private void updateUltraSpeedLevelDisplay(int level) {
         if (ultraSpeedLevelLabel != null) {
             Platform.runLater(() -> {
-                ultraSpeedLevelLabel.setText(String.valueOf(ultraSpeedLevel));
+                ultraSpeedLevelLabel.setText(String.valueOf(level));
             });
         }
     }
     
-    /**
-     * Check if speed should increase (every 20 seconds)
-     */
-    private void checkUltraSpeedIncrease() {
-        if (ultraStartTime > 0) {
-            long elapsed = System.currentTimeMillis() - ultraStartTime;
-            int expectedLevel = (int) (elapsed / ULTRA_SPEED_INCREASE_INTERVAL) + 1;
-            
-            if (expectedLevel > ultraSpeedLevel) {
-                ultraSpeedLevel = expectedLevel;
-                // Keep at 400ms for all levels (can be adjusted later)
-                currentSpeedInterval = 400;
-                
-                // Update game timeline speed
-                if (gameModeCallback != null) {
-                    gameModeCallback.createAndStartGameTimeline(currentSpeedInterval);
-                }
-                
-                updateUltraSpeedLevelDisplay();
-            }
-        }
-    }
-    
     /**
      * Start Sprint mode timer
      */
     public void startSprintTimer() {
         sprintStartTime = System.currentTimeMillis();
-        if (sprintTimer != null) {
-            sprintTimer.stop();
+        if (sprintTimer == null) {
+            sprintTimer = new Timeline(new KeyFrame(
+                    Duration.millis(100), // Update every 100ms for smooth display
+                    ae -> updateSprintTimer()
+            ));
+            sprintTimer.setCycleCount(Timeline.INDEFINITE);
         }
-        sprintTimer = new Timeline(new KeyFrame(
-                Duration.millis(100), // Update every 100ms for smooth display
-                ae -> updateSprintTimer()
-        ));
-        sprintTimer.setCycleCount(Timeline.INDEFINITE);
+        sprintTimer.stop();
         sprintTimer.play();
     }
     
@@ -274,7 +225,7 @@ public class GameModeManager {
     public void updateSprintLines(int linesCleared) {
         if (sprintLinesLabel != null) {
             Platform.runLater(() -> {
-                sprintLinesLabel.setText(linesCleared + " / 40");
+                sprintLinesLabel.setText(linesCleared + " / " + GameEngine.SPRINT_LINES);
             });
         }
     }
@@ -327,11 +278,12 @@ public class GameModeManager {
     /**
      * Ultra mode completed - time's up!
      */
-    public void ultraComplete(GameOverPanel gameOverPanel, Parent gameBoard, javafx.scene.control.Label scoreLabel) {
+    public void ultraComplete(GameOverPanel gameOverPanel, Parent gameBoard, int finalScore) {
         // Stop Ultra timer
         stopUltraTimer();
+        updateUltraTimer(0);
         
-        // Ensure game timeline is stopped (should already be stopped, but double-check)
+        // Stop game timeline so no more blocks fall
         if (gameModeCallback != null) {
             gameModeCallback.stopTimeline();
         }
@@ -339,16 +291,6 @@ public class GameModeManager {
         // Ensure game over state is set
         gameStateManager.setGameOver(true);
         
-        // Get final score from score label
-        int finalScore = 0;
-        try {
-            if (scoreLabel != null && scoreLabel.getText() != null) {
-                finalScore = Integer.parseInt(scoreLabel.getText().trim());
-            }
-        } catch (NumberFormatException e) {
-            System.out.println("Could not parse final score: " + e.getMessage());
-        }
-        
         // Update best score if this is better
         int oldBest = scoreManager.getUltraBestScore();
         scoreManager.updateUltraBestScore(finalScore);
@@ -388,7 +330,7 @@ public class GameModeManager {
             }
             sprintStartTime = 0;
             if (sprintLinesLabel != null) {
-                sprintLinesLabel.setText("0 / 40");
+                sprintLinesLabel.setText("0 / " + GameEngine.SPRINT_LINES);
             }
             if (sprintTimerLabel != null) {
                 sprintTimerLabel.setText("00:00");
@@ -397,8 +339,6 @@ public class GameModeManager {
             if (ultraTimer != null) {
                 ultraTimer.stop();
             }
-            ultraStartTime = 0;
-            ultraSpeedLevel = 1;
             currentSpeedInterval = 400;
             if (ultraTimerLabel != null) {
                 ultraTimerLabel.setText("02:00");
@@ -407,14 +347,12 @@ public class GameModeManager {
                 ultraSpeedLevelLabel.setText("1");
             }
         } else if (currentGameMode == GameMode.SURVIVAL) {
-            survivalSpeedLevel = 1;
             survivalSpeedInterval = 400;
-            survivalNextThreshold = SURVIVAL_SPEED_INCREASE_THRESHOLD;
             if (survivalSpeedLevelLabel != null) {
                 survivalSpeedLevelLabel.setText("1");
             }
             if (survivalNextThresholdLabel != null) {
-                survivalNextThresholdLabel.setText("1500");
+                survivalNextThresholdLabel.setText(String.valueOf(GameEngine.SURVIVAL_LEVEL_POINTS));
             }
         }
     }
@@ -458,12 +396,4 @@ public class GameModeManager {
     public long getSurvivalSpeedInterval() {
         return survivalSpeedInterval;
     }
-    
-    public long getUltraStartTime() {
-        return ultraStartTime;
-    }
-    
-    public static long getUltraTimeLimit() {
-        return ULTRA_TIME_LIMIT;
-    }
 }
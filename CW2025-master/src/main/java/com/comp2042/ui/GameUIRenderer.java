@@ -5,6 +5,7 @@ import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
 
+import com.comp2042.core.DirtyRegion;
 import com.comp2042.models.ViewData;
 import com.comp2042.managers.SettingsManager;
 
@@ -19,6 +20,7 @@ public class GameUIRenderer {
     private Rectangle[][] displayMatrix;
     private Rectangle[][] rectangles;
     private Rectangle[][] ghostRectangles;
+    private int hiddenRows; // Spawn rows above the visible playfield
     
     private GridPane gamePanel;
     private GridPane brickPanel;
@@ -36,14 +38,17 @@ public class GameUIRenderer {
         this.holdPieceContainer = holdPieceContainer;
     }
     
-    public void initGameView(int[][] boardMatrix, ViewData brick) {
+    public void initGameView(int[][] boardMatrix, ViewData brick, int hiddenRows) {
+        this.hiddenRows = hiddenRows;
         displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-        for (int i = 2; i < boardMatrix.length; i++) {
+        for (int i = hiddenRows; i < boardMatrix.length; i++) {
             for (int j = 0; j < boardMatrix[i].length; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);
+                rectangle.setFill(getFillColor(boardMatrix[i][j]));
+                rectangle.setArcHeight(9); // Styled once; refreshes only change the fill
+                rectangle.setArcWidth(9);
                 displayMatrix[i][j] = rectangle;
-                gamePanel.add(rectangle, j, i - 2);
+                gamePanel.add(rectangle, j, i - hiddenRows);
             }
         }
 
@@ -384,9 +389,25 @@ public class GameUIRenderer {
     }
 
     public void refreshGameBackground(int[][] board) {
-        for (int i = 2; i < board.length; i++) {
+        for (int i = hiddenRows; i < board.length; i++) {
             for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
+                displayMatrix[i][j].setFill(getFillColor(board[i][j]));
+            }
+        }
+    }
+
+    /**
+     * Repaint only the background cells marked in the dirty region.
+     */
+    public void refreshGameBackground(int[][] board, DirtyRegion dirtyRegion) {
+        for (int i = Math.max(hiddenRows, dirtyRegion.getTopRow()); i <= dirtyRegion.getBottomRow(); i++) {
+            for (int word = 0; word < dirtyRegion.getRowWords(); word++) {
+                long columns = dirtyRegion.getDirtyColumns(i, word);
+                while (columns != 0) {
+                    int j = word * Long.SIZE + Long.numberOfTrailingZeros(columns);
+                    columns &= columns - 1;
+                    displayMatrix[i][j].setFill(getFillColor(board[i][j]));
+                }
             }
         }
     }
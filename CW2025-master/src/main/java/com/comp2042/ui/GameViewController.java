@@ -30,6 +30,7 @@ import com.comp2042.ui.panels.PausePanel;
 import com.comp2042.ui.panels.NotificationPanel;
 import com.comp2042.core.GameStateManager;
 import com.comp2042.core.GameController;
+import com.comp2042.core.DirtyRegion;
 import com.comp2042.events.MoveEvent;
 
 import java.net.URL;
@@ -287,8 +288,8 @@ public class GameViewController implements Initializable {
                              ultraSpeedLevelLabel, survivalSpeedLevelLabel, survivalNextThresholdLabel);
         modeManager.setGameModeCallback(new GameModeManager.GameModeCallback() {
             @Override
-            public void ultraComplete() {
-                GameViewController.this.ultraComplete();
+            public void advanceGameClock(long millis) {
+                eventListener.onTimeEvent(millis);
             }
             
             @Override
@@ -339,8 +340,8 @@ public class GameViewController implements Initializable {
     }
 
 
-    public void initGameView(int[][] boardMatrix, ViewData brick) {
-        uiRenderer.initGameView(boardMatrix, brick);
+    public void initGameView(int[][] boardMatrix, ViewData brick, int hiddenRows) {
+        uiRenderer.initGameView(boardMatrix, brick, hiddenRows);
 
         // Create and start game timeline with appropriate speed for current mode
         long initialSpeed = animationManager.getInitialSpeedForMode(currentGameMode, 
@@ -354,6 +355,8 @@ public class GameViewController implements Initializable {
             modeManager.startSprintTimer();
         } else if (currentGameMode == GameMode.ULTRA) {
             modeManager.startUltraTimer();
+        } else if (currentGameMode == GameMode.SURVIVAL) {
+            modeManager.initializeSurvivalMode();
         }
     }
 
@@ -364,6 +367,10 @@ public class GameViewController implements Initializable {
     public void refreshGameBackground(int[][] board) {
         uiRenderer.refreshGameBackground(board);
     }
+
+    public void refreshGameBackground(int[][] board, DirtyRegion dirtyRegion) {
+        uiRenderer.refreshGameBackground(board, dirtyRegion);
+    }
     
     private void updateDropSpeed(long speedMs, boolean treatAsNormal) {
         if (treatAsNormal) {
@@ -390,20 +397,6 @@ public class GameViewController implements Initializable {
     private void moveDown(MoveEvent event) {
         // Don't move if game is paused or game over
         if (!gameStateManager.isPaused() && !gameStateManager.isGameOver()) {
-            // Additional check for Ultra mode: stop if time is up
-            if (currentGameMode == GameMode.ULTRA && modeManager.getUltraStartTime() > 0) {
-                long elapsed = System.currentTimeMillis() - modeManager.getUltraStartTime();
-                if (elapsed >= GameModeManager.getUltraTimeLimit()) {
-                    // Time's up, stop moving immediately
-                    animationManager.stopTimeline();
-                    gameStateManager.setGameOver(true);
-                    Platform.runLater(() -> {
-                        ultraComplete();
-                    });
-                    return;
-                }
-            }
-            
             DownData downData = eventListener.onDownEvent(event);
             
             // Play sound when block lands (when clearRow is not null, it means block was merged)
@@ -465,13 +458,7 @@ public class GameViewController implements Initializable {
         
         // Listen to score changes to update highest score
         integerProperty.addListener((obs, oldVal, newVal) -> {
-            int currentScore = newVal.intValue();
-            scoreManager.updateHighestScore(currentScore);
-            
-            // Check Survival mode speed increase (every 1500 points)
-            if (currentGameMode == GameMode.SURVIVAL) {
-                modeManager.checkSurvivalSpeedIncrease(currentScore, currentGameMode);
-            }
+            scoreManager.updateHighestScore(newVal.intValue());
         });
     }
     
@@ -544,10 +531,11 @@ public class GameViewController implements Initializable {
     }
     
     /**
-     * Show the level-up popup for ability selection with 3 random abilities
+     * Show the level-up popup for ability selection
+     * @param offers The ability type names to offer, drawn by the RPG mode manager
      */
-    public void showLevelUpPopup() {
-        rpgLevelUpManager.showLevelUpPopup();
+    public void showLevelUpPopup(String[] offers) {
+        rpgLevelUpManager.showLevelUpPopup(offers);
     }
     
     /**
@@ -599,12 +587,29 @@ public class GameViewController implements Initializable {
     
     /**
      * Ultra mode completed - time's up!
+     * @param finalScore the score when the clock ran out
      */
-    public void ultraComplete() {
-        modeManager.ultraComplete(gameOverPanel, gameBoard, scoreLabel);
+    public void ultraComplete(int finalScore) {
+        modeManager.ultraComplete(gameOverPanel, gameBoard, finalScore);
         gamePanel.requestFocus();
     }
     
+    /**
+     * Update the Ultra mode countdown (called by GameController as game time passes)
+     * @param remainingMillis game time left in milliseconds
+     */
+    public void updateUltraTimer(long remainingMillis) {
+        modeManager.updateUltraTimer(remainingMillis);
+    }
+    
+    /**
+     * Ultra or Survival speed level rose (called by GameController)
+     * @param level the new speed level
+     */
+    public void updateSpeedLevel(int level) {
+        modeManager.speedLevelChanged(level, currentGameMode);
+    }
+    
     /**
      * RPG mode completed - player reached level 40!
      */
@@ -6,11 +6,6 @@ import com.comp2042.events.InputEventListener;
 import javafx.scene.control.Button;
 import javafx.scene.layout.StackPane;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-
 /**
  * Manages RPG level-up popup functionality.
  * Extracted from GameViewController for better maintainability.
@@ -44,19 +39,15 @@ public class RPGLevelUpManager {
     
     /**
      * Show the level-up popup for ability selection with 3 random abilities
+     * @param offers The 3 ability type names to offer, drawn from the game's seeded stream
      */
-    public void showLevelUpPopup() {
+    public void showLevelUpPopup(String[] offers) {
         System.out.println("showLevelUpPopup() called");
         if (levelUpGroup != null) {
-            // Randomly select 3 abilities from the 4 available
-            String[] allAbilities = {"CLEAR_BOTTOM_3", "SLOW_TIME", "COLOR_BOMB", "COLOR_SYNC"};
-            List<String> abilityList = new ArrayList<>(Arrays.asList(allAbilities));
-            Collections.shuffle(abilityList);
-            
-            // Take first 3 abilities
-            currentLevelUpAbilities[0] = abilityList.get(0);
-            currentLevelUpAbilities[1] = abilityList.get(1);
-            currentLevelUpAbilities[2] = abilityList.get(2);
+            // Take the 3 offered abilities
+            currentLevelUpAbilities[0] = offers[0];
+            currentLevelUpAbilities[1] = offers[1];
+            currentLevelUpAbilities[2] = offers[2];
             
             System.out.println("Random abilities selected: " + 
                 currentLevelUpAbilities[0] + ", " + 
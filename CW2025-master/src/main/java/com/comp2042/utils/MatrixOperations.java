@@ -2,9 +2,7 @@ package com.comp2042.utils;
 
 import com.comp2042.models.ClearRow;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -103,42 +101,55 @@ public class MatrixOperations {
     }
 
     /**
-     * Checks for completed rows and removes them, returning information about the operation.
+     * Removes completed rows from the matrix itself: the rows above drop down and the cleared
+     * row arrays are emptied and reused as the new top rows, so nothing is copied.
+     * The caller's matrix is modified; copy it first with {@link #copy(int[][])} to keep the original.
      * Calculates score bonus based on the number of lines cleared (50 * lines^2).
      * 
-     * @param matrix The board matrix to check for completed rows
-     * @return ClearRow object containing lines removed count, updated matrix, and score bonus
+     * @param matrix The board matrix to clear, modified in place
+     * @return ClearRow object containing lines removed count, cleared row mask, and score bonus
      */
-    public static ClearRow checkRemoving(final int[][] matrix) {
-        int[][] tmp = new int[matrix.length][matrix[0].length];
-        Deque<int[]> newRows = new ArrayDeque<>();
-        List<Integer> clearedRows = new ArrayList<>();
-
-        for (int i = 0; i < matrix.length; i++) {
-            int[] tmpRow = new int[matrix[i].length];
-            boolean rowToClear = true;
-            for (int j = 0; j < matrix[0].length; j++) {
-                if (matrix[i][j] == 0) {
-                    rowToClear = false;
+    public static ClearRow clearFullRowsInPlace(final int[][] matrix) {
+        int offset = Math.max(0, matrix.length - Long.SIZE);
+        long rowMask = 0L;
+        int writeRow = matrix.length - 1;
+        int removed = 0;
+        for (int readRow = matrix.length - 1; readRow >= 0; readRow--) {
+            int[] row = matrix[readRow];
+            if (isFull(row)) {
+                if (readRow >= offset) {
+                    rowMask |= 1L << (readRow - offset);
                 }
-                tmpRow[j] = matrix[i][j];
-            }
-            if (rowToClear) {
-                clearedRows.add(i);
-            } else {
-                newRows.add(tmpRow);
+                removed++;
+                continue;
             }
+            // Swapping keeps the cleared rows between the read and write positions
+            matrix[readRow] = matrix[writeRow];
+            matrix[writeRow--] = row;
+        }
+        if (removed == 0) {
+            return ClearRow.NONE;
         }
-        for (int i = matrix.length - 1; i >= 0; i--) {
-            int[] row = newRows.pollLast();
-            if (row != null) {
-                tmp[i] = row;
-            } else {
-                break;
+        // The cleared row arrays ended up at the top; empty them for reuse
+        for (int row = writeRow; row >= 0; row--) {
+            Arrays.fill(matrix[row], 0);
+        }
+        return new ClearRow(removed, offset, rowMask, 50 * removed * removed);
+    }
+
+    /**
+     * Checks if a row has no empty cell.
+     * 
+     * @param row The row to check
+     * @return true if every cell is non-zero
+     */
+    private static boolean isFull(int[] row) {
+        for (int cell : row) {
+            if (cell == 0) {
+                return false;
             }
         }
-        int scoreBonus = 50 * clearedRows.size() * clearedRows.size();
-        return new ClearRow(clearedRows.size(), tmp, scoreBonus);
+        return true;
     }
 
     /**
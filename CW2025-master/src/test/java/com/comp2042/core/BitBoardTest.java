@@ -0,0 +1,448 @@
+package com.comp2042.core;
+
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.ShapeTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for BitBoard.
+ * Tests bitmask occupancy, collision, merging and row clearing.
+ */
+public class BitBoardTest {
+
+    private static final int ROWS = 6;
+    private static final int COLS = 4;
+
+    private BitBoard grid;
+
+    private final int[][] square = {
+        {0, 0, 0, 0},
+        {0, 4, 4, 0},
+        {0, 4, 4, 0},
+        {0, 0, 0, 0}
+    };
+
+    @BeforeEach
+    void setUp() {
+        grid = new BitBoard(ROWS, COLS);
+    }
+
+    @Test
+    void testEmptyBoard() {
+        for (int row = 0; row < ROWS; row++) {
+            assertTrue(grid.isRowEmpty(row), "New board rows should be empty");
+            assertEquals(0L, grid.getRowMask(row), "New board masks should be zero");
+        }
+        assertEquals(ROWS, grid.getHighestOccupiedRow(), "Empty board has no occupied row");
+        assertEquals(0b1111L, grid.getFullRowMask(), "Full mask should cover every column");
+    }
+
+    @Test
+    void testSetCellKeepsMaskAndColorsInSync() {
+        grid.setCell(3, 2, 5);
+        assertTrue(grid.isOccupied(3, 2), "Cell should be occupied after set");
+        assertEquals(5, grid.getCell(3, 2), "Color should be stored");
+        assertEquals(5, grid.getMatrix()[3][2], "Matrix view should reflect the color");
+        assertEquals(0b0100L, grid.getRowMask(3), "Row mask should have column bit set");
+
+        grid.setCell(3, 2, 0);
+        assertFalse(grid.isOccupied(3, 2), "Cell should be empty after clearing");
+        assertEquals(0L, grid.getRowMask(3), "Row mask should be cleared");
+    }
+
+    @Test
+    void testIntersectsBounds() {
+        assertFalse(grid.intersects(square, 0, 0), "Square fits at the origin");
+        assertFalse(grid.intersects(square, -1, 0), "Empty shape columns may hang off the left edge");
+        assertTrue(grid.intersects(square, -2, 0), "Filled cells off the left edge collide");
+        assertTrue(grid.intersects(square, 2, 0), "Filled cells off the right edge collide");
+        assertFalse(grid.intersects(square, 0, 3), "Square fits at the bottom");
+        assertTrue(grid.intersects(square, 0, 4), "Filled cells below the board collide");
+        assertTrue(grid.intersects(square, 0, -2), "Filled cells above the board collide");
+    }
+
+    @Test
+    void testMergeAndIntersect() {
+        grid.merge(square, 0, 3);
+        assertEquals(0b0110L, grid.getRowMask(4), "Merged row mask");
+        assertEquals(0b0110L, grid.getRowMask(5), "Merged row mask");
+        assertEquals(4, grid.getCell(5, 1), "Merged color");
+        assertTrue(grid.intersects(square, 0, 2), "Overlapping the merged square collides");
+        assertFalse(grid.intersects(square, 0, 1), "Resting on the merged square does not collide");
+        assertEquals(4, grid.getHighestOccupiedRow(), "Highest row should be the merged top");
+    }
+
+    @Test
+    void testClearFullRows() {
+        for (int col = 0; col < COLS; col++) {
+            grid.setCell(5, col, 1);
+            grid.setCell(3, col, 2);
+        }
+        grid.setCell(4, 0, 3);
+        grid.setCell(2, 3, 6);
+
+        assertTrue(grid.isRowFull(5), "Row 5 should be full");
+        assertEquals(2, grid.clearFullRows(), "Two full rows should be removed");
+
+        assertEquals(0b0001L, grid.getRowMask(5), "Row 4 should drop to the bottom");
+        assertEquals(3, grid.getCell(5, 0), "Dropped color");
+        assertEquals(0b1000L, grid.getRowMask(4), "Row 2 should drop by two rows");
+        assertEquals(6, grid.getCell(4, 3), "Dropped color");
+        for (int row = 0; row < 4; row++) {
+            assertTrue(grid.isRowEmpty(row), "Rows above should be empty");
+        }
+    }
+
+    @Test
+    void testRemoveBottomRows() {
+        grid.setCell(5, 0, 1);
+        grid.setCell(3, 1, 2);
+        assertEquals(1, grid.removeBottomRows(2), "Only one removed row had blocks");
+        assertEquals(0b0010L, grid.getRowMask(5), "Row 3 should drop to the bottom");
+        assertEquals(2, grid.getCell(5, 1), "Dropped color");
+    }
+
+    @Test
+    void testClearColorAndCollapse() {
+        grid.setCell(5, 0, 1);
+        grid.setCell(4, 0, 2);
+        grid.setCell(3, 0, 1);
+        grid.setCell(2, 0, 3);
+
+        assertEquals(2, grid.clearColor(1), "Both color 1 blocks should be removed");
+        grid.collapseColumns();
+
+        assertEquals(2, grid.getCell(5, 0), "Blocks should collapse in order");
+        assertEquals(3, grid.getCell(4, 0), "Blocks should collapse in order");
+        assertTrue(grid.isRowEmpty(3), "Collapsed rows should be empty");
+        assertTrue(grid.isRowEmpty(2), "Collapsed rows should be empty");
+    }
+
+    @Test
+    void testRecolor() {
+        grid.setCell(5, 0, 1);
+        grid.setCell(5, 1, 7);
+        assertEquals(1, grid.recolor(7), "Only blocks of a different color change");
+        assertEquals(7, grid.getCell(5, 0), "Block should be recolored");
+        assertEquals(0, grid.getCell(5, 2), "Empty cells stay empty");
+    }
+
+    @Test
+    void testSkylineTracksMergedPieces() {
+        grid.merge(square, 0, 2);
+        assertEquals(3, grid.getColumnHeight(1), "Square top sits three rows above the floor");
+        assertEquals(1, grid.getColumnHoles(1), "Cell under the square is a hole");
+        assertEquals(0, grid.getColumnHeight(0), "Untouched column stays empty");
+        assertEquals(2, grid.getTotalHoles(), "Both square columns cover one hole");
+
+        grid.setCell(5, 1, 1);
+        assertEquals(0, grid.getColumnHoles(1), "Filling a hole removes it");
+        grid.setCell(4, 1, 0);
+        assertEquals(1, grid.getColumnHoles(1), "Opening a cell under the top adds a hole");
+        grid.setCell(3, 1, 0);
+        assertEquals(1, grid.getColumnHeight(1), "Removing the top drops the column surface");
+        assertEquals(0, grid.getColumnHoles(1), "Exposed cells are no longer holes");
+    }
+
+    @Test
+    void testSkylineMatchesFullScan() {
+        java.util.Random random = new java.util.Random(42);
+        for (int step = 0; step < 2000; step++) {
+            int row = random.nextInt(ROWS);
+            int col = random.nextInt(COLS);
+            grid.setCell(row, col, random.nextBoolean() ? 1 + random.nextInt(7) : 0);
+            if (step % 50 == 0) {
+                grid.clearFullRows();
+            } else if (step % 97 == 0) {
+                grid.collapseColumns();
+            }
+            int totalHoles = 0;
+            for (int c = 0; c < COLS; c++) {
+                int top = ROWS;
+                int holes = 0;
+                for (int r = ROWS - 1; r >= 0; r--) {
+                    if (grid.isOccupied(r, c)) {
+                        top = r;
+                    }
+                }
+                for (int r = top + 1; r < ROWS; r++) {
+                    if (!grid.isOccupied(r, c)) {
+                        holes++;
+                    }
+                }
+                totalHoles += holes;
+                assertEquals(ROWS - top, grid.getColumnHeight(c), "Column height should match a full scan");
+                assertEquals(holes, grid.getColumnHoles(c), "Column holes should match a full scan");
+            }
+            assertEquals(totalHoles, grid.getTotalHoles(), "Total holes should match a full scan");
+        }
+    }
+
+    @Test
+    void testDropRowMatchesStepping() {
+        BitBoard board = new BitBoard(20, 10);
+        java.util.Random random = new java.util.Random(7);
+        for (int step = 0; step < 3000; step++) {
+            board.setCell(8 + random.nextInt(12), random.nextInt(10), random.nextInt(3) == 0 ? 0 : 8);
+            int type = random.nextInt(7);
+            PieceShape shape = ShapeTable.get(type, random.nextInt(ShapeTable.rotationCount(type)));
+            int x = random.nextInt(10) - shape.getMinCol();
+            int y = random.nextInt(18) - shape.getMinRow();
+            if (board.intersects(shape, x, y)) {
+                continue;
+            }
+            int expected = y;
+            while (!board.intersects(shape, x, expected + 1)) {
+                expected++;
+            }
+            assertEquals(expected, board.getDropRow(shape, x, y), "Drop row should match stepping down");
+        }
+    }
+
+    @Test
+    void testClearOnlyInspectsMergedRows() {
+        PieceShape bar = ShapeTable.get(ShapeTable.I, 0);
+        grid.merge(bar, 0, ROWS - 2);
+        assertEquals(COLS, grid.getRowFillCount(ROWS - 1), "Horizontal bar should fill the bottom row");
+        assertEquals(1, grid.clearFullRows(), "Row completed by the merge should be cleared");
+        assertTrue(grid.isRowEmpty(ROWS - 1), "Cleared board should be empty");
+
+        grid.merge(square, 0, 2);
+        assertEquals(0, grid.clearFullRows(), "Merge that completes no row clears nothing");
+        assertEquals(4, grid.getCell(3, 1), "Board should be unchanged when nothing clears");
+
+        for (int col = 0; col < COLS; col++) {
+            grid.setCell(0, col, 2);
+        }
+        assertEquals(1, grid.clearFullRows(), "Rows filled outside a merge should still be found");
+    }
+
+    @Test
+    void testClearRecyclesRowArrays() {
+        int[][] matrix = grid.getMatrix();
+        int[] bottomRow = matrix[ROWS - 1];
+        for (int col = 0; col < COLS; col++) {
+            grid.setCell(ROWS - 1, col, 5);
+        }
+        grid.setCell(ROWS - 2, 0, 3);
+        assertEquals(1, grid.clearFullRows(), "Full bottom row should be cleared");
+        assertSame(matrix, grid.getMatrix(), "Matrix view should stay the same object");
+        assertEquals(3, grid.getCell(ROWS - 1, 0), "Row above should drop into place");
+        assertSame(bottomRow, matrix[ROWS - 2], "Freed row should be recycled as the new empty row");
+        assertTrue(grid.isRowEmpty(ROWS - 2), "Recycled row should be empty");
+        for (int col = 0; col < COLS; col++) {
+            assertEquals(0, matrix[ROWS - 2][col], "Recycled row should hold no colors");
+        }
+    }
+
+    @Test
+    void testMutationsMarkDirtyCells() {
+        DirtyRegion dirty = grid.getDirtyRegion();
+        assertTrue(dirty.isEmpty(), "New board should have nothing to repaint");
+
+        grid.merge(square, 0, 2);
+        assertEquals(4, dirty.getCellCount(), "Merge should mark only the piece cells");
+        assertEquals(0b0110L, dirty.getDirtyColumns(3), "Merged row should mark the piece columns");
+        dirty.clear();
+
+        grid.setCell(5, 0, 4);
+        grid.setCell(5, 0, 4);
+        assertEquals(1, dirty.getCellCount(), "Rewriting the same color should not mark again");
+        dirty.clear();
+
+        grid.recolor(4);
+        assertTrue(dirty.isEmpty(), "Recolor with no change should not mark cells");
+        grid.clearColor(4);
+        assertEquals(5, dirty.getCellCount(), "Color clear should mark every removed block");
+        dirty.clear();
+
+        for (int col = 0; col < COLS; col++) {
+            grid.setCell(ROWS - 1, col, 2);
+        }
+        grid.setCell(ROWS - 2, 0, 2);
+        dirty.clear();
+        grid.clearFullRows();
+        assertEquals(ROWS - 2, dirty.getTopRow(), "Clear should mark rows from the old stack top");
+        assertEquals(ROWS - 1, dirty.getBottomRow(), "Clear should mark down to the cleared row");
+    }
+
+    @Test
+    void testSnapshotIsCopyOnWrite() {
+        grid.merge(square, 0, 2);
+        int[][] matrix = grid.getMatrix();
+        int[] untouchedRow = matrix[3];
+        GridSnapshot snapshot = grid.snapshot();
+        assertSame(snapshot, grid.snapshot(), "Snapshots with no change in between should be shared");
+
+        grid.setCell(5, 0, 6);
+        assertSame(untouchedRow, matrix[3], "Rows not written after the snapshot should not be copied");
+        grid.setCell(3, 0, 6);
+        for (int col = 0; col < COLS; col++) {
+            grid.setCell(ROWS - 1, col, 2);
+        }
+        grid.clearFullRows();
+
+        grid.restore(snapshot);
+        assertEquals(0, grid.getCell(5, 0), "Restore should undo later writes");
+        assertEquals(4, grid.getCell(3, 1), "Restore should bring back the snapshot blocks");
+        assertEquals(0, grid.getCell(3, 0), "Shared rows should not see writes made after the snapshot");
+        assertEquals(3, grid.getColumnHeight(1), "Skyline should be rebuilt on restore");
+
+        grid.setCell(3, 0, 7);
+        grid.restore(snapshot);
+        assertEquals(0, grid.getCell(3, 0), "Writes after a restore should not change the snapshot");
+    }
+
+    @Test
+    void testRestoreRejectsOtherDimensions() {
+        BitBoard wider = new BitBoard(ROWS, COLS + 1);
+        wider.setCell(ROWS - 1, COLS, 3);
+        GridSnapshot widerSnapshot = wider.snapshot();
+        wider.setCell(0, 0, 1);
+        assertThrows(IllegalArgumentException.class, () -> grid.restore(widerSnapshot),
+                "A snapshot with other columns should be rejected");
+
+        BitBoard multiWord = new BitBoard(ROWS, 100);
+        GridSnapshot multiWordSnapshot = multiWord.snapshot();
+        multiWord.setCell(0, 0, 1);
+        BitBoard otherWide = new BitBoard(ROWS, 70);
+        assertThrows(IllegalArgumentException.class, () -> otherWide.restore(multiWordSnapshot),
+                "A multi-word snapshot with other columns should be rejected");
+        assertEquals(0, grid.getCell(ROWS - 1, 0), "A rejected snapshot should leave the board alone");
+    }
+
+    @Test
+    void testColorPlanesFollowEveryOperation() {
+        BitBoard board = new BitBoard(12, 7);
+        java.util.Random random = new java.util.Random(11);
+        for (int step = 0; step < 3000; step++) {
+            board.setCell(random.nextInt(12), random.nextInt(7), random.nextInt(3) == 0 ? 0 : 1 + random.nextInt(BitBoard.MAX_COLOR));
+            if (step % 40 == 10) {
+                board.clearColor(1 + random.nextInt(BitBoard.MAX_COLOR));
+            } else if (step % 40 == 20) {
+                board.recolor(1 + random.nextInt(BitBoard.MAX_COLOR));
+            } else if (step % 40 == 30) {
+                int[][] expected = collapsedCopy(board);
+                board.collapseColumns();
+                assertArrayEquals(expected, board.getMatrix(), "Collapse should match a per-column compaction");
+            } else if (step % 40 == 39) {
+                board.clearFullRows();
+            }
+            for (int row = 0; row < 12; row++) {
+                for (int color = 1; color <= BitBoard.MAX_COLOR; color++) {
+                    long expectedPlane = 0L;
+                    for (int col = 0; col < 7; col++) {
+                        if (board.getCell(row, col) == color) {
+                            expectedPlane |= 1L << col;
+                        }
+                    }
+                    assertEquals(expectedPlane, board.getColorPlane(row, color), "Color plane should match the cells");
+                }
+            }
+        }
+    }
+
+    private static int[][] collapsedCopy(BitBoard board) {
+        int[][] result = new int[board.getRows()][board.getCols()];
+        for (int col = 0; col < board.getCols(); col++) {
+            int writeRow = board.getRows() - 1;
+            for (int row = board.getRows() - 1; row >= 0; row--) {
+                if (board.getCell(row, col) != 0) {
+                    result[writeRow--][col] = board.getCell(row, col);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Test
+    void testOccupancyHashMatchesRecomputation() {
+        java.util.Random random = new java.util.Random(5);
+        BitBoard board = new BitBoard(10, 6);
+        GridSnapshot snapshot = board.snapshot();
+        for (int step = 0; step < 2000; step++) {
+            board.setCell(random.nextInt(10), random.nextInt(6), random.nextBoolean() ? 0 : 1 + random.nextInt(7));
+            if (step % 25 == 0) {
+                board.clearColor(1 + random.nextInt(7));
+                board.collapseColumns();
+            } else if (step % 31 == 0) {
+                board.clearFullRows();
+                board.removeBottomRows(1);
+            } else if (step % 97 == 0) {
+                board.restore(snapshot);
+                snapshot = board.snapshot();
+            }
+            long expected = 0L;
+            for (int row = 0; row < 10; row++) {
+                for (int col = 0; col < 6; col++) {
+                    if (board.isOccupied(row, col)) {
+                        expected ^= ZobristKeys.cell(row, col);
+                    }
+                }
+            }
+            assertEquals(expected, board.getOccupancyHash(), "Incremental hash should match a full recomputation");
+        }
+        board.clear();
+        assertEquals(0L, board.getOccupancyHash(), "Empty board should hash to zero");
+    }
+
+    @Test
+    void testUnsupportedWidth() {
+        assertThrows(IllegalArgumentException.class, () -> new BitBoard(10, BitBoard.MAX_COLUMNS + 1),
+                "Boards wider than the column limit are not supported");
+    }
+
+    @Test
+    void testWideBoardUsesSeveralWords() {
+        BitBoard wide = new BitBoard(8, 100);
+        assertEquals(2, wide.getRowWords(), "100 columns need two mask words");
+        assertEquals(-1L, wide.getFullRowMask(0), "First word should be completely used");
+        assertEquals((1L << 36) - 1, wide.getFullRowMask(1), "Second word should cover the remaining 36 columns");
+
+        wide.setCell(7, 70, 3);
+        assertTrue(wide.isOccupied(7, 70), "Cell in the second word should be occupied");
+        assertEquals(1L << 6, wide.getRowMask(7, 1), "Second word should hold the column bit");
+        assertEquals(0L, wide.getRowMask(7, 0), "First word should stay empty");
+        assertEquals(1L << 6, wide.getColorPlane(7, 3, 1), "Color plane should use the same word");
+        assertEquals(1, wide.getColumnHeight(70), "Skyline should track wide columns");
+    }
+
+    @Test
+    void testWideBoardPieceAcrossWordBoundary() {
+        BitBoard wide = new BitBoard(8, 100);
+        PieceShape bar = ShapeTable.get(ShapeTable.I, 0);
+        int x = 62; // Flat bar covers columns 62 to 65
+        int y = wide.getDropRow(bar, x, 0);
+        assertFalse(wide.intersects(bar, x, y), "Bar should fit on the floor");
+        wide.merge(bar, x, y);
+        int row = wide.getHighestOccupiedRow();
+        assertEquals(7, row, "Flat bar should rest on the floor");
+        assertEquals(4, wide.getRowFillCount(row), "All bar cells should be merged");
+        assertTrue(wide.isOccupied(row, 63) && wide.isOccupied(row, 64), "Bar should span both words");
+        assertTrue(wide.intersects(bar, x, y), "Merged bar should block the same position");
+        assertTrue(wide.getDirtyRegion().getDirtyColumns(row, 1) != 0, "Second word should be marked dirty");
+    }
+
+    @Test
+    void testWideBoardClearsAndCollapses() {
+        BitBoard wide = new BitBoard(6, 80);
+        for (int col = 0; col < 80; col++) {
+            wide.setCell(5, col, 1 + col % 7);
+        }
+        wide.setCell(4, 75, 2);
+        wide.setCell(2, 10, 3);
+        assertTrue(wide.isRowFull(5), "Every column in both words is filled");
+        assertEquals(1, wide.clearFullRows(), "Wide full row should be cleared");
+        assertEquals(2, wide.getCell(5, 75), "Block in the second word should drop");
+        assertEquals(3, wide.getCell(3, 10), "Block in the first word should drop");
+
+        wide.collapseColumns();
+        assertEquals(3, wide.getCell(5, 10), "Collapse should settle columns in the first word");
+        assertEquals(2, wide.getCell(5, 75), "Collapse should keep settled columns in the second word");
+        assertEquals(0, wide.getTotalHoles(), "Collapsed board has no holes");
+        long expected = ZobristKeys.cell(5, 10) ^ ZobristKeys.cell(5, 75);
+        assertEquals(expected, wide.getOccupancyHash(), "Hash should follow blocks across words");
+    }
+}
@@ -0,0 +1,201 @@
+package com.comp2042.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for BoardArena and ArenaBoard.
+ * Tests that off-heap boards play like heap boards and are recycled in place.
+ */
+public class BoardArenaTest {
+
+    private BoardArena arena;
+
+    @BeforeEach
+    void setUp() {
+        arena = new BoardArena(8, 25, 10);
+        arena.resetAll(42L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        arena.close();
+    }
+
+    @Test
+    void testResetDealsPiece() {
+        ArenaBoard board = arena.board(0);
+        assertFalse(board.isGameOver(), "New game should not be over");
+        assertEquals(4, board.getViewData().getxPosition(), "Piece should spawn in the standard column");
+        assertEquals(0, board.getStackHeight(), "New board should be empty");
+        assertEquals(0, board.getScore().get(), "Score should start at zero");
+        assertNotNull(board.getViewData().getNextBrickData(), "Queue should be filled");
+    }
+
+    @Test
+    void testClearRowsAndSkyline() {
+        ArenaBoard board = arena.board(1);
+        for (int i = 0; i < 4; i++) {
+            board.moveBrickLeft();
+        }
+        int dropDistance = board.hardDropBrick();
+        assertTrue(dropDistance > 0, "Piece should fall on an empty board");
+        assertFalse(board.moveBrickDown(), "Piece should rest on the floor after a hard drop");
+        board.mergeBrickToBackground();
+        assertTrue(board.getStackHeight() > 0, "Merged piece should be part of the stack");
+        assertEquals(0, board.clearRows().getLinesRemoved(), "A single piece should not clear a row");
+
+        // Fill the bottom row around whatever the piece left there
+        int[][] matrix = board.getBoardMatrix();
+        BoardSnapshot snapshot = board.snapshot();
+        int bottom = matrix.length - 1;
+        for (int col = 0; col < matrix[bottom].length; col++) {
+            if (matrix[bottom][col] == 0) {
+                snapshot.getGrid().getRowMasks()[bottom] |= 1L << col;
+                snapshot.getGrid().getColorRows()[bottom][col] = 8;
+            }
+        }
+        board.restore(snapshot);
+        int heightBefore = board.getStackHeight();
+        assertEquals(1, board.clearRows().getLinesRemoved(), "Full bottom row should be cleared");
+        assertEquals(1, board.getTotalLinesCleared(), "Cleared lines should be counted");
+        assertEquals(heightBefore - 1, board.getStackHeight(), "Skyline should drop with the cleared row");
+    }
+
+    @Test
+    void testSlotsAreIndependent() {
+        ArenaBoard board = arena.board(2);
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        board.addScore(100);
+        board.select(3);
+        assertEquals(0, board.getStackHeight(), "Other slots should not see the merged piece");
+        assertEquals(0, board.getScore().get(), "Other slots should keep their own score");
+        board.select(2);
+        assertEquals(100, board.getScore().get(), "Selecting a slot again should show its score");
+    }
+
+    @Test
+    void testScoreWritesReachSlot() {
+        ArenaBoard board = arena.board(4);
+        int[] heard = {0};
+        board.getScore().addListener((oldValue, newValue) -> heard[0] = newValue);
+        board.getScore().add(40);
+        board.getScore().add(30);
+        board.select(5);
+        board.getScore().add(5);
+        assertEquals(5, heard[0], "Listeners should hear writes to the slot the cursor is on");
+        board.select(4);
+        assertEquals(70, board.getScore().get(), "Points added through the score should stay in the slot");
+        board.getScore().reset();
+        assertEquals(0, arena.board(4).getScore().get(), "A reset should be stored in the slot");
+        assertEquals(5, arena.board(5).getScore().get(), "Other slots should keep their points");
+    }
+
+    @Test
+    void testPlaysUntilGameOverAndRecycles() {
+        ArenaBoard board = arena.board(5);
+        int pieces = 0;
+        while (!board.isGameOver() && pieces < 1000) {
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            board.createNewBrick();
+            pieces++;
+        }
+        assertTrue(arena.isGameOver(5), "Dropping in one column should end the game");
+        assertFalse(arena.isGameOver(4), "Neighbouring slots should keep playing");
+
+        arena.reset(5, 7L);
+        assertFalse(board.isGameOver(), "Reset should start a new game in the slot");
+        assertEquals(0, board.getStackHeight(), "Reset should empty the slot");
+    }
+
+    @Test
+    void testSameSeedDealsSamePieces() {
+        arena.reset(6, 99L);
+        arena.reset(7, 99L);
+        ArenaBoard first = arena.board(6);
+        ArenaBoard second = arena.board(7);
+        for (int i = 0; i < 20; i++) {
+            assertArrayEquals(first.getViewData().getBrickData(), second.getViewData().getBrickData(),
+                    "Equal seeds should deal equal pieces");
+            first.createNewBrick();
+            second.createNewBrick();
+        }
+        assertEquals(first.getStateHash(), second.getStateHash(), "Equal games should hash equally");
+    }
+
+    @Test
+    void testSnapshotRestoresIntoHeapBoard() {
+        ArenaBoard board = arena.board(0);
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        board.createNewBrick();
+        board.holdBrick();
+        board.addScore(60);
+
+        TetrisBoard heap = new TetrisBoard(25, 10);
+        heap.restore(board.snapshot());
+        assertArrayEquals(board.getBoardMatrix(), heap.getBoardMatrix(), "Board contents should carry over");
+        assertEquals(board.getStateHash(), heap.getStateHash(), "Off-heap and heap hashes should agree");
+        assertEquals(60, heap.getScore().get(), "Score should carry over");
+    }
+
+    @Test
+    void testIncrementalHashMatchesHeapBoard() {
+        ArenaBoard board = arena.board(2);
+        TetrisBoard heap = new TetrisBoard(25, 10);
+        for (int i = 0; i < 60 && !board.isGameOver(); i++) {
+            for (int move = 0; move < i % 5; move++) {
+                board.moveBrickLeft();
+            }
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            if (i % 7 == 0) {
+                board.spawnCheeseRows(1);
+            }
+            if (i % 11 == 0) {
+                board.clearColorBlocks(1 + i % 7);
+            }
+            board.createNewBrick();
+            // Restoring hashes the copied cells from scratch
+            heap.restore(board.snapshot());
+            assertEquals(heap.getStateHash(), board.getStateHash(), "Incremental hash should match after piece " + i);
+        }
+    }
+
+    @Test
+    void testGarbageAndCheeseRows() {
+        ArenaBoard board = arena.board(3);
+        int spawned = board.spawnGarbageBlocks(5, 6);
+        assertTrue(spawned > 0, "Garbage should be added to an empty board");
+        int height = board.getStackHeight();
+        assertEquals(2, board.spawnCheeseRows(2), "Cheese rows should fit");
+        assertEquals(height + 2, board.getStackHeight(), "Cheese rows should push the stack up");
+        assertEquals(9, Long.bitCount(board.snapshot().getGrid().getRowMasks()[24]), "Cheese rows should have one hole");
+    }
+
+    @Test
+    void testCheeseHolesNeverRepeatColumn() {
+        ArenaBoard board = arena.board(4);
+        // One row per call, so the last hole has to be kept in the slot between calls
+        for (int i = 0; i < 15; i++) {
+            assertEquals(1, board.spawnCheeseRows(1), "Cheese row should fit");
+        }
+        long[] masks = board.snapshot().getGrid().getRowMasks();
+        for (int row = 25 - 15; row < 24; row++) {
+            assertNotEquals(masks[row], masks[row + 1], "Consecutive cheese rows should have their holes in different columns");
+        }
+    }
+
+    @Test
+    void testRejectsUnsupportedSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new BoardArena(1, 25, 65),
+                "Slots hold one mask word per row");
+        assertThrows(IndexOutOfBoundsException.class, () -> arena.board(8), "Slot outside the arena");
+    }
+}
@@ -0,0 +1,106 @@
+package com.comp2042.core;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Compares stepping games in a {@link BoardBatch} against looping over separate
+ * {@link TetrisBoard} objects with the same per-step rules. Not a unit test; run it with
+ * {@code java -cp target/classes:target/test-classes com.comp2042.core.BoardBatchBenchmark}.
+ */
+public class BoardBatchBenchmark {
+
+    private static final int GAMES = 4096;
+    private static final int STEPS = 200;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        // The heap piece generator logs to stdout; keep that out of the measurement
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        byte[] actions = new byte[GAMES];
+        double boardsPerSecond = 0;
+        double batchPerSecond = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            TetrisBoard[] boards = new TetrisBoard[GAMES];
+            for (int game = 0; game < GAMES; game++) {
+                boards[game] = new TetrisBoard(25, 10);
+                boards[game].newGame();
+            }
+            long start = System.nanoTime();
+            for (int step = 0; step < STEPS; step++) {
+                fillActions(actions, step);
+                for (int game = 0; game < GAMES; game++) {
+                    stepBoard(boards[game], actions[game]);
+                }
+            }
+            boardsPerSecond = GAMES * (double) STEPS / ((System.nanoTime() - start) / 1e9);
+
+            BoardBatch batch = new BoardBatch(GAMES, 25, 10);
+            batch.resetAll(round);
+            start = System.nanoTime();
+            for (int step = 0; step < STEPS; step++) {
+                fillActions(actions, step);
+                if (batch.step(actions) < GAMES) {
+                    // Recycle finished games like the heap loop does
+                    for (int game = 0; game < GAMES; game++) {
+                        if (batch.isGameOver(game)) {
+                            batch.reset(game, step * (long) GAMES + game);
+                        }
+                    }
+                }
+            }
+            batchPerSecond = GAMES * (double) STEPS / ((System.nanoTime() - start) / 1e9);
+        }
+        System.setOut(out);
+        System.out.printf("TetrisBoard loop: %.1f M steps/s%n", boardsPerSecond / 1e6);
+        System.out.printf("BoardBatch:       %.1f M steps/s%n", batchPerSecond / 1e6);
+    }
+
+    private static void fillActions(byte[] actions, int step) {
+        for (int game = 0; game < actions.length; game++) {
+            actions[game] = (byte) ((step * 7 + game * 3) % (BoardBatch.HARD_DROP + 1));
+        }
+    }
+
+    /**
+     * One batch step on a heap board: the action, then gravity, then the landing rules.
+     */
+    private static void stepBoard(TetrisBoard board, byte action) {
+        switch (action) {
+            case BoardBatch.LEFT:
+                board.moveBrickLeft();
+                break;
+            case BoardBatch.RIGHT:
+                board.moveBrickRight();
+                break;
+            case BoardBatch.ROTATE_RIGHT:
+                board.rotateRightBrick();
+                break;
+            case BoardBatch.ROTATE_LEFT:
+                board.rotateLeftBrick();
+                break;
+            case BoardBatch.ROTATE_180:
+                board.rotate180Brick();
+                break;
+            case BoardBatch.HARD_DROP:
+                board.getScore().add(board.hardDropBrick() * 2);
+                land(board);
+                return;
+            default:
+                break;
+        }
+        if (!board.moveBrickDown()) {
+            land(board);
+        }
+    }
+
+    private static void land(TetrisBoard board) {
+        board.mergeBrickToBackground();
+        board.getScore().add(board.clearRows().getScoreBonus());
+        if (board.createNewBrick()) {
+            board.newGame();
+        }
+    }
+}
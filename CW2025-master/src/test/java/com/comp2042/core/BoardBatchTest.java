@@ -0,0 +1,116 @@
+package com.comp2042.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.ShapeTable;
+
+/**
+ * JUnit tests for BoardBatch.
+ * Tests that games stepped in lockstep follow the board rules and stay independent.
+ */
+public class BoardBatchTest {
+
+    private static final int ROWS = 25;
+    private static final int COLS = 10;
+
+    private BoardBatch batch;
+
+    @BeforeEach
+    void setUp() {
+        batch = new BoardBatch(16, ROWS, COLS);
+        batch.resetAll(42L);
+    }
+
+    @Test
+    void testResetSpawnsEveryGame() {
+        assertEquals(16, batch.getLiveGames(), "Every game should be running after a reset");
+        for (int game = 0; game < batch.getGameCount(); game++) {
+            assertEquals(4, batch.getPieceX(game), "Pieces should spawn in the standard column");
+            assertEquals(0, batch.getStackHeight(game), "Boards should start empty");
+        }
+    }
+
+    @Test
+    void testGravityAndSoftDrop() {
+        batch.step(BoardBatch.NONE);
+        assertEquals(1, batch.getPieceY(0), "Gravity should move the piece down one row");
+        assertEquals(0, batch.getScore(0), "Gravity should not score");
+
+        batch.step(BoardBatch.SOFT_DROP);
+        assertEquals(3, batch.getPieceY(0), "Soft drop plus gravity should move two rows");
+        assertEquals(1, batch.getScore(0), "Soft drop should score one point per row");
+    }
+
+    @Test
+    void testHardDropClearsLine() {
+        int type = batch.getPieceType(3);
+        PieceShape shape = ShapeTable.get(type, 0);
+        int x = batch.getPieceX(3);
+        int y = batch.getPieceY(3);
+        long pieceBottom = (long) shape.getRowBits(shape.getMaxRow()) << x;
+        batch.setRowMask(3, ROWS - 1, ~pieceBottom);
+
+        byte[] actions = new byte[batch.getGameCount()];
+        actions[3] = BoardBatch.HARD_DROP;
+        batch.step(actions);
+
+        int dropDistance = ROWS - 1 - shape.getMaxRow() - y;
+        assertEquals(1, batch.getLinesCleared(3), "Filling the gap should clear the bottom row");
+        assertEquals(50 + 2 * dropDistance, batch.getScore(3), "Hard drop and line clear should both score");
+        assertEquals(shape.getMaxRow() - shape.getMinRow(), batch.getStackHeight(3),
+                "Rest of the piece should drop by one row");
+        assertEquals(0, batch.getStackHeight(4), "Other games should only have moved by gravity");
+    }
+
+    @Test
+    void testHoldIntoBlockedSpawnEndsGameOnce() {
+        // Leave the last column open, so a stray lock cannot clear the blocking rows
+        for (int row = 0; row < 4; row++) {
+            batch.setRowMask(5, row, ~(1L << (COLS - 1)));
+        }
+        byte[] actions = new byte[batch.getGameCount()];
+        actions[5] = BoardBatch.HOLD;
+        assertEquals(15, batch.step(actions), "Holding into a blocked spawn should end only that game");
+        assertTrue(batch.isGameOver(5), "The blocked game should be over");
+        assertEquals(0, batch.getLinesCleared(5), "The blocked piece should not be locked");
+        assertEquals(15, batch.step(BoardBatch.NONE), "A finished game should not be counted again");
+    }
+
+    @Test
+    void testGamesEndAndRecycle() {
+        int steps = 0;
+        while (batch.step(BoardBatch.HARD_DROP) > 0 && steps < 1000) {
+            steps++;
+        }
+        assertEquals(0, batch.getLiveGames(), "Dropping in one column should end every game");
+        assertTrue(batch.isGameOver(0), "Finished games should report game over");
+
+        batch.reset(0, 7L);
+        assertEquals(1, batch.getLiveGames(), "Reset should restart only that game");
+        assertEquals(0, batch.getStackHeight(0), "Reset should empty the board");
+        assertEquals(0, batch.getScore(0), "Reset should clear the score");
+    }
+
+    @Test
+    void testSameSeedPlaysSameGame() {
+        BoardBatch other = new BoardBatch(16, ROWS, COLS);
+        other.resetAll(42L);
+        byte[] actions = new byte[16];
+        for (int step = 0; step < 400; step++) {
+            for (int game = 0; game < actions.length; game++) {
+                actions[game] = (byte) ((step * 7 + game * 3) % 9);
+            }
+            batch.step(actions);
+            other.step(actions);
+        }
+        for (int game = 0; game < 16; game++) {
+            assertEquals(batch.getScore(game), other.getScore(game), "Equal seeds and actions should score equally");
+            for (int row = 0; row < ROWS; row++) {
+                assertEquals(batch.getRowMask(game, row), other.getRowMask(game, row), "Boards should match");
+            }
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.comp2042.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.comp2042.logic.bricks.Randomizer;
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.models.ClearRow;
+import com.comp2042.modes.GameMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * JUnit tests for GameEngine.
+ * Tests that every mode plays headless and that the mode rules reach the listeners.
+ */
+public class GameEngineTest {
+
+    private static final int ROWS = 25;
+    private static final int COLS = 10;
+
+    private List<String> events;
+    private GameListener recorder;
+
+    @BeforeEach
+    void setUp() {
+        events = new ArrayList<>();
+        recorder = new GameListener() {
+            @Override
+            public void onLinesCleared(ClearRow clearRow, int totalLinesCleared) {
+                events.add("lines " + totalLinesCleared);
+            }
+
+            @Override
+            public void onGameOver() {
+                events.add("game over");
+            }
+
+            @Override
+            public void onSprintComplete(int totalLinesCleared) {
+                events.add("sprint " + totalLinesCleared);
+            }
+
+            @Override
+            public void onUltraComplete(int score) {
+                events.add("ultra " + score);
+            }
+
+            @Override
+            public void onSpeedLevelChanged(int level) {
+                events.add("speed " + level);
+            }
+        };
+    }
+
+    @Test
+    void testEveryModePlaysHeadless() {
+        for (GameMode mode : GameMode.values()) {
+            GameEngine engine = new GameEngine(mode, ROWS, COLS, 7L);
+            int steps = 0;
+            while (engine.step(GameAction.HARD_DROP)) {
+                assertTrue(++steps < 1000, mode + " should end once the stack reaches the top");
+            }
+            assertTrue(engine.isFinished(), mode + " should be finished");
+            assertTrue(engine.getScore() > 0, mode + " should score hard drops");
+            assertFalse(engine.step(GameAction.HARD_DROP), mode + " should ignore actions once finished");
+        }
+    }
+
+    @Test
+    void testSameSeedReplaysSameGame() {
+        GameAction[] actions = GameAction.values();
+        GameEngine first = new GameEngine(GameMode.RPG, ROWS, COLS, 99L);
+        GameEngine second = new GameEngine(GameMode.RPG, ROWS, COLS, 99L);
+        SplittableRandom input = new SplittableRandom(5L);
+        for (int i = 0; i < 2000 && !first.isFinished(); i++) {
+            GameAction action = actions[input.nextInt(actions.length)];
+            assertEquals(first.step(action), second.step(action), "Both games should still agree");
+        }
+        assertEquals(first.getScore(), second.getScore(), "Equal seeds and inputs should score the same");
+        assertEquals(first.getBoard().getStateHash(), second.getBoard().getStateHash(),
+                "Equal seeds and inputs should leave the same board");
+    }
+
+    @Test
+    void testSoftDropAndGravity() {
+        GameEngine engine = new GameEngine(GameMode.CLASSIC, ROWS, COLS, 3L);
+        assertNull(engine.step(), "Gravity should move a fresh piece down");
+        assertEquals(0, engine.getScore(), "Gravity should not score");
+        engine.step(GameAction.SOFT_DROP);
+        assertEquals(1, engine.getScore(), "Soft drop should score one point per row");
+    }
+
+    @Test
+    void testSprintCompletesAtLineGoal() {
+        GameEngine engine = new GameEngine(GameMode.SPRINT, ROWS, COLS, 1L);
+        engine.getBoard().setRandomizer(new OnlyO());
+        engine.newGame(1L);
+        engine.addListener(recorder);
+        // Five O pieces side by side clear two rows
+        int pieces = 0;
+        while (!engine.isFinished()) {
+            while (engine.apply(GameAction.LEFT)) {
+                // Move to the left wall
+            }
+            for (int i = 0; i < 2 * (pieces % 5); i++) {
+                engine.apply(GameAction.RIGHT);
+            }
+            engine.apply(GameAction.HARD_DROP);
+            assertTrue(++pieces <= 5 * GameEngine.SPRINT_LINES / 2, "Sprint should end at the line goal");
+        }
+        assertEquals(GameEngine.SPRINT_LINES, engine.getTotalLinesCleared(), "Sprint should stop at 40 lines");
+        assertEquals("sprint " + GameEngine.SPRINT_LINES, events.get(events.size() - 1), "Sprint should complete last");
+        assertFalse(events.contains("game over"), "A completed sprint is not a game over");
+    }
+
+    @Test
+    void testUltraClock() {
+        GameEngine engine = new GameEngine(GameMode.ULTRA, ROWS, COLS, 1L);
+        engine.addListener(recorder);
+        engine.advanceTime(GameEngine.ULTRA_SPEED_INTERVAL_MS - 1);
+        assertEquals(1, engine.getSpeedLevel(), "Speed should not rise before the interval");
+        engine.advanceTime(1);
+        assertEquals(2, engine.getSpeedLevel(), "Speed should rise after the interval");
+        engine.advanceTime(GameEngine.ULTRA_TIME_LIMIT_MS);
+        assertTrue(engine.isFinished(), "Ultra should end at the time limit");
+        assertEquals(List.of("speed 2", "ultra 0"), events, "Listeners should see the speed and the end");
+
+        engine.newGame(1L);
+        assertFalse(engine.isFinished(), "A new game should restart the clock");
+        assertEquals(0, engine.getElapsedMillis(), "A new game should start at zero time");
+    }
+
+    @Test
+    void testSurvivalSpeedFollowsScore() {
+        GameEngine engine = new GameEngine(GameMode.SURVIVAL, ROWS, COLS, 1L);
+        engine.addListener(recorder);
+        engine.getBoard().getScore().add(GameEngine.SURVIVAL_LEVEL_POINTS - 1);
+        assertEquals(1, engine.getSpeedLevel(), "Speed should not rise below the threshold");
+        engine.getBoard().getScore().add(2 * GameEngine.SURVIVAL_LEVEL_POINTS);
+        assertEquals(3, engine.getSpeedLevel(), "Speed should catch up with a large score jump");
+        assertEquals(List.of("speed 3"), events, "Listeners should see the new level once");
+    }
+
+    @Test
+    void testBoardChangesReachListeners() {
+        GameEngine engine = new GameEngine(GameMode.CLASSIC, ROWS, COLS, 1L);
+        int[] changes = {0};
+        engine.addListener(new GameListener() {
+            @Override
+            public void onBoardChanged(int[][] boardMatrix, DirtyRegion dirtyRegion) {
+                assertFalse(dirtyRegion.isEmpty(), "Only real changes should be reported");
+                changes[0]++;
+            }
+        });
+        engine.apply(GameAction.HARD_DROP);
+        assertNotNull(engine.getLastClearRow(), "A hard drop should lock the piece");
+        assertEquals(1, changes[0], "A locked piece should repaint the board once");
+        engine.apply(GameAction.LEFT);
+        assertNull(engine.getLastClearRow(), "A move should not lock a piece");
+        assertTrue(engine.getBoard().getDirtyRegion().isEmpty(), "Reported changes should be marked clean");
+    }
+
+    @Test
+    void testHoldIntoBlockedSpawnEndsGame() {
+        GameEngine engine = new GameEngine(GameMode.CLASSIC, ROWS, COLS, 1L);
+        engine.getBoard().setRandomizer(new IThenO());
+        engine.newGame(1L);
+        engine.addListener(recorder);
+        assertTrue(engine.apply(GameAction.HOLD), "The first I piece should go to hold");
+        // Stack O pieces two columns right of spawn up to the top: an O still spawns, the I does not
+        for (int i = 0; i < (ROWS - 1) / 2; i++) {
+            engine.apply(GameAction.RIGHT);
+            engine.apply(GameAction.RIGHT);
+            engine.apply(GameAction.HARD_DROP);
+            assertFalse(engine.isFinished(), "An O piece should still have room to spawn");
+        }
+        assertTrue(engine.apply(GameAction.HOLD), "Hold should swap the I piece back in");
+        assertTrue(engine.isFinished(), "A held piece without room to spawn should end the game");
+        assertEquals(List.of("game over"), events, "Listeners should see the game over");
+        assertFalse(engine.apply(GameAction.LEFT), "Actions should be ignored once the game is over");
+    }
+
+    // Deals one I piece, then nothing but O pieces
+    private static final class IThenO implements Randomizer {
+
+        private boolean dealt;
+
+        @Override
+        public void reset(RandomGenerator random) {
+            dealt = false;
+        }
+
+        @Override
+        public int nextType() {
+            if (dealt) {
+                return ShapeTable.O;
+            }
+            dealt = true;
+            return ShapeTable.I;
+        }
+    }
+
+    // Deals nothing but O pieces
+    private static final class OnlyO implements Randomizer {
+
+        @Override
+        public void reset(RandomGenerator random) {
+        }
+
+        @Override
+        public int nextType() {
+            return ShapeTable.O;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.comp2042.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.comp2042.rpg.AbilityType;
+import com.comp2042.rpg.RPGModeManager;
+import com.comp2042.rpg.ability.AbilityManager;
+
+/**
+ * JUnit tests for GameStateCodec.
+ * Tests that encoded game state round-trips and stays compact.
+ */
+public class GameStateCodecTest {
+
+    private TetrisBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new TetrisBoard(25, 10);
+        board.newGame();
+    }
+
+    @Test
+    void testRoundTripRestoresBoard() {
+        for (int i = 0; i < 6; i++) {
+            board.moveBrickLeft();
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            board.createNewBrick();
+        }
+        board.holdBrick();
+        board.rotateRightBrick();
+        board.moveBrickDown();
+        board.getScore().add(340);
+        int[][] expected = com.comp2042.utils.MatrixOperations.copy(board.getBoardMatrix());
+        long expectedHash = board.getStateHash();
+
+        byte[] data = GameStateCodec.encode(board, null);
+        TetrisBoard decoded = new TetrisBoard(25, 10);
+        GameStateCodec.decode(data, decoded, null);
+
+        assertArrayEquals(expected, decoded.getBoardMatrix(), "Board contents should round-trip");
+        assertEquals(expectedHash, decoded.getStateHash(), "Pieces, hold and queue should round-trip");
+        assertEquals(340, decoded.getScore().get(), "Score should round-trip");
+        assertEquals(board.getHeldBrick().getTypeId(), decoded.getHeldBrick().getTypeId(), "Held piece should round-trip");
+        assertArrayEquals(board.getViewData().getNextBrickData(), decoded.getViewData().getNextBrickData(),
+                "Next piece should round-trip");
+        assertEquals(board.getStackHeight(), decoded.getStackHeight(), "Skyline should be rebuilt");
+    }
+
+    @Test
+    void testDecodedGameDealsSamePieces() {
+        board.newGame(2024L);
+        for (int i = 0; i < 9; i++) {
+            board.createNewBrick();
+        }
+        TetrisBoard decoded = new TetrisBoard(25, 10);
+        GameStateCodec.decode(GameStateCodec.encode(board, null), decoded, null);
+
+        // Well past the queue, so the later pieces come from the restored stream position
+        for (int i = 0; i < 40; i++) {
+            board.createNewBrick();
+            decoded.createNewBrick();
+            assertArrayEquals(board.getViewData().getBrickData(), decoded.getViewData().getBrickData(),
+                    "Piece " + i + " should match the original game");
+        }
+    }
+
+    @Test
+    void testDenseBoardStaysUnder200Bytes() {
+        BitBoard grid = board.getGrid();
+        for (int row = 5; row < grid.getRows(); row++) {
+            for (int col = 0; col < grid.getCols(); col++) {
+                if ((row + col) % 7 != 0) {
+                    grid.setCell(row, col, 1 + (row * 3 + col) % 8);
+                }
+            }
+        }
+        board.getScore().add(123456);
+
+        byte[] data = GameStateCodec.encode(board, new RPGModeManager());
+        assertTrue(data.length < 200, "Encoded state should stay under 200 bytes, was " + data.length);
+
+        TetrisBoard decoded = new TetrisBoard(25, 10);
+        GameStateCodec.decode(data, decoded, null);
+        assertArrayEquals(board.getBoardMatrix(), decoded.getBoardMatrix(), "Dense board should round-trip");
+        assertEquals(board.getTotalHoles(), decoded.getTotalHoles(), "Holes should be rebuilt");
+    }
+
+    @Test
+    void testRoundTripRestoresRpgState() {
+        RPGModeManager rpg = new RPGModeManager();
+        AbilityManager abilities = rpg.getAbilityManager();
+        rpg.setRpgLevel(7);
+        abilities.incrementColorBombCharges();
+        abilities.incrementColorBombCharges();
+        abilities.incrementSlowTimeCharges();
+        abilities.assignAbilityToSlot(AbilityType.COLOR_BOMB);
+        abilities.assignAbilityToSlot(AbilityType.SLOW_TIME);
+
+        byte[] data = GameStateCodec.encode(board, rpg);
+        RPGModeManager decoded = new RPGModeManager();
+        GameStateCodec.decode(data, new TetrisBoard(25, 10), decoded);
+
+        assertEquals(7, decoded.getRpgLevel(), "RPG level should round-trip");
+        assertEquals(2, decoded.getAbilityManager().getColorBombCharges(), "Charges should round-trip");
+        assertEquals(1, decoded.getAbilityManager().getSlowTimeCharges(), "Charges should round-trip");
+        assertArrayEquals(abilities.getAbilitySlots(), decoded.getAbilityManager().getAbilitySlots(),
+                "Ability slots should round-trip");
+    }
+
+    @Test
+    void testWideBoardRoundTrip() {
+        TetrisBoard wide = new TetrisBoard(24, 100);
+        wide.newGame();
+        wide.getGrid().setCell(23, 99, 8);
+        wide.getGrid().setCell(23, 3, 2);
+        wide.hardDropBrick();
+        wide.mergeBrickToBackground();
+
+        TetrisBoard decoded = new TetrisBoard(24, 100);
+        GameStateCodec.decode(GameStateCodec.encode(wide, null), decoded, null);
+        assertArrayEquals(wide.getBoardMatrix(), decoded.getBoardMatrix(), "Multi-word rows should round-trip");
+    }
+
+    @Test
+    void testRejectsInvalidData() {
+        byte[] data = GameStateCodec.encode(board, null);
+
+        byte[] wrongVersion = data.clone();
+        wrongVersion[1] = (byte) (GameStateCodec.FORMAT_VERSION + 1);
+        assertThrows(IllegalArgumentException.class, () -> GameStateCodec.decode(wrongVersion, board, null),
+                "Unknown versions should be rejected");
+
+        byte[] truncated = java.util.Arrays.copyOf(data, data.length / 2);
+        assertThrows(IllegalArgumentException.class, () -> GameStateCodec.decode(truncated, board, null),
+                "Truncated data should be rejected");
+
+        assertThrows(IllegalArgumentException.class, () -> GameStateCodec.decode(data, new TetrisBoard(20, 10), null),
+                "Data for another board size should be rejected");
+    }
+}
@@ -0,0 +1,45 @@
+package com.comp2042.core;
+
+import com.comp2042.rpg.RPGModeManager;
+
+/**
+ * Times the RPG level-up garbage path, {@link RPGModeManager#spawnGarbageBlocksForLevel},
+ * and cheese rows on a board with a low stack. Not a unit test; run it with
+ * {@code java -cp target/classes:target/test-classes com.comp2042.core.GarbageBenchmark}.
+ */
+public class GarbageBenchmark {
+
+    private static final int ITERATIONS = 200_000;
+    private static final int LEVEL = 12;
+
+    public static void main(String[] args) {
+        TetrisBoard board = new TetrisBoard(25, 10);
+        board.setGarbageSeed(1L);
+        RPGModeManager rpgModeManager = new RPGModeManager();
+        BitBoard grid = board.getGrid();
+
+        // Warm up, then measure
+        for (int round = 0; round < 2; round++) {
+            long levelUp = 0;
+            long cheese = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                grid.clear();
+                for (int col = 0; col < grid.getCols(); col++) {
+                    if (col != i % grid.getCols()) {
+                        grid.setCell(grid.getRows() - 1, col, 1);
+                    }
+                }
+                long start = System.nanoTime();
+                rpgModeManager.spawnGarbageBlocksForLevel(board, LEVEL);
+                long middle = System.nanoTime();
+                board.spawnCheeseRows(4);
+                cheese += System.nanoTime() - middle;
+                levelUp += middle - start;
+            }
+            if (round == 1) {
+                System.out.printf("Level-up garbage: %d ns per call%n", levelUp / ITERATIONS);
+                System.out.printf("4 cheese rows:    %d ns per call%n", cheese / ITERATIONS);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.comp2042.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for GarbageGenerator.
+ * Tests seeded garbage shapes and cheese rows on a TetrisBoard.
+ */
+public class GarbageGeneratorTest {
+
+    private static final int ROWS = 25;
+    private static final int COLS = 10;
+
+    private TetrisBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new TetrisBoard(ROWS, COLS);
+        board.newGame();
+        board.setGarbageSeed(7L);
+    }
+
+    @Test
+    void testSameSeedSpawnsSameGarbage() {
+        TetrisBoard other = new TetrisBoard(ROWS, COLS);
+        other.setGarbageSeed(7L);
+
+        int spawned = board.spawnGarbageBlocks(5, 6);
+        assertEquals(spawned, other.spawnGarbageBlocks(5, 6), "Equal seeds should spawn equal blocks");
+        assertTrue(spawned > 0, "Garbage should be added to a low stack");
+        assertArrayEquals(board.getBoardMatrix(), other.getBoardMatrix(), "Equal seeds should spawn equal garbage");
+    }
+
+    @Test
+    void testShapesLandOnSkylineBelowSpawnRows() {
+        int[][] nextBefore = board.getViewData().getNextBrickData();
+        int spawned = board.spawnGarbageBlocks(9, 16);
+
+        int[][] matrix = board.getBoardMatrix();
+        int counted = 0;
+        for (int row = 0; row < ROWS; row++) {
+            for (int col = 0; col < COLS; col++) {
+                if (matrix[row][col] != 0) {
+                    assertEquals(GarbageGenerator.GARBAGE_COLOR, matrix[row][col], "Garbage should be grey");
+                    assertTrue(row >= GarbageGenerator.SPAWN_ROWS, "Garbage should stay out of the spawn rows");
+                    counted++;
+                }
+            }
+        }
+        assertEquals(spawned, counted, "Return value should count the added blocks");
+        assertTrue(board.getGrid().getRowFillCount(ROWS - 1) > 0, "Dropped shapes should rest on the floor");
+        assertArrayEquals(nextBefore, board.getViewData().getNextBrickData(), "Garbage should not use the piece queue");
+    }
+
+    @Test
+    void testNoShapesOnHighStack() {
+        for (int row = 9; row < ROWS; row++) {
+            board.getGrid().setCell(row, row % COLS, 1);
+        }
+        assertEquals(0, board.spawnGarbageBlocks(5, 10), "High stacks should not get more garbage");
+    }
+
+    @Test
+    void testCheeseRowsPushStackUp() {
+        board.getGrid().setCell(ROWS - 1, 3, 2);
+        assertEquals(3, board.spawnCheeseRows(3), "Three cheese rows should fit");
+
+        int[][] matrix = board.getBoardMatrix();
+        assertEquals(2, matrix[ROWS - 4][3], "Existing blocks should move up");
+        int previousHole = -1;
+        for (int row = ROWS - 3; row < ROWS; row++) {
+            assertEquals(COLS - 1, board.getGrid().getRowFillCount(row), "Cheese rows should have one hole");
+            int hole = Long.numberOfTrailingZeros(~board.getGrid().getRowMask(row));
+            assertNotEquals(previousHole, hole, "Consecutive cheese rows should not share a hole");
+            previousHole = hole;
+        }
+        assertEquals(4, board.getStackHeight(), "Skyline should include the cheese rows");
+        assertEquals(ROWS - 1 - GarbageGenerator.SPAWN_ROWS - 3, board.spawnCheeseRows(100),
+                "Cheese rows should stop below the spawn rows");
+    }
+
+    @Test
+    void testSpawningDoesNotAllocate() {
+        java.lang.management.ThreadMXBean threadBean = java.lang.management.ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return; // Allocation counters not available on this JVM
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        if (!allocationBean.isThreadAllocatedMemorySupported() || !allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return;
+        }
+        long threadId = Thread.currentThread().threadId();
+        BitBoard grid = board.getGrid();
+        for (int i = 0; i < 1000; i++) {
+            grid.clear();
+            board.spawnCheeseRows(2);
+            board.spawnGarbageBlocks(5, 6);
+        }
+
+        long before = allocationBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10000; i++) {
+            grid.clear();
+            board.spawnCheeseRows(2);
+            board.spawnGarbageBlocks(5, 6);
+        }
+        long allocated = allocationBean.getThreadAllocatedBytes(threadId) - before;
+        assertTrue(allocated < 4096, "Garbage spawning should not allocate, but allocated " + allocated + " bytes");
+    }
+}
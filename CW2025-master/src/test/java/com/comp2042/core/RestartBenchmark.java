@@ -0,0 +1,39 @@
+package com.comp2042.core;
+
+/**
+ * Times {@link TetrisBoard#newGame()} on a board with a few locked pieces, the restart path
+ * that should fit well inside one 60 Hz frame. Not a unit test; run it with
+ * {@code java -cp target/classes:target/test-classes com.comp2042.core.RestartBenchmark}.
+ */
+public class RestartBenchmark {
+
+    private static final int ITERATIONS = 20_000;
+    private static final int DROPS = 5;
+
+    public static void main(String[] args) {
+        TetrisBoard board = new TetrisBoard(25, 10);
+        board.createNewBrick();
+
+        // Warm up, then measure
+        for (int round = 0; round < 2; round++) {
+            long total = 0;
+            long slowest = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                for (int drop = 0; drop < DROPS; drop++) {
+                    board.hardDropBrick();
+                    board.mergeBrickToBackground();
+                    board.clearRows();
+                    board.createNewBrick();
+                }
+                long start = System.nanoTime();
+                board.newGame();
+                long elapsed = System.nanoTime() - start;
+                total += elapsed;
+                slowest = Math.max(slowest, elapsed);
+            }
+            if (round == 1) {
+                System.out.printf("Restart: %d ns per call, slowest %d ns%n", total / ITERATIONS, slowest);
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.comp2042.models.ClearRow;
 import com.comp2042.models.ViewData;
 import com.comp2042.models.Score;
 
@@ -62,7 +63,7 @@ public class TetrisBoardTest {
         // Test that score starts at zero
         Score score = board.getScore();
         assertNotNull(score, "Score should not be null");
-        assertEquals(0, score.scoreProperty().get(), "Initial score should be zero");
+        assertEquals(0, score.get(), "Initial score should be zero");
     }
     
     @Test
@@ -93,6 +94,60 @@ public class TetrisBoardTest {
         assertNotNull(board.getViewData(), "Should have new piece after reset");
     }
     
+    @Test
+    void testRestartReusesBoardInPlace() {
+        board.createNewBrick();
+        int[] bottomRow = board.getBoardMatrix()[BOARD_WIDTH - 1];
+        for (int i = 0; i < 20; i++) {
+            for (int drop = 0; drop < 5; drop++) {
+                board.hardDropBrick();
+                board.mergeBrickToBackground();
+                board.clearRows();
+                board.createNewBrick();
+            }
+            board.newGame();
+        }
+        
+        assertSame(bottomRow, board.getBoardMatrix()[BOARD_WIDTH - 1], "Restart should clear rows in place");
+        assertEquals(0, board.getStackHeight(), "Restart should empty the board");
+        assertEquals(0, board.getScore().get(), "Restart should reset the score");
+    }
+    
+    @Test
+    void testSameSeedReplaysSameGame() {
+        TetrisBoard other = new TetrisBoard(BOARD_WIDTH, BOARD_HEIGHT);
+        board.newGame(1234L);
+        other.newGame(1234L);
+        for (int i = 0; i < 30; i++) {
+            assertArrayEquals(board.getViewData().getBrickData(), other.getViewData().getBrickData(),
+                    "Equal seeds should deal equal pieces");
+            board.hardDropBrick();
+            other.hardDropBrick();
+            board.mergeBrickToBackground();
+            other.mergeBrickToBackground();
+            board.spawnGarbageBlocks(1, 2);
+            other.spawnGarbageBlocks(1, 2);
+            board.clearRows();
+            other.clearRows();
+            if (board.createNewBrick() || other.createNewBrick()) {
+                break;
+            }
+        }
+        assertArrayEquals(board.getBoardMatrix(), other.getBoardMatrix(), "Equal seeds should build equal boards");
+        assertEquals(1234L, board.getRandom().getSeed(), "The game seed should be kept for replays");
+        
+        // Garbage has its own stream, so spawning it does not change the pieces dealt
+        TetrisBoard noGarbage = new TetrisBoard(BOARD_WIDTH, BOARD_HEIGHT, 99L);
+        TetrisBoard withGarbage = new TetrisBoard(BOARD_WIDTH, BOARD_HEIGHT, 99L);
+        withGarbage.spawnGarbageBlocks(5, 6);
+        for (int i = 0; i < 10; i++) {
+            noGarbage.createNewBrick();
+            withGarbage.createNewBrick();
+            assertArrayEquals(noGarbage.getViewData().getBrickData(), withGarbage.getViewData().getBrickData(),
+                    "Garbage should not shift the piece stream");
+        }
+    }
+    
     @Test
     void testBrickMovementBounds() {
         // Test that brick movement respects board boundaries
@@ -119,6 +174,24 @@ public class TetrisBoardTest {
         assertTrue(rotated || !rotated, "Rotate should return boolean");
     }
     
+    @Test
+    void testRotateRightUndoesRotateLeft() {
+        board.createNewBrick();
+        board.moveBrickDown();
+        board.moveBrickDown();
+        int[][] shapeBefore = board.getViewData().getBrickData();
+        int xBefore = board.getViewData().getxPosition();
+        
+        assertTrue(board.rotateLeftBrick(), "Rotation should succeed in open space");
+        assertTrue(board.rotateRightBrick(), "Rotation back should succeed in open space");
+        assertArrayEquals(shapeBefore, board.getViewData().getBrickData(), "Opposite turns should restore the shape");
+        assertEquals(xBefore, board.getViewData().getxPosition(), "Opposite turns in open space should not kick");
+        
+        assertTrue(board.rotate180Brick(), "Half turn should succeed in open space");
+        assertTrue(board.rotate180Brick(), "Second half turn should succeed in open space");
+        assertArrayEquals(shapeBefore, board.getViewData().getBrickData(), "Two half turns should restore the shape");
+    }
+    
     @Test
     void testHardDrop() {
         // Test hard drop functionality
@@ -128,4 +201,189 @@ public class TetrisBoardTest {
         // Drop distance should be non-negative
         assertTrue(dropDistance >= 0, "Hard drop distance should be non-negative");
     }
+    
+    @Test
+    void testClearRowsRemovesFullRow() {
+        BitBoard grid = board.getGrid();
+        int bottomRow = BOARD_WIDTH - 1;
+        for (int col = 0; col < BOARD_HEIGHT; col++) {
+            grid.setCell(bottomRow, col, 1);
+        }
+        grid.setCell(bottomRow - 1, 0, 2);
+        
+        ClearRow clearRow = board.clearRows();
+        
+        assertEquals(1, clearRow.getLinesRemoved(), "One full row should be cleared");
+        assertEquals(50, clearRow.getScoreBonus(), "Single line bonus should be 50");
+        assertEquals(bottomRow, clearRow.getFirstClearedRow(), "Cleared row index should be reported");
+        assertEquals(1L, clearRow.getClearedRowMask(), "Only the bottom row should be in the mask");
+        assertEquals(1, board.getTotalLinesCleared(), "Total lines should be tracked");
+        assertEquals(2, board.getBoardMatrix()[bottomRow][0], "Row above should drop down");
+    }
+    
+    @Test
+    void testMovementDoesNotAllocate() {
+        java.lang.management.ThreadMXBean threadBean = java.lang.management.ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return; // Allocation counters not available on this JVM
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        if (!allocationBean.isThreadAllocatedMemorySupported() || !allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return;
+        }
+        long threadId = Thread.currentThread().threadId();
+        board.createNewBrick();
+        
+        // Warm up so class loading and lazy initialisation are not counted
+        for (int i = 0; i < 1000; i++) {
+            exerciseMoves();
+        }
+        
+        long before = allocationBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10000; i++) {
+            exerciseMoves();
+        }
+        long allocated = allocationBean.getThreadAllocatedBytes(threadId) - before;
+        
+        // A handful of bytes may come from the counter call itself; per-move garbage would be megabytes
+        assertTrue(allocated < 4096, "Movement should not allocate, but allocated " + allocated + " bytes");
+    }
+    
+    private void exerciseMoves() {
+        board.moveBrickLeft();
+        board.moveBrickRight();
+        board.rotateLeftBrick();
+        board.rotateRightBrick();
+        board.rotate180Brick();
+        board.moveBrickDown();
+        board.moveBrickRight();
+        board.moveBrickLeft();
+    }
+    
+    @Test
+    void testHardDropLandsOnFloor() {
+        board.createNewBrick();
+        int dropDistance = board.hardDropBrick();
+        assertTrue(dropDistance > 0, "Piece should fall on an empty board");
+        assertFalse(board.moveBrickDown(), "Piece should rest on the floor after a hard drop");
+        assertEquals(board.getViewData().getyPosition(), board.getGhostPiecePosition().y,
+                "Ghost should coincide with a landed piece");
+    }
+    
+    @Test
+    void testSnapshotRestoresGameState() {
+        board.createNewBrick();
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        board.createNewBrick();
+        board.moveBrickLeft();
+        board.getScore().add(120);
+        int[][] before = com.comp2042.utils.MatrixOperations.copy(board.getBoardMatrix());
+        ViewData viewBefore = board.getViewData();
+        
+        BoardSnapshot snapshot = board.snapshot();
+        for (int i = 0; i < 5; i++) {
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            board.createNewBrick();
+        }
+        board.holdBrick();
+        board.getScore().add(500);
+        
+        board.restore(snapshot);
+        assertArrayEquals(before, board.getBoardMatrix(), "Board contents should be restored");
+        assertEquals(120, board.getScore().get(), "Score should be restored");
+        assertEquals(viewBefore.getxPosition(), board.getViewData().getxPosition(), "Piece column should be restored");
+        assertArrayEquals(viewBefore.getBrickData(), board.getViewData().getBrickData(), "Active piece should be restored");
+        assertArrayEquals(viewBefore.getNextBrickData(), board.getViewData().getNextBrickData(), "Queue should be restored");
+        assertNull(board.getHeldBrick(), "Hold should be restored");
+        
+        // Changes after a restore must not leak into the snapshot
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        board.restore(snapshot);
+        assertArrayEquals(before, board.getBoardMatrix(), "Snapshot should survive being restored");
+    }
+    
+    @Test
+    void testSnapshotRestoresPieceSequence() {
+        board.newGame(42L);
+        for (int i = 0; i < 12; i++) {
+            board.createNewBrick();
+        }
+        BoardSnapshot snapshot = board.snapshot();
+        java.util.List<int[][]> expected = dealPieces(board, 30);
+        
+        // Going back replays the pieces dealt after the snapshot, past the end of the queue
+        board.restore(snapshot);
+        java.util.List<int[][]> replayed = dealPieces(board, 30);
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), replayed.get(i), "Piece " + i + " should be dealt again");
+        }
+        
+        // Going forward again only draws the pieces in between
+        BoardSnapshot later = board.snapshot();
+        java.util.List<int[][]> afterLater = dealPieces(board, 10);
+        board.restore(snapshot);
+        board.restore(later);
+        java.util.List<int[][]> sought = dealPieces(board, 10);
+        for (int i = 0; i < afterLater.size(); i++) {
+            assertArrayEquals(afterLater.get(i), sought.get(i), "Piece " + i + " should match after seeking forward");
+        }
+        
+        // A game on another seed goes back to the recorded stream
+        board.newGame(7L);
+        board.restore(snapshot);
+        assertEquals(42L, board.getRandom().getSeed(), "The snapshot seed should be taken over");
+        java.util.List<int[][]> reseeded = dealPieces(board, 30);
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), reseeded.get(i), "Piece " + i + " should match after another game");
+        }
+    }
+    
+    private static java.util.List<int[][]> dealPieces(TetrisBoard target, int count) {
+        java.util.List<int[][]> pieces = new java.util.ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            target.createNewBrick();
+            pieces.add(target.getViewData().getBrickData());
+        }
+        return pieces;
+    }
+    
+    @Test
+    void testSpawnDerivedFromWidth() {
+        TetrisBoard wide = new TetrisBoard(24, 64);
+        assertFalse(wide.createNewBrick(), "Piece should spawn on an empty wide board");
+        assertEquals(31, wide.getViewData().getxPosition(), "Spawn column should be centered on the board");
+        assertEquals(2, wide.getHiddenRows(), "Spawn rows should stay hidden");
+        
+        board.createNewBrick();
+        assertEquals(4, board.getViewData().getxPosition(), "Standard board should keep its spawn column");
+        
+        int dropDistance = wide.hardDropBrick();
+        wide.mergeBrickToBackground();
+        assertTrue(dropDistance > 0, "Piece should fall on a wide board");
+        assertTrue(wide.getStackHeight() > 0, "Merged piece should be part of the stack");
+    }
+    
+    @Test
+    void testStateHashTracksMoves() {
+        board.createNewBrick();
+        board.moveBrickDown();
+        long start = board.getStateHash();
+        assertTrue(board.moveBrickLeft(), "Piece should move left in open space");
+        assertNotEquals(start, board.getStateHash(), "Moving the piece should change the hash");
+        assertTrue(board.moveBrickRight(), "Piece should move back");
+        assertEquals(start, board.getStateHash(), "Returning to the same position should restore the hash");
+        
+        BoardSnapshot snapshot = board.snapshot();
+        board.holdBrick();
+        assertNotEquals(start, board.getStateHash(), "Holding should change the hash");
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        board.clearRows();
+        board.restore(snapshot);
+        assertEquals(start, board.getStateHash(), "Restoring a snapshot should restore the hash");
+    }
 }
@@ -0,0 +1,66 @@
+package com.comp2042.core;
+
+import com.comp2042.logic.bricks.ShapeTable;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for WallKicks.
+ * Tests rotation index mapping and the shape of the kick tables.
+ */
+public class WallKicksTest {
+
+    @Test
+    void testOppositeTurnsCancel() {
+        for (int type = 0; type < ShapeTable.TYPE_COUNT; type++) {
+            int count = ShapeTable.rotationCount(type);
+            for (int index = 0; index < count; index++) {
+                int right = WallKicks.targetIndex(type, index, count, WallKicks.CLOCKWISE);
+                assertEquals(index, WallKicks.targetIndex(type, right, count, WallKicks.COUNTER_CLOCKWISE),
+                        "Clockwise then counter-clockwise should return to the start");
+                int half = WallKicks.targetIndex(type, index, count, WallKicks.HALF_TURN);
+                assertEquals(index, WallKicks.targetIndex(type, half, count, WallKicks.HALF_TURN),
+                        "Two half turns should return to the start");
+            }
+        }
+    }
+
+    @Test
+    void testFourQuarterTurnsVisitEveryState() {
+        int index = 0;
+        boolean[] seen = new boolean[4];
+        for (int i = 0; i < 4; i++) {
+            seen[index] = true;
+            index = WallKicks.targetIndex(ShapeTable.T, index, 4, WallKicks.CLOCKWISE);
+        }
+        assertEquals(0, index, "Four clockwise turns should come back to the start");
+        for (boolean state : seen) {
+            assertTrue(state, "Every rotation state should be visited");
+        }
+    }
+
+    @Test
+    void testClockwiseTurnsTheTPieceRight() {
+        // Rotation 2 is the flat-side-down spawn orientation; clockwise points the nub right
+        assertEquals(1, WallKicks.targetIndex(ShapeTable.T, 2, 4, WallKicks.CLOCKWISE),
+                "Clockwise from spawn should point the T right");
+        assertEquals(3, WallKicks.targetIndex(ShapeTable.T, 2, 4, WallKicks.COUNTER_CLOCKWISE),
+                "Counter-clockwise from spawn should point the T left");
+    }
+
+    @Test
+    void testKickTablesStartInPlace() {
+        int[] turns = {WallKicks.CLOCKWISE, WallKicks.HALF_TURN, WallKicks.COUNTER_CLOCKWISE};
+        for (int type = -1; type < ShapeTable.TYPE_COUNT; type++) {
+            int count = type < 0 ? 4 : ShapeTable.rotationCount(type);
+            for (int index = 0; index < count; index++) {
+                for (int turn : turns) {
+                    int[] kicks = WallKicks.offsets(type, index, turn);
+                    assertEquals(0, kicks.length % 2, "Kicks should be stored as offset pairs");
+                    assertEquals(0, kicks[0], "First attempt should be in place");
+                    assertEquals(0, kicks[1], "First attempt should be in place");
+                }
+            }
+        }
+    }
+}
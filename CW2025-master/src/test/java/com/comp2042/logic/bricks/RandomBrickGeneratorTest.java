@@ -0,0 +1,88 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * JUnit tests for RandomBrickGenerator.
+ * Tests the weighted draws, the no-4-in-a-row rule and queue restoring.
+ */
+public class RandomBrickGeneratorTest {
+
+    private RandomBrickGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new RandomBrickGenerator();
+    }
+
+    @Test
+    void testNeverDealsFourInARow() {
+        int lastType = -1;
+        int run = 0;
+        for (int i = 0; i < 20000; i++) {
+            int type = generator.getBrick().getTypeId();
+            run = type == lastType ? run + 1 : 1;
+            lastType = type;
+            assertTrue(run <= 3, "No piece type should be dealt four times in a row");
+        }
+    }
+
+    @Test
+    void testIPieceIsMostLikely() {
+        int[] counts = new int[ShapeTable.TYPE_COUNT];
+        for (int i = 0; i < 30000; i++) {
+            counts[generator.getBrick().getTypeId()]++;
+        }
+        for (int type = 1; type < ShapeTable.TYPE_COUNT; type++) {
+            assertTrue(counts[type] > 0, "Every piece type should be dealt");
+            assertTrue(counts[ShapeTable.I] > counts[type], "I piece has the highest weight");
+        }
+    }
+
+    @Test
+    void testVerifierConfirmsWeightsAndRuns() {
+        RandomizerVerifier.Report report = RandomizerVerifier.verify(RandomBrickGenerator::new, 2_000_000L, 1L);
+        assertEquals(2_000_000L, report.getPieces(), "Every requested piece should be counted");
+        assertEquals(3, report.getLongestRun(), "Runs of three should occur but never four");
+        assertEquals(0, report.getRunCount(4), "No run of four should be dealt");
+        // The no-4-in-a-row rule takes a little weight from the I piece, so allow a small margin
+        int[] weights = RandomizerVerifier.declaredWeights(RandomizerType.WEIGHTED);
+        for (int type = 0; type < ShapeTable.TYPE_COUNT; type++) {
+            double observed = report.getCount(type) / (double) report.getPieces();
+            assertEquals(weights[type] / 30.0, observed, 0.003, "Type " + type + " should keep its declared weight");
+        }
+    }
+
+    @Test
+    void testPeekMatchesDealtOrder() {
+        Brick[] peeked = new Brick[RandomBrickGenerator.QUEUE_CAPACITY];
+        for (int i = 0; i < peeked.length; i++) {
+            peeked[i] = generator.peekNextBrick(i);
+        }
+        assertNull(generator.peekNextBrick(peeked.length), "Peeking is limited to the queue capacity");
+        assertSame(peeked[0], generator.getNextBrick(), "Next brick should be the first peeked");
+        for (Brick expected : peeked) {
+            assertSame(expected, generator.getBrick(), "Bricks should be dealt in peeked order");
+        }
+    }
+
+    @Test
+    void testRestoreExcludesRepeatedType() {
+        Brick o = ShapeTable.brick(ShapeTable.O);
+        generator.restoreQueue(List.of(o), List.of(o, o));
+        assertEquals(List.of(o), generator.getQueuedBricks(), "Queue should be restored");
+        assertEquals(List.of(o, o), generator.getRecentBricks(), "History should be restored");
+        for (int i = 0; i < 100; i++) {
+            generator.restoreQueue(List.of(o), List.of(o, o));
+            generator.getBrick();
+            assertNotSame(o, generator.getNextBrick(), "A fourth O piece should not follow three");
+        }
+        Brick custom = () -> List.<int[][]>of(new int[][] {{1}});
+        assertThrows(IllegalArgumentException.class,
+                () -> generator.restoreQueue(List.of(custom), List.of()), "Custom bricks have no type id");
+    }
+}
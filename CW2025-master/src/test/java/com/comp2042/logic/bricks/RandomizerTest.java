@@ -0,0 +1,115 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * JUnit tests for the standard randomizers.
+ * Tests the bag, history and seeding rules of each randomizer type.
+ */
+public class RandomizerTest {
+
+    @Test
+    void testSevenBagDealsEveryTypeOncePerBag() {
+        assertBagsComplete(RandomizerType.BAG_7.create(), 1);
+    }
+
+    @Test
+    void testFourteenBagDealsEveryTypeTwicePerBag() {
+        assertBagsComplete(RandomizerType.BAG_14.create(), 2);
+    }
+
+    private static void assertBagsComplete(Randomizer randomizer, int copies) {
+        randomizer.reset(new SplittableRandom(3L));
+        for (int bag = 0; bag < 50; bag++) {
+            int[] counts = new int[ShapeTable.TYPE_COUNT];
+            for (int i = 0; i < ShapeTable.TYPE_COUNT * copies; i++) {
+                counts[randomizer.nextType()]++;
+            }
+            for (int type = 0; type < ShapeTable.TYPE_COUNT; type++) {
+                assertEquals(copies, counts[type], "Every type should appear " + copies + " times per bag");
+            }
+        }
+    }
+
+    @Test
+    void testBagObserveRemovesDealtTypes() {
+        Randomizer randomizer = RandomizerType.BAG_7.create();
+        randomizer.reset(new SplittableRandom(4L));
+        for (int type = 0; type < 5; type++) {
+            randomizer.observe(type);
+        }
+        int first = randomizer.nextType();
+        int second = randomizer.nextType();
+        assertTrue(first >= 5 && second >= 5 && first != second, "The rest of the bag should hold the unseen types");
+    }
+
+    @Test
+    void testHistoryRandomizerFirstPiece() {
+        Randomizer randomizer = RandomizerType.TGM.create();
+        for (long seed = 0; seed < 200; seed++) {
+            randomizer.reset(new SplittableRandom(seed));
+            int first = randomizer.nextType();
+            assertTrue(first != ShapeTable.S && first != ShapeTable.Z && first != ShapeTable.O,
+                    "The first piece should never be S, Z or O");
+        }
+    }
+
+    @Test
+    void testHistoryRandomizerAvoidsRepeats() {
+        Randomizer randomizer = RandomizerType.TGM.create();
+        randomizer.reset(new SplittableRandom(8L));
+        int repeats = 0;
+        int last = randomizer.nextType();
+        for (int i = 0; i < 10000; i++) {
+            int type = randomizer.nextType();
+            if (type == last) {
+                repeats++;
+            }
+            last = type;
+        }
+        // Uniform draws would repeat 1 in 7 times; rerolls make repeats rare
+        assertTrue(repeats < 200, "History rerolls should make repeats rare, got " + repeats);
+    }
+
+    @Test
+    void testGeneratorRestoresEveryRandomizerState() {
+        for (RandomizerType type : RandomizerType.values()) {
+            RandomBrickGenerator generator = new RandomBrickGenerator(type.create(), 21L);
+            for (int i = 0; i < 23; i++) {
+                generator.getBrick();
+            }
+            long streamState = generator.getStreamState();
+            long randomizerState = generator.getRandomizerState();
+            List<Brick> queued = generator.getQueuedBricks();
+            List<Brick> recent = generator.getRecentBricks();
+            Brick[] expected = new Brick[50];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = generator.getBrick();
+            }
+
+            generator.restore(streamState, randomizerState, queued, recent);
+            for (int i = 0; i < expected.length; i++) {
+                assertSame(expected[i], generator.getBrick(), type + " piece " + i + " should be dealt again");
+            }
+        }
+    }
+
+    @Test
+    void testGeneratorSwitchesRandomizerWithSameStream() {
+        RandomBrickGenerator generator = new RandomBrickGenerator(11L);
+        generator.getBrick();
+        generator.setRandomizer(RandomizerType.BAG_7.create());
+        RandomBrickGenerator other = new RandomBrickGenerator(RandomizerType.BAG_7.create(), 11L);
+        for (int i = 0; i < 40; i++) {
+            assertSame(other.getBrick(), generator.getBrick(), "Equal randomizers and seeds should deal equal pieces");
+        }
+        Brick t = ShapeTable.brick(ShapeTable.T);
+        generator.restoreQueue(List.of(t), List.of());
+        assertSame(t, generator.getBrick(), "Restored queue should be dealt first");
+        assertNotSame(t, generator.getBrick(), "A 7-bag should not deal T twice in a row after a restore");
+    }
+}
@@ -0,0 +1,251 @@
+package com.comp2042.logic.bricks;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Draws a large number of pieces from a {@link BrickGenerator} on every core and checks the
+ * sequence against the declared weights: type frequencies with a chi-square test, the longest
+ * run of one type, a histogram of run lengths and the longest drought of every type.
+ * Not a unit test; run it with {@code java -cp target/classes:target/test-classes
+ * com.comp2042.logic.bricks.RandomizerVerifier [pieces] [seed] [randomizer...]}.
+ */
+public class RandomizerVerifier {
+
+    /** Runs this long or longer share the last histogram bucket. */
+    public static final int MAX_RUN = 16;
+
+    private static final long DEFAULT_PIECES = 200_000_000L;
+    private static final long DEFAULT_SEED = 2042L;
+    // Pieces drawn by one task; tasks are spread over the common fork-join pool
+    private static final long SHARD_PIECES = 4_000_000L;
+
+    /**
+     * Counts gathered from one or more independent piece sequences.
+     */
+    public static final class Report {
+
+        private final long[] counts = new long[ShapeTable.TYPE_COUNT];
+        private final long[] runLengths = new long[MAX_RUN + 1];
+        private final long[] longestDrought = new long[ShapeTable.TYPE_COUNT];
+        private int longestRun;
+        private long pieces;
+
+        // Adds the other report into this one; only ever called on a task's own report
+        private Report merge(Report other) {
+            for (int type = 0; type < ShapeTable.TYPE_COUNT; type++) {
+                counts[type] += other.counts[type];
+                longestDrought[type] = Math.max(longestDrought[type], other.longestDrought[type]);
+            }
+            for (int length = 0; length <= MAX_RUN; length++) {
+                runLengths[length] += other.runLengths[length];
+            }
+            longestRun = Math.max(longestRun, other.longestRun);
+            pieces += other.pieces;
+            return this;
+        }
+
+        public long getPieces() {
+            return pieces;
+        }
+
+        public long getCount(int type) {
+            return counts[type];
+        }
+
+        /**
+         * Gets how many maximal runs of one type had the given length; the last bucket
+         * counts every run of {@value #MAX_RUN} or more.
+         */
+        public long getRunCount(int length) {
+            return runLengths[Math.min(length, MAX_RUN)];
+        }
+
+        public int getLongestRun() {
+            return longestRun;
+        }
+
+        /**
+         * Gets the most pieces dealt in a row without the given type.
+         */
+        public long getLongestDrought(int type) {
+            return longestDrought[type];
+        }
+
+        /**
+         * Computes Pearson's chi-square statistic of the type counts against the weights.
+         *
+         * @param weights The declared weight of every type
+         * @return The chi-square statistic, with {@code TYPE_COUNT - 1} degrees of freedom
+         */
+        public double chiSquare(int[] weights) {
+            double totalWeight = Arrays.stream(weights).sum();
+            double statistic = 0;
+            for (int type = 0; type < ShapeTable.TYPE_COUNT; type++) {
+                double expected = pieces * weights[type] / totalWeight;
+                double difference = counts[type] - expected;
+                statistic += difference * difference / expected;
+            }
+            return statistic;
+        }
+
+        /**
+         * Formats the report as a table for the console.
+         *
+         * @param weights The declared weight of every type
+         * @return The report text
+         */
+        public String format(int[] weights) {
+            double totalWeight = Arrays.stream(weights).sum();
+            StringBuilder text = new StringBuilder();
+            text.append(String.format(Locale.ROOT, "%,d pieces%n", pieces));
+            text.append(String.format(Locale.ROOT, "  type   observed   expected   deviation   longest drought%n"));
+            for (int type = 0; type < ShapeTable.TYPE_COUNT; type++) {
+                double observed = counts[type] / (double) pieces;
+                double expected = weights[type] / totalWeight;
+                text.append(String.format(Locale.ROOT, "  %-4s  %8.5f%%  %8.5f%%  %+9.4f%%   %,d%n",
+                        TYPE_NAMES[type], observed * 100, expected * 100, (observed / expected - 1) * 100,
+                        longestDrought[type]));
+            }
+            double statistic = chiSquare(weights);
+            text.append(String.format(Locale.ROOT, "  chi-square %.2f (df %d), p = %.4g%n",
+                    statistic, ShapeTable.TYPE_COUNT - 1, chiSquarePValue(statistic, ShapeTable.TYPE_COUNT - 1)));
+            text.append("  runs:");
+            for (int length = 1; length <= MAX_RUN; length++) {
+                if (runLengths[length] > 0) {
+                    text.append(' ').append(length).append(length == MAX_RUN ? "+=" : "=").append(runLengths[length]);
+                }
+            }
+            text.append(String.format(Locale.ROOT, "%n  longest run %d%n", longestRun));
+            return text.toString();
+        }
+    }
+
+    private static final String[] TYPE_NAMES = {"I", "J", "L", "O", "S", "T", "Z"};
+    private static final int[] WEIGHTED = {6, 4, 4, 4, 4, 4, 4};
+    private static final int[] UNIFORM = {1, 1, 1, 1, 1, 1, 1};
+
+    //We don't want to instantiate this utility class
+    private RandomizerVerifier() {
+    }
+
+    /**
+     * Draws pieces from independent generators in parallel and merges their counts.
+     * Each task gets its own generator from the factory, so generators are never shared
+     * between threads; runs and droughts are counted within each task's sequence.
+     * The tasks' seeds are drawn from the seed up front, so results repeat for a given seed.
+     *
+     * @param generators Creates the generator of a task from the task's seed
+     * @param pieces The total number of pieces to draw
+     * @param seed The seed the task seeds are drawn from
+     * @return The merged report
+     * @throws IllegalArgumentException if a generator deals a brick that is not a standard piece
+     */
+    public static Report verify(LongFunction<? extends BrickGenerator> generators,
+                                long pieces, long seed) {
+        int shards = (int) Math.max(1, (pieces + SHARD_PIECES - 1) / SHARD_PIECES);
+        SplittableRandom root = new SplittableRandom(seed);
+        long[] seeds = new long[shards];
+        for (int shard = 0; shard < shards; shard++) {
+            seeds[shard] = root.nextLong();
+        }
+        return IntStream.range(0, shards).parallel()
+                .mapToObj(shard -> {
+                    long first = shard * pieces / shards;
+                    long last = (shard + 1) * pieces / shards;
+                    return draw(generators.apply(seeds[shard]), last - first);
+                })
+                .reduce(Report::merge)
+                .orElseGet(Report::new);
+    }
+
+    private static Report draw(BrickGenerator generator, long pieces) {
+        Report report = new Report();
+        long[] lastSeen = new long[ShapeTable.TYPE_COUNT];
+        Arrays.fill(lastSeen, -1);
+        int runType = -1;
+        int run = 0;
+        for (long i = 0; i < pieces; i++) {
+            int type = generator.getBrick().getTypeId();
+            if (type < 0) {
+                throw new IllegalArgumentException("Generator dealt a brick that is not a standard piece");
+            }
+            report.counts[type]++;
+            report.longestDrought[type] = Math.max(report.longestDrought[type], i - lastSeen[type] - 1);
+            lastSeen[type] = i;
+            if (type == runType) {
+                run++;
+            } else {
+                if (run > 0) {
+                    report.runLengths[Math.min(run, MAX_RUN)]++;
+                }
+                runType = type;
+                run = 1;
+            }
+            report.longestRun = Math.max(report.longestRun, run);
+        }
+        if (run > 0) {
+            report.runLengths[Math.min(run, MAX_RUN)]++;
+        }
+        // Types still missing at the end of the sequence are in a drought too
+        for (int type = 0; type < ShapeTable.TYPE_COUNT; type++) {
+            report.longestDrought[type] = Math.max(report.longestDrought[type], pieces - lastSeen[type] - 1);
+        }
+        report.pieces = pieces;
+        return report;
+    }
+
+    /**
+     * Approximates the upper tail probability of a chi-square statistic with the
+     * Wilson-Hilferty transform, accurate to a few digits for the sizes used here.
+     *
+     * @param statistic The chi-square statistic
+     * @param degrees The degrees of freedom
+     * @return The probability of a statistic at least this large under the declared weights
+     */
+    public static double chiSquarePValue(double statistic, int degrees) {
+        double k = degrees;
+        double z = (Math.cbrt(statistic / k) - (1 - 2 / (9 * k))) / Math.sqrt(2 / (9 * k));
+        return 0.5 * erfc(z / Math.sqrt(2));
+    }
+
+    /**
+     * Complementary error function (Numerical Recipes erfcc, fractional error below 1.2e-7).
+     */
+    private static double erfc(double x) {
+        double z = Math.abs(x);
+        double t = 1 / (1 + 0.5 * z);
+        double r = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? r : 2 - r;
+    }
+
+    /**
+     * Gets the declared weights of a randomizer type: the weighted rule favours the I-piece,
+     * the others deal every type equally often.
+     */
+    static int[] declaredWeights(RandomizerType type) {
+        return type == RandomizerType.WEIGHTED ? WEIGHTED.clone() : UNIFORM.clone();
+    }
+
+    public static void main(String[] args) {
+        long pieces = args.length > 0 ? Long.parseLong(args[0].replace("_", "")) : DEFAULT_PIECES;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SEED;
+        RandomizerType[] types = args.length > 2
+                ? Arrays.stream(args, 2, args.length).map(RandomizerType::valueOf).toArray(RandomizerType[]::new)
+                : RandomizerType.values();
+
+        System.out.printf(Locale.ROOT, "%d threads, seed %d%n", Runtime.getRuntime().availableProcessors(), seed);
+        for (RandomizerType type : types) {
+            long start = System.nanoTime();
+            Report report = verify(taskSeed -> new RandomBrickGenerator(type.create(), taskSeed), pieces, seed);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf(Locale.ROOT, "%n%s (%.1f M pieces/s)%n", type, pieces / seconds / 1e6);
+            System.out.print(report.format(declaredWeights(type)));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * JUnit tests for ShapeTable and PieceShape.
+ * Tests the precomputed rotation data shared by all bricks.
+ */
+public class ShapeTableTest {
+
+    @Test
+    void testRotationCounts() {
+        assertEquals(2, ShapeTable.rotationCount(ShapeTable.I), "I piece has two rotations");
+        assertEquals(4, ShapeTable.rotationCount(ShapeTable.J), "J piece has four rotations");
+        assertEquals(4, ShapeTable.rotationCount(ShapeTable.L), "L piece has four rotations");
+        assertEquals(1, ShapeTable.rotationCount(ShapeTable.O), "O piece has one rotation");
+        assertEquals(2, ShapeTable.rotationCount(ShapeTable.S), "S piece has two rotations");
+        assertEquals(4, ShapeTable.rotationCount(ShapeTable.T), "T piece has four rotations");
+        assertEquals(2, ShapeTable.rotationCount(ShapeTable.Z), "Z piece has two rotations");
+    }
+
+    @Test
+    void testEveryShapeHasFourCellsOfItsColor() {
+        for (int type = 0; type < ShapeTable.TYPE_COUNT; type++) {
+            for (int rotation = 0; rotation < ShapeTable.rotationCount(type); rotation++) {
+                PieceShape shape = ShapeTable.get(type, rotation);
+                assertEquals(4, shape.getCellCount(), "Every tetromino has four cells");
+                assertEquals(4, Integer.bitCount(shape.getMask()), "Packed mask should have four bits");
+                assertEquals(type + 1, shape.getColor(), "Color should be the type index plus one");
+                for (int cell = 0; cell < shape.getCellCount(); cell++) {
+                    int row = shape.getCellRow(cell);
+                    int col = shape.getCellCol(cell);
+                    assertEquals(type + 1, shape.getMatrix()[row][col], "Cell list should match the matrix");
+                    assertTrue((shape.getRowBits(row) & (1 << col)) != 0, "Row bits should match the matrix");
+                }
+            }
+        }
+    }
+
+    @Test
+    void testPackedMaskLayout() {
+        PieceShape flatI = ShapeTable.get(ShapeTable.I, 0);
+        assertEquals(0x00F0, flatI.getMask(), "Flat I occupies shape row 1");
+        assertEquals(0b1111, flatI.getRowBits(1), "Row bits of the flat I");
+        assertEquals(1, flatI.getMinRow(), "Flat I top row");
+        assertEquals(1, flatI.getMaxRow(), "Flat I bottom row");
+        assertEquals(0, flatI.getMinCol(), "Flat I left column");
+        assertEquals(3, flatI.getMaxCol(), "Flat I right column");
+    }
+
+    @Test
+    void testRotationsAreSharedNotCopied() {
+        Brick first = new TBrick();
+        Brick second = new TBrick();
+        assertSame(first.getRotations(), second.getRotations(), "Bricks of a type should share the table entry");
+        assertSame(ShapeTable.get(ShapeTable.T, 0), first.getRotations().get(0), "Rotations come from the table");
+        assertEquals(ShapeTable.T, first.getTypeId(), "Type id should match the table index");
+    }
+
+    @Test
+    void testRotationsAreUnmodifiable() {
+        List<PieceShape> rotations = ShapeTable.rotations(ShapeTable.L);
+        assertThrows(UnsupportedOperationException.class, () -> rotations.set(0, null),
+                "Shared rotation lists must not be modifiable");
+    }
+
+    @Test
+    void testShapeMatrixIsDefensiveCopy() {
+        Brick brick = new IBrick();
+        int[][] copy = brick.getShapeMatrix().get(0);
+        copy[1][0] = 99;
+        assertEquals(1, ShapeTable.get(ShapeTable.I, 0).getMatrix()[1][0],
+                "Changing a getShapeMatrix() result must not affect the table");
+    }
+
+    @Test
+    void testPieceShapeRejectsLargeMatrix() {
+        assertThrows(IllegalArgumentException.class, () -> PieceShape.of(new int[5][4]),
+                "Shapes taller than four rows are not supported");
+    }
+}
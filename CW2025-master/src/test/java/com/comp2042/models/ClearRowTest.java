@@ -11,18 +11,11 @@ import static org.junit.jupiter.api.Assertions.*;
 public class ClearRowTest {
     
     private ClearRow clearRow;
-    private int[][] testMatrix;
     
     @BeforeEach
     void setUp() {
-        // Create a test matrix
-        testMatrix = new int[][] {
-            {0, 0, 0, 0},
-            {1, 1, 1, 1},
-            {0, 1, 0, 1},
-            {1, 1, 1, 1}
-        };
-        clearRow = new ClearRow(2, testMatrix, 800); // 2 lines cleared, test matrix, 800 points bonus
+        // Rows 1 and 3 of a 4-row board cleared, 800 points bonus
+        clearRow = new ClearRow(2, 0, 0b1010L, 800);
     }
     
     @Test
@@ -30,59 +23,50 @@ public class ClearRowTest {
         assertNotNull(clearRow, "ClearRow should be initialized");
         assertEquals(2, clearRow.getLinesRemoved(), "Lines removed should match constructor parameter");
         assertEquals(800, clearRow.getScoreBonus(), "Score bonus should match constructor parameter");
-        assertNotNull(clearRow.getNewMatrix(), "New matrix should not be null");
+        assertEquals(1, clearRow.getFirstClearedRow(), "First cleared row should be the topmost set bit");
     }
     
     @Test
     void testZeroLinesCleared() {
-        int[][] emptyMatrix = new int[4][4];
-        ClearRow noLines = new ClearRow(0, emptyMatrix, 0);
+        ClearRow noLines = new ClearRow(0, 0, 0L, 0);
         assertEquals(0, noLines.getLinesRemoved(), "Should handle zero lines cleared");
         assertEquals(0, noLines.getScoreBonus(), "Should handle zero score bonus");
-        assertNotNull(noLines.getNewMatrix(), "Matrix should not be null even with zero lines");
+        assertEquals(0L, noLines.getClearedRowMask(), "No rows should be marked with zero lines");
+        assertEquals(0, ClearRow.NONE.getLinesRemoved(), "Shared empty result should clear nothing");
     }
     
     @Test
     void testSingleLineCleared() {
-        int[][] singleMatrix = new int[4][4];
-        ClearRow singleLine = new ClearRow(1, singleMatrix, 100);
+        ClearRow singleLine = new ClearRow(1, 19, 1L, 100);
         assertEquals(1, singleLine.getLinesRemoved(), "Should handle single line cleared");
         assertEquals(100, singleLine.getScoreBonus(), "Should handle single line score bonus");
+        assertTrue(singleLine.isRowCleared(19), "Cleared row should be marked");
     }
     
     @Test
     void testMultipleLinesCleared() {
-        int[][] multiMatrix = new int[4][4];
-        ClearRow multipleLines = new ClearRow(4, multiMatrix, 1200); // Tetris (4 lines)
+        ClearRow multipleLines = new ClearRow(4, 16, 0b1111L, 1200); // Tetris (4 lines)
         assertEquals(4, multipleLines.getLinesRemoved(), "Should handle multiple lines cleared");
         assertEquals(1200, multipleLines.getScoreBonus(), "Should handle multiple lines score bonus");
     }
     
     @Test
-    void testGetNewMatrix() {
-        int[][] newMatrix = clearRow.getNewMatrix();
-        assertNotNull(newMatrix, "New matrix should not be null");
-        assertEquals(testMatrix.length, newMatrix.length, "Matrix should have same dimensions");
-        
-        // Verify it's a copy (modifying returned matrix doesn't affect internal state)
-        newMatrix[0][0] = 999;
-        int[][] anotherCopy = clearRow.getNewMatrix();
-        assertNotEquals(999, anotherCopy[0][0], "Should return a copy, not reference to internal matrix");
+    void testClearedRowMask() {
+        assertTrue(clearRow.isRowCleared(1), "Row 1 should be cleared");
+        assertTrue(clearRow.isRowCleared(3), "Row 3 should be cleared");
+        assertFalse(clearRow.isRowCleared(0), "Row 0 should not be cleared");
+        assertFalse(clearRow.isRowCleared(2), "Row 2 should not be cleared");
+        assertFalse(clearRow.isRowCleared(-1), "Rows outside the board should not be cleared");
+        assertFalse(clearRow.isRowCleared(100), "Rows outside the mask should not be cleared");
     }
     
     @Test
-    void testMatrixCopyIntegrity() {
-        // Test that the matrix is properly copied
-        int[][] retrievedMatrix = clearRow.getNewMatrix();
-        
-        // Verify dimensions
-        assertEquals(testMatrix.length, retrievedMatrix.length, "Matrix row count should match");
-        assertEquals(testMatrix[0].length, retrievedMatrix[0].length, "Matrix column count should match");
-        
-        // Verify content (should be a proper copy)
-        for (int i = 0; i < testMatrix.length; i++) {
-            assertArrayEquals(testMatrix[i], retrievedMatrix[i], "Row " + i + " should match original");
-        }
+    void testMaskAnchoredAtFirstClearedRow() {
+        // The same rows given from a different offset should give the same result
+        ClearRow shifted = new ClearRow(2, -4, 0b1010L << 4, 800);
+        assertEquals(clearRow.getFirstClearedRow(), shifted.getFirstClearedRow(), "First row should not depend on the offset");
+        assertEquals(clearRow.getClearedRowMask(), shifted.getClearedRowMask(), "Mask should start at the first cleared row");
+        assertEquals(0b101L, clearRow.getClearedRowMask(), "Bit 0 should be the first cleared row");
     }
     
     @Test
@@ -120,40 +104,19 @@ public class ClearRowTest {
     
     @Test
     void testLargeValues() {
-        int[][] largeMatrix = new int[10][10];
-        ClearRow largeValues = new ClearRow(Integer.MAX_VALUE, largeMatrix, Integer.MAX_VALUE);
+        ClearRow largeValues = new ClearRow(Integer.MAX_VALUE, 0, -1L, Integer.MAX_VALUE);
         assertEquals(Integer.MAX_VALUE, largeValues.getLinesRemoved(), "Should handle large line count");
         assertEquals(Integer.MAX_VALUE, largeValues.getScoreBonus(), "Should handle large score bonus");
-        assertNotNull(largeValues.getNewMatrix(), "Should handle large matrix");
-    }
-    
-    @Test
-    void testNullMatrix() {
-        // Test with null matrix (should this be allowed?)
-        try {
-            ClearRow nullMatrix = new ClearRow(1, null, 100);
-            // If constructor accepts null, getNewMatrix() should handle it gracefully
-            int[][] matrix = nullMatrix.getNewMatrix();
-            // Either null or empty matrix is acceptable
-            assertTrue(matrix == null || matrix.length == 0, "Null matrix should be handled gracefully");
-        } catch (Exception e) {
-            // It's acceptable for constructor to throw exception with null matrix
-            assertTrue(true, "Exception with null matrix is acceptable");
-        }
+        assertTrue(largeValues.isRowCleared(63), "Should handle a full mask");
     }
     
     @Test
     void testTypicalTetrisScoring() {
         // Test typical Tetris scoring scenarios
-        int[][] matrix1 = new int[4][4];
-        int[][] matrix2 = new int[4][4];
-        int[][] matrix3 = new int[4][4];
-        int[][] matrix4 = new int[4][4];
-        
-        ClearRow single = new ClearRow(1, matrix1, 100);    // Single line
-        ClearRow double_ = new ClearRow(2, matrix2, 300);   // Double lines
-        ClearRow triple = new ClearRow(3, matrix3, 500);    // Triple lines
-        ClearRow tetris = new ClearRow(4, matrix4, 800);    // Tetris (4 lines)
+        ClearRow single = new ClearRow(1, 0, 0b1L, 100);        // Single line
+        ClearRow double_ = new ClearRow(2, 0, 0b11L, 300);      // Double lines
+        ClearRow triple = new ClearRow(3, 0, 0b111L, 500);      // Triple lines
+        ClearRow tetris = new ClearRow(4, 0, 0b1111L, 800);     // Tetris (4 lines)
         
         assertEquals(1, single.getLinesRemoved(), "Single line clear");
         assertEquals(2, double_.getLinesRemoved(), "Double line clear");
@@ -168,14 +131,11 @@ public class ClearRowTest {
     @Test
     void testBoundaryValues() {
         // Test boundary values for Tetris game
-        int[][] maxMatrix = new int[4][4];
-        int[][] minMatrix = new int[4][4];
-        
-        ClearRow maxLines = new ClearRow(4, maxMatrix, Integer.MAX_VALUE); // Maximum possible lines in Tetris
+        ClearRow maxLines = new ClearRow(4, 0, 0b1111L, Integer.MAX_VALUE); // Maximum possible lines in Tetris
         assertEquals(4, maxLines.getLinesRemoved(), "Should handle maximum Tetris lines");
         assertEquals(Integer.MAX_VALUE, maxLines.getScoreBonus(), "Should handle maximum score bonus");
         
-        ClearRow minLines = new ClearRow(0, minMatrix, 0); // No lines cleared
+        ClearRow minLines = new ClearRow(0, 0, 0L, 0); // No lines cleared
         assertEquals(0, minLines.getLinesRemoved(), "Should handle no lines cleared");
         assertEquals(0, minLines.getScoreBonus(), "Should handle no score bonus");
     }
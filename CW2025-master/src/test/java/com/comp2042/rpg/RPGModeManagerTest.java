@@ -0,0 +1,45 @@
+package com.comp2042.rpg;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * JUnit tests for RPGModeManager.
+ * Tests the seeded level-up ability offers.
+ */
+public class RPGModeManagerTest {
+    
+    private RPGModeManager rpgModeManager;
+    
+    @BeforeEach
+    void setUp() {
+        rpgModeManager = new RPGModeManager();
+        rpgModeManager.reset(new SplittableRandom(5L));
+    }
+    
+    @Test
+    void testOffersAreDistinct() {
+        for (int i = 0; i < 100; i++) {
+            String[] offers = rpgModeManager.drawLevelUpOffers();
+            assertEquals(RPGModeManager.LEVEL_UP_OFFERS, offers.length, "Three abilities should be offered");
+            assertEquals(offers.length, Arrays.stream(offers).distinct().count(), "Offers should not repeat");
+        }
+    }
+    
+    @Test
+    void testSameStreamOffersSameAbilities() {
+        RPGModeManager other = new RPGModeManager();
+        other.reset(new SplittableRandom(5L));
+        for (int i = 0; i < 20; i++) {
+            assertArrayEquals(rpgModeManager.drawLevelUpOffers(), other.drawLevelUpOffers(),
+                    "Equal streams should offer equal abilities");
+        }
+        rpgModeManager.setRpgLevel(7);
+        rpgModeManager.reset(new SplittableRandom(5L));
+        assertEquals(1, rpgModeManager.getRpgLevel(), "Reset should restart the level");
+    }
+}
@@ -263,5 +263,21 @@ public class AbilityManagerTest {
         }
         assertEquals(4, filledSlots, "All 4 slots should be filled");
     }
+    
+    @Test
+    void testResetClearsChargesAndSlots() {
+        abilityManager.incrementColorBombCharges();
+        abilityManager.incrementSlowTimeCharges();
+        abilityManager.assignAbilityToSlot(AbilityType.COLOR_BOMB);
+        AbilityType[] slots = abilityManager.getAbilitySlots();
+        
+        abilityManager.reset();
+        
+        assertEquals(0, abilityManager.getColorBombCharges(), "Charges should be cleared");
+        assertEquals(0, abilityManager.getSlowTimeCharges(), "Charges should be cleared");
+        assertSame(slots, abilityManager.getAbilitySlots(), "Slots should be reset in place");
+        for (int i = 0; i < slots.length; i++) {
+            assertEquals(AbilityType.NONE, slots[i], "Slot " + i + " should be NONE after a reset");
+        }
+    }
 }
-
@@ -154,7 +154,7 @@ public class MatrixOperationsTest {
     }
     
     @Test
-    void testCheckRemovingNoLines() {
+    void testClearFullRowsInPlaceNoLines() {
         // Create a matrix with no complete lines
         int[][] matrix = {
             {0, 0, 0, 0},
@@ -163,14 +163,17 @@ public class MatrixOperationsTest {
             {1, 1, 1, 0}
         };
         
-        ClearRow result = MatrixOperations.checkRemoving(matrix);
+        int[][] original = MatrixOperations.copy(matrix);
+        
+        ClearRow result = MatrixOperations.clearFullRowsInPlace(matrix);
         
         assertNotNull(result, "ClearRow result should not be null");
         assertEquals(0, result.getLinesRemoved(), "No lines should be removed");
+        assertArrayEquals(original, matrix, "A matrix without full rows should be left as it was");
     }
     
     @Test
-    void testCheckRemovingWithCompleteLines() {
+    void testClearFullRowsInPlaceWithCompleteLines() {
         // Create a matrix with complete lines
         int[][] matrix = {
             {0, 0, 0, 0},
@@ -179,11 +182,32 @@ public class MatrixOperationsTest {
             {1, 1, 1, 1}  // Complete line
         };
         
-        ClearRow result = MatrixOperations.checkRemoving(matrix);
+        ClearRow result = MatrixOperations.clearFullRowsInPlace(matrix);
         
         assertNotNull(result, "ClearRow result should not be null");
         assertEquals(2, result.getLinesRemoved(), "Two complete lines should be detected");
         assertTrue(result.getScoreBonus() > 0, "Score bonus should be positive for cleared lines");
+        assertTrue(result.isRowCleared(1) && result.isRowCleared(3), "Full rows should be marked as cleared");
+        assertFalse(result.isRowCleared(2), "Partial row should not be marked as cleared");
+    }
+    
+    @Test
+    void testClearFullRowsInPlaceModifiesMatrix() {
+        int[][] matrix = {
+            {0, 0, 0, 0},
+            {1, 1, 1, 1},
+            {2, 0, 2, 0},
+            {1, 1, 1, 1}
+        };
+        int[] partialRow = matrix[2];
+        
+        MatrixOperations.clearFullRowsInPlace(matrix);
+        
+        assertSame(partialRow, matrix[3], "Remaining rows should be moved, not copied");
+        assertArrayEquals(new int[] {2, 0, 2, 0}, matrix[3], "Partial row should drop to the bottom");
+        for (int row = 0; row < 3; row++) {
+            assertArrayEquals(new int[4], matrix[row], "Rows above should be empty after the clear");
+        }
     }
     
     @Test